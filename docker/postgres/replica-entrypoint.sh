@@ -0,0 +1,17 @@
+#!/bin/sh
+# Réplica de streaming do serviço postgres: na primeira execução copia o primário com pg_basebackup
+# (-R grava standby.signal e primary_conninfo) e depois sobe o servidor em modo somente leitura
+set -e
+
+if [ ! -s "$PGDATA/PG_VERSION" ]; then
+  until pg_isready -h postgres -U postgres; do
+    sleep 1
+  done
+  mkdir -p "$PGDATA"
+  chown postgres:postgres "$PGDATA"
+  chmod 700 "$PGDATA"
+  su-exec postgres env PGPASSWORD=replicator \
+    pg_basebackup -h postgres -U replicator -D "$PGDATA" -R -X stream
+fi
+
+exec docker-entrypoint.sh postgres
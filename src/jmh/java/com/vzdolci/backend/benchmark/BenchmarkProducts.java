@@ -0,0 +1,62 @@
+package com.vzdolci.backend.benchmark;
+
+import com.vzdolci.backend.domain.model.Product;
+import com.vzdolci.backend.infrastructure.persistence.entity.ProductEntity;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Deterministic product fixtures shaped like the real catalog (Portuguese text, emoji, cent prices).
+ */
+final class BenchmarkProducts {
+
+    private static final OffsetDateTime BASE_TIME = OffsetDateTime.of(2024, 1, 1, 12, 0, 0, 0, ZoneOffset.UTC);
+
+    private BenchmarkProducts() {
+    }
+
+    static List<Product> products(int count) {
+        List<Product> products = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            products.add(product(i));
+        }
+        return products;
+    }
+
+    static Product product(long id) {
+        return new Product(
+            id,
+            "Panna Cotta Clássica " + id,
+            "Sobremesa italiana cremosa com calda de frutas vermelhas",
+            BigDecimal.valueOf(1500 + id % 2000).movePointLeft(2),
+            "Creme de leite, açúcar, baunilha, gelatina",
+            "Inspirada na tradição piemontesa",
+            "🍮",
+            "panna-cotta-classica-" + id,
+            id % 10 != 0,
+            BASE_TIME.plusMinutes(id),
+            BASE_TIME.plusMinutes(id)
+        );
+    }
+
+    static ProductEntity entity(long id) {
+        Product product = product(id);
+        ProductEntity entity = new ProductEntity();
+        entity.setId(product.getId());
+        entity.setName(product.getName());
+        entity.setDescription(product.getDescription());
+        entity.setPriceCents(product.getPrice().movePointRight(2).intValueExact());
+        entity.setIngredients(product.getIngredients());
+        entity.setStory(product.getStory());
+        entity.setEmoji(product.getEmoji());
+        entity.setSlug(product.getSlug());
+        entity.setIsActive(product.getIsActive());
+        entity.setCreatedAt(product.getCreatedAt());
+        entity.setUpdatedAt(product.getUpdatedAt());
+        return entity;
+    }
+}
@@ -0,0 +1,121 @@
+package com.vzdolci.backend.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.vzdolci.backend.application.coalescing.SingleFlight;
+import com.vzdolci.backend.application.index.ProductSlugIndex;
+import com.vzdolci.backend.application.query.ProductCatalogQuery;
+import com.vzdolci.backend.application.search.ProductSearchIndex;
+import com.vzdolci.backend.application.usecase.ExportProductsUseCase;
+import com.vzdolci.backend.application.usecase.GetAllProductsUseCase;
+import com.vzdolci.backend.application.usecase.GetCatalogVersionUseCase;
+import com.vzdolci.backend.application.usecase.GetProductChangesUseCase;
+import com.vzdolci.backend.application.usecase.GetProductByIdUseCase;
+import com.vzdolci.backend.application.usecase.GetProductBySlugUseCase;
+import com.vzdolci.backend.application.usecase.GetProductPageUseCase;
+import com.vzdolci.backend.application.usecase.GetProductsByIdsUseCase;
+import com.vzdolci.backend.application.usecase.QueryProductsUseCase;
+import com.vzdolci.backend.application.usecase.SearchProductsUseCase;
+import com.vzdolci.backend.domain.repository.ProductRepository;
+import com.vzdolci.backend.infrastructure.config.HttpCacheProperties;
+import com.vzdolci.backend.web.controller.ProductController;
+import com.vzdolci.backend.web.http.HttpCachePolicies;
+import com.vzdolci.backend.web.snapshot.ResponseSnapshotCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full GET /api/v1/products path, from ProductController through GetAllProductsUseCase to an in-memory
+ * repository: a cold render (use case, DTO mapping, Jackson, gzip), a warm snapshot hit and a 304.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CatalogReadPathBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    public int size;
+
+    private ProductController controller;
+    private ResponseSnapshotCache snapshotCache;
+    private WebRequest identityRequest;
+    private WebRequest gzipRequest;
+    private WebRequest conditionalRequest;
+
+    @Setup
+    public void setUp() {
+        ProductRepository repository = new InMemoryProductRepository(BenchmarkProducts.products(size));
+        ObjectMapper objectMapper = JsonMapper.builder()
+                .findAndAddModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        snapshotCache = new ResponseSnapshotCache(objectMapper, new SimpleMeterRegistry());
+        controller = new ProductController(
+                new GetAllProductsUseCase(repository, new SingleFlight<>("product-list")),
+                new GetProductByIdUseCase(repository, new SingleFlight<>("product-by-id")),
+                new GetProductPageUseCase(repository),
+                new GetProductBySlugUseCase(new ProductSlugIndex(repository)),
+                new GetProductsByIdsUseCase(repository),
+                new GetCatalogVersionUseCase(repository, new SingleFlight<>("catalog-version"),
+                        new SingleFlight<>("product-version")),
+                new SearchProductsUseCase(new ProductSearchIndex(repository)),
+                new QueryProductsUseCase(new ProductCatalogQuery(repository, Duration.ZERO)),
+                new GetProductChangesUseCase(repository, Duration.ZERO),
+                new ExportProductsUseCase(new EmptyProductJsonExporter(), 1, Duration.ZERO),
+                new HttpCachePolicies(new HttpCacheProperties()),
+                snapshotCache);
+
+        identityRequest = request(null, null);
+        gzipRequest = request("gzip", null);
+        String etag = controller.getAllProducts(false, identityRequest).getHeaders().getETag();
+        conditionalRequest = request(null, etag);
+    }
+
+    @Benchmark
+    public ResponseEntity<byte[]> renderSnapshot() {
+        snapshotCache.clear();
+        return controller.getAllProducts(false, identityRequest);
+    }
+
+    @Benchmark
+    public ResponseEntity<byte[]> snapshotHit() {
+        return controller.getAllProducts(false, identityRequest);
+    }
+
+    @Benchmark
+    public ResponseEntity<byte[]> snapshotHitGzip() {
+        return controller.getAllProducts(false, gzipRequest);
+    }
+
+    @Benchmark
+    public ResponseEntity<byte[]> notModified() {
+        return controller.getAllProducts(false, conditionalRequest);
+    }
+
+    private static WebRequest request(String acceptEncoding, String ifNoneMatch) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/products");
+        if (acceptEncoding != null) {
+            request.addHeader(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+        }
+        if (ifNoneMatch != null) {
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        return new ServletWebRequest(request);
+    }
+}
@@ -0,0 +1,23 @@
+package com.vzdolci.backend.benchmark;
+
+import com.vzdolci.backend.application.export.ProductJsonExporter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * ProductJsonExporter that writes an empty listing. The streaming export reads from a database cursor,
+ * which the in-memory benchmarks do not have, so it only stands in for the controller's dependency.
+ */
+final class EmptyProductJsonExporter implements ProductJsonExporter {
+
+    private static final byte[] EMPTY_ARRAY = "[]".getBytes(StandardCharsets.US_ASCII);
+
+    @Override
+    public long writeAll(boolean activeOnly, OutputStream out) throws IOException {
+        out.write(EMPTY_ARRAY);
+        out.flush();
+        return 0;
+    }
+}
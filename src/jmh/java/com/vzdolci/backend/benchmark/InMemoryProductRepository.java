@@ -0,0 +1,112 @@
+package com.vzdolci.backend.benchmark;
+
+import com.vzdolci.backend.domain.model.CatalogVersion;
+import com.vzdolci.backend.domain.model.Product;
+import com.vzdolci.backend.domain.model.ProductChangeSet;
+import com.vzdolci.backend.domain.model.ProductSummary;
+import com.vzdolci.backend.domain.repository.ProductPageQuery;
+import com.vzdolci.backend.domain.repository.ProductRepository;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Read-only ProductRepository over a fixed list, so that benchmarks measure the application and web
+ * layers without any database or cache in the way.
+ */
+final class InMemoryProductRepository implements ProductRepository {
+
+    private final List<Product> all;
+    private final List<Product> active;
+    private final Map<Long, Product> byId;
+    private final CatalogVersion allVersion;
+    private final CatalogVersion activeVersion;
+
+    InMemoryProductRepository(List<Product> products) {
+        this.all = List.copyOf(products);
+        this.active = all.stream().filter(Product::getIsActive).toList();
+        this.byId = all.stream().collect(Collectors.toMap(Product::getId, Function.identity()));
+        this.allVersion = CatalogVersion.of(all);
+        this.activeVersion = CatalogVersion.of(active);
+    }
+
+    @Override
+    public List<Product> findAll() {
+        return all;
+    }
+
+    @Override
+    public List<Product> findActiveProducts() {
+        return active;
+    }
+
+    @Override
+    public Optional<Product> findById(Long id) {
+        return Optional.ofNullable(byId.get(id));
+    }
+
+    @Override
+    public List<Product> findAllByIds(Collection<Long> ids) {
+        return ids.stream().map(byId::get).filter(product -> product != null).toList();
+    }
+
+    @Override
+    public Optional<Product> findBySlug(String slug) {
+        return all.stream().filter(product -> slug.equals(product.getSlug())).findFirst();
+    }
+
+    @Override
+    public List<ProductSummary> findAllSummaries() {
+        return all.stream().map(ProductSummary::from).toList();
+    }
+
+    @Override
+    public List<ProductSummary> findActiveSummaries() {
+        return active.stream().map(ProductSummary::from).toList();
+    }
+
+    @Override
+    public Optional<ProductSummary> findSummaryById(Long id) {
+        return findById(id).map(ProductSummary::from);
+    }
+
+    @Override
+    public CatalogVersion getCatalogVersion(boolean activeOnly) {
+        return activeOnly ? activeVersion : allVersion;
+    }
+
+    @Override
+    public Optional<OffsetDateTime> findUpdatedAtById(Long id) {
+        return findById(id).map(Product::getUpdatedAt);
+    }
+
+    @Override
+    public List<Product> findPage(ProductPageQuery query) {
+        throw new UnsupportedOperationException("Not used by the benchmarks");
+    }
+
+    @Override
+    public ProductChangeSet findChangesSince(OffsetDateTime since) {
+        throw new UnsupportedOperationException("Not used by the benchmarks");
+    }
+
+    @Override
+    public Product save(Product product) {
+        throw new UnsupportedOperationException("Read-only repository");
+    }
+
+    @Override
+    public void upsertAllBySlug(List<Product> products) {
+        throw new UnsupportedOperationException("Read-only repository");
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        throw new UnsupportedOperationException("Read-only repository");
+    }
+}
@@ -0,0 +1,56 @@
+package com.vzdolci.backend.benchmark;
+
+import com.vzdolci.backend.application.mapper.ProductMapper;
+import com.vzdolci.backend.domain.model.Product;
+import com.vzdolci.backend.infrastructure.persistence.entity.ProductEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-row cost of the entity/domain mapping, including the cents → BigDecimal price conversion.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ProductMapperBenchmark {
+
+    private final ProductMapper mapper = new ProductMapper();
+    private ProductEntity entity;
+    private Product product;
+    private Integer priceCents;
+
+    @Setup
+    public void setUp() {
+        entity = BenchmarkProducts.entity(42);
+        product = BenchmarkProducts.product(42);
+        priceCents = entity.getPriceCents();
+    }
+
+    @Benchmark
+    public Product toDomain() {
+        return mapper.toDomain(entity);
+    }
+
+    @Benchmark
+    public ProductEntity toEntity() {
+        return mapper.toEntity(product);
+    }
+
+    @Benchmark
+    public BigDecimal priceFromCents() {
+        return BigDecimal.valueOf(priceCents).movePointLeft(2);
+    }
+
+    @Benchmark
+    public int priceToCents() {
+        return product.getPrice().movePointRight(2).intValueExact();
+    }
+}
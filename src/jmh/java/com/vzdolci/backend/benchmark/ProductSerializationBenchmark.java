@@ -0,0 +1,68 @@
+package com.vzdolci.backend.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.vzdolci.backend.application.dto.ProductResponse;
+import com.vzdolci.backend.domain.model.Product;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Cost of turning a product list into a JSON body: DTO mapping, Jackson serialization, and both together.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProductSerializationBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    public int size;
+
+    private ObjectMapper objectMapper;
+    private List<Product> products;
+    private List<ProductResponse> responses;
+
+    @Setup
+    public void setUp() {
+        // Same settings Spring Boot applies to its ObjectMapper
+        objectMapper = JsonMapper.builder()
+                .findAndAddModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        products = BenchmarkProducts.products(size);
+        responses = toResponses(products);
+    }
+
+    @Benchmark
+    public List<ProductResponse> fromDomain() {
+        return toResponses(products);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(responses);
+    }
+
+    @Benchmark
+    public byte[] fromDomainAndSerialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(toResponses(products));
+    }
+
+    private static List<ProductResponse> toResponses(List<Product> products) {
+        return products.stream()
+                .map(ProductResponse::fromDomain)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,115 @@
+package com.vzdolci.backend.loadtest;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The application under test, run from a jar in its own JVM so that the load generator does not
+ * compete with it for heap and GC. Output goes to a log file next to the report.
+ */
+final class ApplicationProcess implements AutoCloseable {
+
+    private final Process process;
+    private final URI baseUri;
+    private final long launchedAt;
+
+    private ApplicationProcess(Process process, URI baseUri, long launchedAt) {
+        this.process = process;
+        this.baseUri = baseUri;
+        this.launchedAt = launchedAt;
+    }
+
+    /**
+     * Launches the application and waits until its readiness probe reports it ready (after the warm-up).
+     */
+    static ApplicationProcess start(Path jar, String jvmArgs, Map<String, String> environment, Path log,
+                                    Duration startupTimeout) throws IOException, InterruptedException {
+        ApplicationProcess application = launch(jar, jvmArgs, environment, log);
+        try {
+            application.awaitSuccess("/actuator/health/readiness", startupTimeout);
+        } catch (IOException | InterruptedException | RuntimeException ex) {
+            application.close();
+            throw ex;
+        }
+        return application;
+    }
+
+    /**
+     * Launches the application without waiting for it; see {@link #awaitSuccess}.
+     */
+    static ApplicationProcess launch(Path jar, String jvmArgs, Map<String, String> environment, Path log)
+            throws IOException {
+        int port = freePort();
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        if (!jvmArgs.isBlank()) {
+            command.addAll(Arrays.asList(jvmArgs.trim().split("\\s+")));
+        }
+        command.add("-jar");
+        command.add(jar.toAbsolutePath().toString());
+        
+        ProcessBuilder builder = new ProcessBuilder(command)
+                .directory(jar.toAbsolutePath().getParent().toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile());
+        builder.environment().putAll(environment);
+        builder.environment().put("PORT", String.valueOf(port));
+        
+        long launchedAt = System.nanoTime();
+        return new ApplicationProcess(builder.start(), URI.create("http://localhost:" + port), launchedAt);
+    }
+
+    URI getBaseUri() {
+        return baseUri;
+    }
+
+    /**
+     * Polls {@code path} until it answers 200 and returns the time elapsed since the process was launched.
+     */
+    Duration awaitSuccess(String path, Duration timeout) throws IOException, InterruptedException {
+        HttpClient client = HttpClient.newHttpClient();
+        HttpRequest request = HttpRequest.newBuilder(baseUri.resolve(path))
+                .timeout(Duration.ofSeconds(5))
+                .build();
+        long deadline = launchedAt + timeout.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("Application exited during startup with code " + process.exitValue());
+            }
+            try {
+                if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return Duration.ofNanos(System.nanoTime() - launchedAt);
+                }
+            } catch (IOException ex) {
+                // Not listening yet
+            }
+            Thread.sleep(10);
+        }
+        throw new IllegalStateException("Application did not answer " + path + " within " + timeout);
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        process.destroy();
+        if (!process.waitFor(30, TimeUnit.SECONDS)) {
+            process.destroyForcibly().waitFor();
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.vzdolci.backend.loadtest;
+
+/**
+ * One step of the capacity search: the scenario mix at a given total arrival rate.
+ */
+final class CapacityStep {
+
+    private final double targetRps;
+    private final double achievedRps;
+    private final double p99Millis;
+    private final double errorRate;
+    private final boolean sustained;
+
+    CapacityStep(double targetRps, double achievedRps, double p99Millis, double errorRate, boolean sustained) {
+        this.targetRps = targetRps;
+        this.achievedRps = achievedRps;
+        this.p99Millis = p99Millis;
+        this.errorRate = errorRate;
+        this.sustained = sustained;
+    }
+
+    double getTargetRps() {
+        return targetRps;
+    }
+
+    double getAchievedRps() {
+        return achievedRps;
+    }
+
+    double getP99Millis() {
+        return p99Millis;
+    }
+
+    double getErrorRate() {
+        return errorRate;
+    }
+
+    /** Within the SLO and keeping up with the offered load. */
+    boolean isSustained() {
+        return sustained;
+    }
+}
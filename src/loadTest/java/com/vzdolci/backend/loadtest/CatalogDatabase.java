@@ -0,0 +1,114 @@
+package com.vzdolci.backend.loadtest;
+
+import org.flywaydb.core.Flyway;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Throwaway PostgreSQL for the load test, with the application's own migrations applied and a generated
+ * catalog on top of the rows seeded by V1. Seeding happens before the application starts, so caches and
+ * indexes are built over the full catalog and no change notifications are in flight during the run.
+ */
+final class CatalogDatabase implements AutoCloseable {
+
+    /**
+     * Text columns sized like real products; every tenth row (by default) is inactive.
+     * chr(127856) is the cake emoji.
+     */
+    private static final String SEED_SQL = """
+            INSERT INTO public.products (name, description, price_cents, ingredients, story, emoji, slug, is_active)
+            SELECT 'Produto ' || g,
+                   repeat('Sobremesa artesanal de teste ' || g || '. ', 4),
+                   500 + (g * 37) % 9500,
+                   repeat('acucar, farinha, ovos, manteiga, ', 3),
+                   repeat('Receita de familia passada entre geracoes. ', 5),
+                   chr(127856),
+                   'produto-carga-' || g,
+                   (g % 100) >= ?
+            FROM generate_series(1, ?) AS g
+            """;
+
+    private final PostgreSQLContainer<?> container;
+
+    private CatalogDatabase(PostgreSQLContainer<?> container) {
+        this.container = container;
+    }
+
+    static CatalogDatabase start(String image) {
+        PostgreSQLContainer<?> container = new PostgreSQLContainer<>(DockerImageName.parse(image))
+                .withDatabaseName("vzdolci");
+        container.start();
+        return new CatalogDatabase(container);
+    }
+
+    void migrate(Path migrations) {
+        Flyway.configure()
+                .dataSource(getJdbcUrl(), getUsername(), getPassword())
+                .locations("filesystem:" + migrations.toAbsolutePath())
+                .load()
+                .migrate();
+    }
+
+    /**
+     * Inserts the generated products and returns the id range of the whole catalog.
+     */
+    IdRange seed(int products, int inactivePercent) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(getJdbcUrl(), getUsername(), getPassword())) {
+            try (PreparedStatement insert = connection.prepareStatement(SEED_SQL)) {
+                insert.setInt(1, inactivePercent);
+                insert.setInt(2, products);
+                insert.executeUpdate();
+            }
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("ANALYZE public.products");
+                try (ResultSet range = statement.executeQuery("SELECT min(id), max(id) FROM public.products")) {
+                    range.next();
+                    return new IdRange(range.getLong(1), range.getLong(2));
+                }
+            }
+        }
+    }
+
+    String getJdbcUrl() {
+        return container.getJdbcUrl();
+    }
+
+    String getUsername() {
+        return container.getUsername();
+    }
+
+    String getPassword() {
+        return container.getPassword();
+    }
+
+    @Override
+    public void close() {
+        container.stop();
+    }
+
+    static final class IdRange {
+        private final long min;
+        private final long max;
+
+        IdRange(long min, long max) {
+            this.min = min;
+            this.max = max;
+        }
+
+        long getMin() {
+            return min;
+        }
+
+        long getMax() {
+            return max;
+        }
+    }
+}
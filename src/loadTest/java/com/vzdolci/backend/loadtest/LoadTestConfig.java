@@ -0,0 +1,60 @@
+package com.vzdolci.backend.loadtest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Properties;
+
+/**
+ * Load test settings: defaults from {@code loadtest.properties}, overridden by {@code loadtest.*}
+ * system properties (the Gradle task forwards {@code -Ploadtest.*} project properties).
+ */
+final class LoadTestConfig {
+
+    private static final String PREFIX = "loadtest.";
+
+    private final Properties properties;
+
+    private LoadTestConfig(Properties properties) {
+        this.properties = properties;
+    }
+
+    static LoadTestConfig load() throws IOException {
+        Properties properties = new Properties();
+        try (InputStream in = LoadTestConfig.class.getResourceAsStream("/loadtest.properties")) {
+            if (in != null) {
+                properties.load(in);
+            }
+        }
+        for (String name : System.getProperties().stringPropertyNames()) {
+            if (name.startsWith(PREFIX)) {
+                properties.setProperty(name, System.getProperty(name));
+            }
+        }
+        return new LoadTestConfig(properties);
+    }
+
+    String get(String key) {
+        String value = properties.getProperty(PREFIX + key);
+        if (value == null) {
+            throw new IllegalStateException("Missing load test setting: " + PREFIX + key);
+        }
+        return value.trim();
+    }
+
+    String get(String key, String defaultValue) {
+        String value = properties.getProperty(PREFIX + key);
+        return value != null ? value.trim() : defaultValue;
+    }
+
+    int getInt(String key) {
+        return Integer.parseInt(get(key));
+    }
+
+    double getDouble(String key) {
+        return Double.parseDouble(get(key));
+    }
+
+    boolean getBoolean(String key) {
+        return Boolean.parseBoolean(get(key));
+    }
+}
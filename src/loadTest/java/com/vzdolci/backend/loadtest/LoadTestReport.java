@@ -0,0 +1,166 @@
+package com.vzdolci.backend.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Latency report and SLO verdict. Writes {@code report.txt} (human readable), {@code report.json} and one
+ * HdrHistogram percentile distribution ({@code .hgrm}, milliseconds) per scenario.
+ */
+final class LoadTestReport {
+
+    private final Map<String, ScenarioResult> scenarios;
+    private final List<CapacityStep> capacitySteps;
+    private final double sloP99Millis;
+    private final double sloP999Millis;
+    private final double sloErrorRate;
+    private final double sloMinSustainableRps;
+
+    LoadTestReport(Map<String, ScenarioResult> scenarios, List<CapacityStep> capacitySteps, LoadTestConfig config) {
+        this.scenarios = scenarios;
+        this.capacitySteps = capacitySteps;
+        this.sloP99Millis = config.getDouble("slo.p99Ms");
+        this.sloP999Millis = config.getDouble("slo.p999Ms");
+        this.sloErrorRate = config.getDouble("slo.errorRate");
+        this.sloMinSustainableRps = config.getDouble("slo.minSustainableRps");
+    }
+
+    /** Highest rate of the capacity search that stayed within the SLO, or 0 when none did or it was skipped. */
+    double getMaxSustainableRps() {
+        double max = 0;
+        for (CapacityStep step : capacitySteps) {
+            if (!step.isSustained()) {
+                break;
+            }
+            max = step.getTargetRps();
+        }
+        return max;
+    }
+
+    List<String> getViolations() {
+        List<String> violations = new ArrayList<>();
+        for (ScenarioResult result : scenarios.values()) {
+            if (result.getPercentileMillis(99) > sloP99Millis) {
+                violations.add(String.format(Locale.ROOT, "%s: p99 %.1f ms > %.1f ms",
+                        result.getName(), result.getPercentileMillis(99), sloP99Millis));
+            }
+            if (result.getPercentileMillis(99.9) > sloP999Millis) {
+                violations.add(String.format(Locale.ROOT, "%s: p99.9 %.1f ms > %.1f ms",
+                        result.getName(), result.getPercentileMillis(99.9), sloP999Millis));
+            }
+            if (result.getErrorRate() > sloErrorRate) {
+                violations.add(String.format(Locale.ROOT, "%s: error rate %.4f > %.4f",
+                        result.getName(), result.getErrorRate(), sloErrorRate));
+            }
+        }
+        if (sloMinSustainableRps > 0 && getMaxSustainableRps() < sloMinSustainableRps) {
+            violations.add(String.format(Locale.ROOT, "max sustainable rate %.0f rps < %.0f rps",
+                    getMaxSustainableRps(), sloMinSustainableRps));
+        }
+        return violations;
+    }
+
+    void write(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        Files.writeString(directory.resolve("report.txt"), toText(), StandardCharsets.UTF_8);
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(directory.resolve("report.json").toFile(), toJson());
+        for (ScenarioResult result : scenarios.values()) {
+            try (PrintStream out = new PrintStream(
+                    Files.newOutputStream(directory.resolve(result.getName() + ".hgrm")), false, StandardCharsets.UTF_8)) {
+                // Recorded in microseconds, reported in milliseconds
+                result.getLatencies().outputPercentileDistribution(out, 1000.0);
+            }
+        }
+    }
+
+    String toText() {
+        StringBuilder text = new StringBuilder();
+        text.append(String.format(Locale.ROOT, "%-16s %9s %9s %9s %9s %9s %9s %9s %8s%n",
+                "scenario", "target/s", "actual/s", "requests", "p50 ms", "p99 ms", "p99.9 ms", "max ms", "errors"));
+        for (ScenarioResult result : scenarios.values()) {
+            text.append(String.format(Locale.ROOT, "%-16s %9.1f %9.1f %9d %9.2f %9.2f %9.2f %9.2f %7.3f%%%n",
+                    result.getName(), result.getTargetRate(), result.getThroughput(), result.getRequests(),
+                    result.getPercentileMillis(50), result.getPercentileMillis(99), result.getPercentileMillis(99.9),
+                    result.getMaxMillis(), result.getErrorRate() * 100));
+        }
+        if (!capacitySteps.isEmpty()) {
+            text.append(String.format(Locale.ROOT, "%nCapacity search%n%10s %10s %9s %8s%n",
+                    "target/s", "actual/s", "p99 ms", "errors"));
+            for (CapacityStep step : capacitySteps) {
+                text.append(String.format(Locale.ROOT, "%10.0f %10.1f %9.2f %7.3f%% %s%n",
+                        step.getTargetRps(), step.getAchievedRps(), step.getP99Millis(), step.getErrorRate() * 100,
+                        step.isSustained() ? "ok" : "breached"));
+            }
+            text.append(String.format(Locale.ROOT, "Max sustainable rate: %.0f rps%n", getMaxSustainableRps()));
+        }
+        text.append(String.format(Locale.ROOT, "%nSLO: p99 <= %.1f ms, p99.9 <= %.1f ms, error rate <= %.4f%s%n",
+                sloP99Millis, sloP999Millis, sloErrorRate,
+                sloMinSustainableRps > 0 ? String.format(Locale.ROOT, ", max rate >= %.0f rps", sloMinSustainableRps) : ""));
+        List<String> violations = getViolations();
+        if (violations.isEmpty()) {
+            text.append("Result: PASS").append(System.lineSeparator());
+        } else {
+            text.append("Result: FAIL").append(System.lineSeparator());
+            violations.forEach(violation -> text.append("  ").append(violation).append(System.lineSeparator()));
+        }
+        return text.toString();
+    }
+
+    private Map<String, Object> toJson() {
+        Map<String, Object> json = new LinkedHashMap<>();
+        List<Map<String, Object>> scenarioList = new ArrayList<>();
+        for (ScenarioResult result : scenarios.values()) {
+            Map<String, Object> scenario = new LinkedHashMap<>();
+            scenario.put("name", result.getName());
+            scenario.put("targetRps", result.getTargetRate());
+            scenario.put("achievedRps", result.getThroughput());
+            scenario.put("requests", result.getRequests());
+            scenario.put("errors", result.getErrors());
+            scenario.put("failures", result.getFailures());
+            scenario.put("dropped", result.getDropped());
+            scenario.put("errorRate", result.getErrorRate());
+            scenario.put("statusCounts", result.getStatusCounts());
+            scenario.put("p50Ms", result.getPercentileMillis(50));
+            scenario.put("p99Ms", result.getPercentileMillis(99));
+            scenario.put("p999Ms", result.getPercentileMillis(99.9));
+            scenario.put("maxMs", result.getMaxMillis());
+            scenarioList.add(scenario);
+        }
+        json.put("scenarios", scenarioList);
+        
+        List<Map<String, Object>> steps = new ArrayList<>();
+        for (CapacityStep step : capacitySteps) {
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("targetRps", step.getTargetRps());
+            entry.put("achievedRps", step.getAchievedRps());
+            entry.put("p99Ms", step.getP99Millis());
+            entry.put("errorRate", step.getErrorRate());
+            entry.put("sustained", step.isSustained());
+            steps.add(entry);
+        }
+        json.put("capacitySteps", steps);
+        json.put("maxSustainableRps", getMaxSustainableRps());
+        
+        Map<String, Object> slo = new LinkedHashMap<>();
+        slo.put("p99Ms", sloP99Millis);
+        slo.put("p999Ms", sloP999Millis);
+        slo.put("errorRate", sloErrorRate);
+        slo.put("minSustainableRps", sloMinSustainableRps);
+        json.put("slo", slo);
+        json.put("violations", getViolations());
+        json.put("passed", getViolations().isEmpty());
+        return json;
+    }
+}
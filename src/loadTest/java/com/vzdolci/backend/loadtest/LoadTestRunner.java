@@ -0,0 +1,138 @@
+package com.vzdolci.backend.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * End-to-end load test, run by {@code ./gradlew loadTest}:
+ * <ol>
+ *   <li>starts PostgreSQL, applies the migrations and seeds the configured number of products;</li>
+ *   <li>starts the application jar against it;</li>
+ *   <li>runs the scenario mix at fixed arrival rates (warm-up, then the measured run);</li>
+ *   <li>searches the maximum sustainable rate by raising the mix rate step by step;</li>
+ *   <li>writes the report and exits with status 1 when an SLO is breached.</li>
+ * </ol>
+ */
+public final class LoadTestRunner {
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.load();
+        Path reportDir = Path.of(config.get("reportDir"));
+        Files.createDirectories(reportDir);
+        
+        boolean passed;
+        try (CatalogDatabase database = CatalogDatabase.start(config.get("postgresImage"))) {
+            database.migrate(Path.of(config.get("migrations")));
+            CatalogDatabase.IdRange ids = database.seed(config.getInt("products"), config.getInt("inactivePercent"));
+            log("Seeded catalog, product ids %d..%d", ids.getMin(), ids.getMax());
+            
+            Map<String, String> environment = Map.of(
+                    "SPRING_DATASOURCE_URL", database.getJdbcUrl(),
+                    "SPRING_DATASOURCE_USERNAME", database.getUsername(),
+                    "SPRING_DATASOURCE_PASSWORD", database.getPassword(),
+                    "SPRING_PROFILES_ACTIVE", config.get("profiles", ""));
+            try (ApplicationProcess application = ApplicationProcess.start(
+                    Path.of(config.get("appJar")), config.get("jvmArgs", ""), environment,
+                    reportDir.resolve("app.log"), Duration.ofSeconds(config.getInt("startupTimeoutSeconds")))) {
+                log("Application up at %s", application.getBaseUri());
+                
+                OpenModelLoadGenerator generator = new OpenModelLoadGenerator(application.getBaseUri(),
+                        Duration.ofSeconds(config.getInt("requestTimeoutSeconds")), config.getBoolean("acceptGzip"));
+                List<Scenario> scenarios = scenarios(config, ids);
+                
+                log("Warm-up for %ds", config.getInt("warmupSeconds"));
+                generator.run(scenarios, Duration.ofSeconds(config.getInt("warmupSeconds")));
+                log("Measuring for %ds", config.getInt("durationSeconds"));
+                Map<String, ScenarioResult> results = generator.run(
+                        scenarios, Duration.ofSeconds(config.getInt("durationSeconds")));
+                
+                List<CapacityStep> capacitySteps = config.getBoolean("capacity.enabled")
+                        ? searchCapacity(generator, scenarios, config)
+                        : List.of();
+                
+                LoadTestReport report = new LoadTestReport(results, capacitySteps, config);
+                report.write(reportDir);
+                System.out.println(report.toText());
+                log("Report written to %s", reportDir.toAbsolutePath());
+                passed = report.getViolations().isEmpty();
+            }
+        }
+        // After the application and the database have been shut down
+        if (!passed) {
+            System.exit(1);
+        }
+    }
+
+    private static List<Scenario> scenarios(LoadTestConfig config, CatalogDatabase.IdRange ids) {
+        long hotSetSize = Math.min(config.getInt("hotSetSize"), ids.getMax() - ids.getMin() + 1);
+        long catalogSize = ids.getMax() - ids.getMin() + 1;
+        List<Scenario> scenarios = new ArrayList<>();
+        scenarios.add(new Scenario("list", config.getDouble("rate.list"), 200,
+                () -> "/api/v1/products"));
+        scenarios.add(new Scenario("list-active", config.getDouble("rate.list-active"), 200,
+                () -> "/api/v1/products?activeOnly=true"));
+        scenarios.add(new Scenario("by-id-hot", config.getDouble("rate.by-id-hot"), 200,
+                () -> "/api/v1/products/" + (ids.getMin() + ThreadLocalRandom.current().nextLong(hotSetSize))));
+        scenarios.add(new Scenario("by-id-random", config.getDouble("rate.by-id-random"), 200,
+                () -> "/api/v1/products/" + (ids.getMin() + ThreadLocalRandom.current().nextLong(catalogSize))));
+        scenarios.add(new Scenario("not-found", config.getDouble("rate.not-found"), 404,
+                () -> "/api/v1/products/" + (ids.getMax() + 1 + ThreadLocalRandom.current().nextLong(1_000_000))));
+        return scenarios;
+    }
+
+    /**
+     * Runs the scenario mix, in its configured proportions, at geometrically increasing total rates until a
+     * step breaches the SLO or cannot keep up with the offered load.
+     */
+    private static List<CapacityStep> searchCapacity(OpenModelLoadGenerator generator, List<Scenario> scenarios,
+                                                     LoadTestConfig config) throws InterruptedException {
+        double mixRate = scenarios.stream().mapToDouble(Scenario::getRatePerSecond).sum();
+        double sloP99Millis = config.getDouble("slo.p99Ms");
+        double sloErrorRate = config.getDouble("slo.errorRate");
+        Duration stepDuration = Duration.ofSeconds(config.getInt("capacity.stepSeconds"));
+        List<CapacityStep> steps = new ArrayList<>();
+        
+        for (double rate = config.getDouble("capacity.startRps"); rate <= config.getDouble("capacity.maxRps");
+             rate *= config.getDouble("capacity.factor")) {
+            double scale = rate / mixRate;
+            List<Scenario> scaled = scenarios.stream()
+                    .map(scenario -> scenario.withRate(scenario.getRatePerSecond() * scale))
+                    .toList();
+            log("Capacity step at %.0f rps", rate);
+            Map<String, ScenarioResult> results = generator.run(scaled, stepDuration);
+            
+            Histogram latencies = new Histogram(3);
+            long requests = 0;
+            long errors = 0;
+            double achieved = 0;
+            for (ScenarioResult result : results.values()) {
+                latencies.add(result.getLatencies());
+                requests += result.getRequests();
+                errors += result.getErrors();
+                achieved += result.getThroughput();
+            }
+            double p99Millis = latencies.getTotalCount() == 0 ? 0 : latencies.getValueAtPercentile(99) / 1000.0;
+            double errorRate = requests == 0 ? 0 : (double) errors / requests;
+            boolean sustained = p99Millis <= sloP99Millis && errorRate <= sloErrorRate && achieved >= rate * 0.95;
+            steps.add(new CapacityStep(rate, achieved, p99Millis, errorRate, sustained));
+            if (!sustained) {
+                break;
+            }
+        }
+        return steps;
+    }
+
+    private static void log(String format, Object... args) {
+        System.out.println("[loadtest] " + String.format(format, args));
+    }
+}
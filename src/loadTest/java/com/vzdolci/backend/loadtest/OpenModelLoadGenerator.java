@@ -0,0 +1,114 @@
+package com.vzdolci.backend.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-model load generator: each scenario sends requests on a fixed schedule, whether or not earlier
+ * responses have arrived. Latency is measured from the time a request was scheduled, not from when it was
+ * actually sent, so a stalled server shows up in the percentiles instead of silently lowering the load
+ * (no coordinated omission).
+ */
+final class OpenModelLoadGenerator {
+
+    /** Beyond this many outstanding requests new ones are counted as dropped instead of piling up. */
+    private static final int MAX_IN_FLIGHT = 10_000;
+
+    private final HttpClient client;
+    private final URI baseUri;
+    private final Duration requestTimeout;
+    private final boolean acceptGzip;
+
+    OpenModelLoadGenerator(URI baseUri, Duration requestTimeout, boolean acceptGzip) {
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(requestTimeout)
+                .build();
+        this.baseUri = baseUri;
+        this.requestTimeout = requestTimeout;
+        this.acceptGzip = acceptGzip;
+    }
+
+    /**
+     * Runs all scenarios concurrently, each at its own rate, for the given duration, then waits for the
+     * outstanding responses.
+     */
+    Map<String, ScenarioResult> run(List<Scenario> scenarios, Duration duration) throws InterruptedException {
+        Map<String, ScenarioResult> results = new LinkedHashMap<>();
+        AtomicInteger inFlight = new AtomicInteger();
+        List<Thread> drivers = new ArrayList<>();
+        long start = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(10);
+        long end = start + duration.toNanos();
+        
+        for (Scenario scenario : scenarios) {
+            ScenarioResult result = new ScenarioResult(
+                    scenario.getName(), scenario.getRatePerSecond(), scenario.getExpectedStatus());
+            results.put(scenario.getName(), result);
+            Thread driver = new Thread(() -> drive(scenario, result, start, end, inFlight),
+                    "load-" + scenario.getName());
+            driver.start();
+            drivers.add(driver);
+        }
+        for (Thread driver : drivers) {
+            driver.join();
+        }
+        
+        long drainDeadline = System.nanoTime() + requestTimeout.plusSeconds(5).toNanos();
+        while (inFlight.get() > 0 && System.nanoTime() < drainDeadline) {
+            Thread.sleep(10);
+        }
+        double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+        results.values().forEach(result -> result.finish(elapsedSeconds));
+        return results;
+    }
+
+    private void drive(Scenario scenario, ScenarioResult result, long start, long end, AtomicInteger inFlight) {
+        if (scenario.getRatePerSecond() <= 0) {
+            return;
+        }
+        long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / scenario.getRatePerSecond());
+        long intendedStart = start;
+        while (intendedStart < end) {
+            long wait;
+            while ((wait = intendedStart - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            send(scenario, result, intendedStart, inFlight);
+            intendedStart += intervalNanos;
+        }
+    }
+
+    private void send(Scenario scenario, ScenarioResult result, long intendedStart, AtomicInteger inFlight) {
+        if (inFlight.incrementAndGet() > MAX_IN_FLIGHT) {
+            inFlight.decrementAndGet();
+            result.recordDropped();
+            return;
+        }
+        HttpRequest.Builder request = HttpRequest.newBuilder(baseUri.resolve(scenario.nextPath()))
+                .timeout(requestTimeout)
+                .GET();
+        if (acceptGzip) {
+            request.header("Accept-Encoding", "gzip");
+        }
+        client.sendAsync(request.build(), HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, error) -> {
+                    long latencyNanos = System.nanoTime() - intendedStart;
+                    inFlight.decrementAndGet();
+                    if (error != null) {
+                        result.recordFailure();
+                    } else {
+                        result.recordResponse(latencyNanos, response.statusCode());
+                    }
+                });
+    }
+}
@@ -0,0 +1,42 @@
+package com.vzdolci.backend.loadtest;
+
+import java.util.function.Supplier;
+
+/**
+ * A request type driven at a fixed arrival rate.
+ * The path supplier is called from a single driver thread, so it does not need to be thread-safe.
+ */
+final class Scenario {
+
+    private final String name;
+    private final double ratePerSecond;
+    private final int expectedStatus;
+    private final Supplier<String> pathSupplier;
+
+    Scenario(String name, double ratePerSecond, int expectedStatus, Supplier<String> pathSupplier) {
+        this.name = name;
+        this.ratePerSecond = ratePerSecond;
+        this.expectedStatus = expectedStatus;
+        this.pathSupplier = pathSupplier;
+    }
+
+    Scenario withRate(double ratePerSecond) {
+        return new Scenario(name, ratePerSecond, expectedStatus, pathSupplier);
+    }
+
+    String getName() {
+        return name;
+    }
+
+    double getRatePerSecond() {
+        return ratePerSecond;
+    }
+
+    int getExpectedStatus() {
+        return expectedStatus;
+    }
+
+    String nextPath() {
+        return pathSupplier.get();
+    }
+}
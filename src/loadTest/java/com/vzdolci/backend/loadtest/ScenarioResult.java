@@ -0,0 +1,109 @@
+package com.vzdolci.backend.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Outcome of one scenario: latency histogram (microseconds, measured from the intended send time)
+ * and response/error counters. Written concurrently by HTTP client threads.
+ */
+final class ScenarioResult {
+
+    private final String name;
+    private final double targetRate;
+    private final int expectedStatus;
+    private final Histogram latencies = new ConcurrentHistogram(3);
+    private final Map<Integer, LongAdder> statusCounts = new ConcurrentHashMap<>();
+    private final LongAdder responses = new LongAdder();
+    private final LongAdder unexpectedStatuses = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private volatile double elapsedSeconds;
+
+    ScenarioResult(String name, double targetRate, int expectedStatus) {
+        this.name = name;
+        this.targetRate = targetRate;
+        this.expectedStatus = expectedStatus;
+    }
+
+    void recordResponse(long latencyNanos, int status) {
+        latencies.recordValue(TimeUnit.NANOSECONDS.toMicros(latencyNanos));
+        statusCounts.computeIfAbsent(status, key -> new LongAdder()).increment();
+        responses.increment();
+        if (status != expectedStatus) {
+            unexpectedStatuses.increment();
+        }
+    }
+
+    /** Timeouts and connection errors. */
+    void recordFailure() {
+        failures.increment();
+    }
+
+    /** Requests never sent because too many were already in flight. */
+    void recordDropped() {
+        dropped.increment();
+    }
+
+    void finish(double elapsedSeconds) {
+        this.elapsedSeconds = elapsedSeconds;
+    }
+
+    String getName() {
+        return name;
+    }
+
+    double getTargetRate() {
+        return targetRate;
+    }
+
+    Histogram getLatencies() {
+        return latencies;
+    }
+
+    long getRequests() {
+        return responses.sum() + failures.sum() + dropped.sum();
+    }
+
+    long getErrors() {
+        return unexpectedStatuses.sum() + failures.sum() + dropped.sum();
+    }
+
+    long getFailures() {
+        return failures.sum();
+    }
+
+    long getDropped() {
+        return dropped.sum();
+    }
+
+    double getErrorRate() {
+        long requests = getRequests();
+        return requests == 0 ? 0 : (double) getErrors() / requests;
+    }
+
+    /** Responses per second actually obtained, whatever their status. */
+    double getThroughput() {
+        return elapsedSeconds == 0 ? 0 : responses.sum() / elapsedSeconds;
+    }
+
+    double getPercentileMillis(double percentile) {
+        return latencies.getTotalCount() == 0 ? 0 : latencies.getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    double getMaxMillis() {
+        return latencies.getTotalCount() == 0 ? 0 : latencies.getMaxValue() / 1000.0;
+    }
+
+    Map<Integer, Long> getStatusCounts() {
+        Map<Integer, Long> counts = new TreeMap<>();
+        statusCounts.forEach((status, count) -> counts.put(status, count.sum()));
+        return counts;
+    }
+}
@@ -0,0 +1,115 @@
+package com.vzdolci.backend.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Startup benchmark, run by {@code ./gradlew startupBenchmark}: launches the application several times
+ * against a seeded PostgreSQL and measures, for each fresh JVM, the time from process launch to the first
+ * successful response of the product listing. The database is migrated beforehand, so every run does the
+ * same work (schema validation only).
+ */
+public final class StartupBenchmark {
+
+    private StartupBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.load();
+        Path reportDir = Path.of(config.get("startup.reportDir"));
+        Files.createDirectories(reportDir);
+        String variant = config.get("startup.variant", "standard");
+        int runs = config.getInt("startup.runs");
+        List<Long> millis = new ArrayList<>();
+        
+        try (CatalogDatabase database = CatalogDatabase.start(config.get("postgresImage"))) {
+            database.migrate(Path.of(config.get("migrations")));
+            database.seed(config.getInt("startup.products"), config.getInt("inactivePercent"));
+            Map<String, String> environment = Map.of(
+                    "SPRING_DATASOURCE_URL", database.getJdbcUrl(),
+                    "SPRING_DATASOURCE_USERNAME", database.getUsername(),
+                    "SPRING_DATASOURCE_PASSWORD", database.getPassword(),
+                    "SPRING_PROFILES_ACTIVE", config.get("startup.profiles", ""));
+            
+            for (int run = 1; run <= runs; run++) {
+                try (ApplicationProcess application = ApplicationProcess.launch(
+                        Path.of(config.get("startup.jar")), config.get("startup.jvmArgs", ""), environment,
+                        reportDir.resolve("app-" + run + ".log"))) {
+                    Duration elapsed = application.awaitSuccess(config.get("startup.path"),
+                            Duration.ofSeconds(config.getInt("startup.timeoutSeconds")));
+                    millis.add(elapsed.toMillis());
+                    System.out.printf(Locale.ROOT, "[startup] %s run %d: %d ms%n", variant, run, elapsed.toMillis());
+                }
+            }
+        }
+        
+        List<Long> sorted = new ArrayList<>(millis);
+        sorted.sort(null);
+        long median = sorted.get(sorted.size() / 2);
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("version", config.get("version", "unknown"));
+        report.put("variant", variant);
+        report.put("javaVersion", System.getProperty("java.version"));
+        report.put("path", config.get("startup.path"));
+        report.put("runsMs", millis);
+        report.put("minMs", sorted.get(0));
+        report.put("medianMs", median);
+        report.put("maxMs", sorted.get(sorted.size() - 1));
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(reportDir.resolve("startup-" + variant + ".json").toFile(), report);
+        System.out.printf(Locale.ROOT, "[startup] %s: min %d ms, median %d ms, max %d ms over %d runs%n",
+                variant, sorted.get(0), median, sorted.get(sorted.size() - 1), runs);
+        
+        Path historyFile = Path.of(config.get("startup.historyFile"));
+        String[] baseline = lastRecorded(historyFile, variant);
+        if (baseline == null) {
+            System.out.printf(Locale.ROOT, "[startup] no %s baseline in %s yet; record one on the reference machine "
+                    + "with -Ploadtest.startup.record=true%n", variant, historyFile);
+        } else {
+            long baselineMedian = Long.parseLong(baseline[6]);
+            System.out.printf(Locale.ROOT, "[startup] %s: median %d ms vs %d ms recorded for %s on %s (%+.1f%%)%n",
+                    variant, median, baselineMedian, baseline[0], baseline[1],
+                    100.0 * (median - baselineMedian) / baselineMedian);
+        }
+        
+        if (config.getBoolean("startup.record")) {
+            String row = String.join(",", config.get("version", "unknown"), LocalDate.now().toString(), variant,
+                    System.getProperty("java.version"), String.valueOf(runs), String.valueOf(sorted.get(0)),
+                    String.valueOf(median), String.valueOf(sorted.get(sorted.size() - 1)));
+            Files.writeString(historyFile, row + System.lineSeparator(),
+                    StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        }
+    }
+    
+    /**
+     * Columns of the last history row for the variant (version, date, variant, java, runs, min, median, max),
+     * or null if none was recorded.
+     */
+    private static String[] lastRecorded(Path historyFile, String variant) throws IOException {
+        if (!Files.exists(historyFile)) {
+            return null;
+        }
+        String[] last = null;
+        List<String> lines = Files.readAllLines(historyFile, StandardCharsets.UTF_8);
+        for (String line : lines.subList(Math.min(1, lines.size()), lines.size())) {
+            String[] columns = line.split(",");
+            if (columns.length == 8 && columns[2].equals(variant)) {
+                last = columns;
+            }
+        }
+        return last;
+    }
+}
@@ -0,0 +1,64 @@
+package com.vzdolci.backend.application.cache;
+
+/**
+ * Immutable snapshot of the counters of a {@link ReadThroughCache}.
+ */
+public class CacheStats {
+    private final String name;
+    private final long hits;
+    private final long misses;
+    private final long evictions;
+    private final long expirations;
+    private final long refreshes;
+    private final long loadFailures;
+    private final int size;
+
+    public CacheStats(String name, long hits, long misses, long evictions, long expirations,
+                      long refreshes, long loadFailures, int size) {
+        this.name = name;
+        this.hits = hits;
+        this.misses = misses;
+        this.evictions = evictions;
+        this.expirations = expirations;
+        this.refreshes = refreshes;
+        this.loadFailures = loadFailures;
+        this.size = size;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public long getEvictions() {
+        return evictions;
+    }
+
+    public long getExpirations() {
+        return expirations;
+    }
+
+    public long getRefreshes() {
+        return refreshes;
+    }
+
+    public long getLoadFailures() {
+        return loadFailures;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public double getHitRate() {
+        long requests = hits + misses;
+        return requests == 0 ? 0.0 : (double) hits / requests;
+    }
+}
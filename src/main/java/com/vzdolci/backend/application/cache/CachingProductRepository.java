@@ -0,0 +1,113 @@
+package com.vzdolci.backend.application.cache;
+
+import com.vzdolci.backend.domain.model.CatalogVersion;
+import com.vzdolci.backend.domain.model.Product;
+import com.vzdolci.backend.domain.model.ProductChangeSet;
+import com.vzdolci.backend.domain.model.ProductSummary;
+import com.vzdolci.backend.domain.repository.ProductPageQuery;
+import com.vzdolci.backend.domain.repository.ProductRepository;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Caching decorator for ProductRepository.
+ * Catalog reads are served by the ProductCacheService and only reach the delegate on a miss;
+ * writes go straight to the delegate and then update or invalidate the cached entries.
+ */
+public class CachingProductRepository implements ProductRepository {
+    
+    private final ProductRepository delegate;
+    private final ProductCacheService cache;
+    
+    public CachingProductRepository(ProductRepository delegate, ProductCacheService cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+    
+    @Override
+    public List<Product> findAll() {
+        return cache.getAllProducts(delegate::findAll);
+    }
+    
+    @Override
+    public List<Product> findActiveProducts() {
+        return cache.getActiveProducts(delegate::findActiveProducts);
+    }
+    
+    @Override
+    public Optional<Product> findById(Long id) {
+        return cache.getProduct(id, delegate::findById);
+    }
+    
+    @Override
+    public List<Product> findAllByIds(Collection<Long> ids) {
+        // Only the ids that are not cached reach the delegate, in a single query
+        return List.copyOf(cache.getProducts(ids, delegate::findAllByIds).values());
+    }
+    
+    @Override
+    public Optional<Product> findBySlug(String slug) {
+        return delegate.findBySlug(slug);
+    }
+    
+    @Override
+    public List<ProductSummary> findAllSummaries() {
+        return cache.getAllSummaries(delegate::findAllSummaries);
+    }
+    
+    @Override
+    public List<ProductSummary> findActiveSummaries() {
+        return cache.getActiveSummaries(delegate::findActiveSummaries);
+    }
+    
+    @Override
+    public Optional<ProductSummary> findSummaryById(Long id) {
+        // The per-id cache already holds full products, so summaries are derived from it
+        return findById(id).map(ProductSummary::from);
+    }
+    
+    @Override
+    public CatalogVersion getCatalogVersion(boolean activeOnly) {
+        // Taken from the cached list itself so that validators always match the content being served
+        return activeOnly
+            ? cache.getActiveProductsVersion(delegate::findActiveProducts)
+            : cache.getAllProductsVersion(delegate::findAll);
+    }
+    
+    @Override
+    public Optional<OffsetDateTime> findUpdatedAtById(Long id) {
+        return findById(id).map(Product::getUpdatedAt);
+    }
+    
+    @Override
+    public List<Product> findPage(ProductPageQuery query) {
+        return delegate.findPage(query);
+    }
+    
+    @Override
+    public ProductChangeSet findChangesSince(OffsetDateTime since) {
+        return delegate.findChangesSince(since);
+    }
+    
+    @Override
+    public Product save(Product product) {
+        Product savedProduct = delegate.save(product);
+        cache.put(savedProduct);
+        return savedProduct;
+    }
+    
+    @Override
+    public void upsertAllBySlug(List<Product> products) {
+        delegate.upsertAllBySlug(products);
+        cache.invalidateAll();
+    }
+    
+    @Override
+    public void deleteById(Long id) {
+        delegate.deleteById(id);
+        cache.evict(id);
+    }
+}
@@ -0,0 +1,150 @@
+package com.vzdolci.backend.application.cache;
+
+import com.vzdolci.backend.domain.event.ProductChangedEvent;
+import com.vzdolci.backend.domain.model.CatalogVersion;
+import com.vzdolci.backend.domain.model.Product;
+import com.vzdolci.backend.domain.model.ProductSummary;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * In-process catalog cache.
+ * Keeps a bounded per-id cache of products and a whole-list cache for the "all" and "active"
+ * catalog views (full products and their summaries), all read-through with TTL and refresh-ahead.
+ * Any write invalidates the list views. Cached lists carry the CatalogVersion of their content, so
+ * validators derived from it always describe exactly the list that is served.
+ */
+public class ProductCacheService {
+
+    private enum CatalogView {
+        ALL,
+        ACTIVE
+    }
+
+    private final ExecutorService refreshExecutor;
+    private final ReadThroughCache<Long, Product> products;
+    private final ReadThroughCache<CatalogView, CachedCatalog> catalogs;
+    private final ReadThroughCache<CatalogView, List<ProductSummary>> summaries;
+
+    public ProductCacheService(int maximumSize, Duration ttl, Duration refreshAfter) {
+        this.refreshExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "product-cache-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.products = new ReadThroughCache<>("products", maximumSize, ttl, refreshAfter, refreshExecutor);
+        this.catalogs = new ReadThroughCache<>("catalogs", CatalogView.values().length, ttl, refreshAfter,
+                refreshExecutor);
+        this.summaries = new ReadThroughCache<>("summaries", CatalogView.values().length, ttl, refreshAfter,
+                refreshExecutor);
+    }
+
+    public Optional<Product> getProduct(Long id, Function<Long, Optional<Product>> loader) {
+        return Optional.ofNullable(products.get(id, key -> loader.apply(key).orElse(null)));
+    }
+
+    /**
+     * Returns the cached products among the ids and loads the rest with one call to the bulk loader.
+     */
+    public Map<Long, Product> getProducts(Collection<Long> ids, Function<Collection<Long>, List<Product>> loader) {
+        return products.getAll(ids, missing -> loader.apply(missing).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity())));
+    }
+
+    public List<Product> getAllProducts(Supplier<List<Product>> loader) {
+        return catalog(CatalogView.ALL, loader).products;
+    }
+
+    public List<Product> getActiveProducts(Supplier<List<Product>> loader) {
+        return catalog(CatalogView.ACTIVE, loader).products;
+    }
+
+    public CatalogVersion getAllProductsVersion(Supplier<List<Product>> loader) {
+        return catalog(CatalogView.ALL, loader).version;
+    }
+
+    public CatalogVersion getActiveProductsVersion(Supplier<List<Product>> loader) {
+        return catalog(CatalogView.ACTIVE, loader).version;
+    }
+
+    public List<ProductSummary> getAllSummaries(Supplier<List<ProductSummary>> loader) {
+        return summaries.get(CatalogView.ALL, view -> List.copyOf(loader.get()));
+    }
+
+    public List<ProductSummary> getActiveSummaries(Supplier<List<ProductSummary>> loader) {
+        return summaries.get(CatalogView.ACTIVE, view -> List.copyOf(loader.get()));
+    }
+
+    /**
+     * Records a freshly written product and drops the list views it may belong to.
+     */
+    public void put(Product product) {
+        if (product.getId() != null) {
+            products.put(product.getId(), product);
+        }
+        invalidateCatalogs();
+    }
+
+    public void evict(Long id) {
+        products.invalidate(id);
+        invalidateCatalogs();
+    }
+
+    /**
+     * Drops the entries affected by a catalog change, including changes made by other nodes.
+     * Runs before any other subscriber so that those reading through the cache see fresh data.
+     */
+    @EventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onProductChanged(ProductChangedEvent event) {
+        if (event.isResync()) {
+            invalidateAll();
+        } else {
+            evict(event.getProductId());
+        }
+    }
+
+    public void invalidateAll() {
+        products.invalidateAll();
+        invalidateCatalogs();
+    }
+
+    public List<CacheStats> stats() {
+        return List.of(products.stats(), catalogs.stats(), summaries.stats());
+    }
+
+    private CachedCatalog catalog(CatalogView view, Supplier<List<Product>> loader) {
+        return catalogs.get(view, key -> new CachedCatalog(List.copyOf(loader.get())));
+    }
+
+    private void invalidateCatalogs() {
+        catalogs.invalidateAll();
+        summaries.invalidateAll();
+    }
+
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+
+    private static final class CachedCatalog {
+        private final List<Product> products;
+        private final CatalogVersion version;
+
+        private CachedCatalog(List<Product> products) {
+            this.products = products;
+            this.version = CatalogVersion.of(products);
+        }
+    }
+}
@@ -0,0 +1,275 @@
+package com.vzdolci.backend.application.cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Bounded in-process read-through cache with TTL, refresh-ahead and LRU eviction.
+ * Values are loaded on demand by the loader given to {@link #get}; once an entry is older than
+ * the refresh threshold it keeps being served while a background reload replaces it.
+ * Every write or invalidation bumps a generation counter so that loads started before it
+ * can never put a stale value back into the cache.
+ */
+public class ReadThroughCache<K, V> {
+
+    private final String name;
+    private final int maximumSize;
+    private final long ttlNanos;
+    private final long refreshAfterNanos;
+    private final Executor refreshExecutor;
+    private final LongSupplier ticker;
+
+    private final LinkedHashMap<K, CachedValue<V>> entries;
+    private final Set<K> refreshing = ConcurrentHashMap.newKeySet();
+    private long generation;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+    private final LongAdder refreshes = new LongAdder();
+    private final LongAdder loadFailures = new LongAdder();
+
+    public ReadThroughCache(String name, int maximumSize, Duration ttl, Duration refreshAfter,
+                            Executor refreshExecutor) {
+        this(name, maximumSize, ttl, refreshAfter, refreshExecutor, System::nanoTime);
+    }
+
+    ReadThroughCache(String name, int maximumSize, Duration ttl, Duration refreshAfter,
+                     Executor refreshExecutor, LongSupplier ticker) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("maximumSize must be positive: " + maximumSize);
+        }
+        if (ttl == null || ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("ttl must be positive: " + ttl);
+        }
+        this.name = name;
+        this.maximumSize = maximumSize;
+        this.ttlNanos = ttl.toNanos();
+        // A refresh threshold at or beyond the TTL would never fire, so it simply disables refresh-ahead
+        this.refreshAfterNanos = refreshAfter == null || refreshAfter.compareTo(ttl) >= 0
+            ? 0L
+            : Math.max(0L, refreshAfter.toNanos());
+        this.refreshExecutor = refreshExecutor;
+        this.ticker = ticker;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, CachedValue<V>> eldest) {
+                if (size() > ReadThroughCache.this.maximumSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached value for the key, loading it on a miss.
+     * A {@code null} result from the loader means "absent" and is not cached.
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        long now = ticker.getAsLong();
+        CachedValue<V> entry;
+        long expectedGeneration;
+        synchronized (this) {
+            entry = entries.get(key);
+            if (entry != null && now - entry.loadedAt >= ttlNanos) {
+                entries.remove(key);
+                expirations.increment();
+                entry = null;
+            }
+            expectedGeneration = generation;
+        }
+
+        if (entry != null) {
+            hits.increment();
+            if (refreshAfterNanos > 0 && now - entry.loadedAt >= refreshAfterNanos) {
+                scheduleRefresh(key, loader);
+            }
+            return entry.value;
+        }
+
+        misses.increment();
+        V value;
+        try {
+            value = loader.apply(key);
+        } catch (RuntimeException ex) {
+            loadFailures.increment();
+            throw ex;
+        }
+        if (value != null) {
+            putIfCurrent(key, value, expectedGeneration);
+        }
+        return value;
+    }
+
+    /**
+     * Returns the cached values for the keys, loading all misses with a single call to the bulk loader.
+     * Keys missing from the loader's result are absent: they are neither cached nor returned.
+     */
+    public Map<K, V> getAll(Collection<K> keys, Function<Set<K>, Map<K, V>> loader) {
+        long now = ticker.getAsLong();
+        Map<K, V> result = new HashMap<>();
+        Set<K> missing = new LinkedHashSet<>();
+        List<K> stale = new ArrayList<>();
+        long expectedGeneration;
+        synchronized (this) {
+            for (K key : keys) {
+                if (result.containsKey(key) || missing.contains(key)) {
+                    continue;
+                }
+                CachedValue<V> entry = entries.get(key);
+                if (entry != null && now - entry.loadedAt >= ttlNanos) {
+                    entries.remove(key);
+                    expirations.increment();
+                    entry = null;
+                }
+                if (entry == null) {
+                    missing.add(key);
+                } else {
+                    result.put(key, entry.value);
+                    if (refreshAfterNanos > 0 && now - entry.loadedAt >= refreshAfterNanos) {
+                        stale.add(key);
+                    }
+                }
+            }
+            expectedGeneration = generation;
+        }
+
+        hits.add(result.size());
+        for (K key : stale) {
+            scheduleRefresh(key, single -> loader.apply(Set.of(single)).get(single));
+        }
+        if (missing.isEmpty()) {
+            return result;
+        }
+
+        misses.add(missing.size());
+        Map<K, V> loaded;
+        try {
+            loaded = loader.apply(Collections.unmodifiableSet(missing));
+        } catch (RuntimeException ex) {
+            loadFailures.increment();
+            throw ex;
+        }
+        for (K key : missing) {
+            V value = loaded.get(key);
+            if (value != null) {
+                result.put(key, value);
+            }
+        }
+        putAllIfCurrent(result, missing, expectedGeneration);
+        return result;
+    }
+
+    /**
+     * Stores a value that is known to be fresh, e.g. the result of a write.
+     */
+    public synchronized void put(K key, V value) {
+        generation++;
+        entries.put(key, new CachedValue<>(value, ticker.getAsLong()));
+    }
+
+    public synchronized void invalidate(K key) {
+        generation++;
+        entries.remove(key);
+    }
+
+    public synchronized void invalidateAll() {
+        generation++;
+        entries.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public CacheStats stats() {
+        return new CacheStats(name, hits.sum(), misses.sum(), evictions.sum(), expirations.sum(),
+                refreshes.sum(), loadFailures.sum(), size());
+    }
+
+    private synchronized void putIfCurrent(K key, V value, long expectedGeneration) {
+        if (generation == expectedGeneration) {
+            entries.put(key, new CachedValue<>(value, ticker.getAsLong()));
+        }
+    }
+
+    private synchronized void putAllIfCurrent(Map<K, V> values, Set<K> keys, long expectedGeneration) {
+        if (generation != expectedGeneration) {
+            return;
+        }
+        long loadedAt = ticker.getAsLong();
+        for (K key : keys) {
+            V value = values.get(key);
+            if (value != null) {
+                entries.put(key, new CachedValue<>(value, loadedAt));
+            }
+        }
+    }
+
+    private synchronized void removeIfCurrent(K key, long expectedGeneration) {
+        if (generation == expectedGeneration) {
+            entries.remove(key);
+        }
+    }
+
+    private void scheduleRefresh(K key, Function<? super K, ? extends V> loader) {
+        if (!refreshing.add(key)) {
+            return;
+        }
+        long expectedGeneration;
+        synchronized (this) {
+            expectedGeneration = generation;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    V value = loader.apply(key);
+                    refreshes.increment();
+                    if (value != null) {
+                        putIfCurrent(key, value, expectedGeneration);
+                    } else {
+                        removeIfCurrent(key, expectedGeneration);
+                    }
+                } catch (RuntimeException ex) {
+                    // The current value keeps being served until it expires
+                    loadFailures.increment();
+                } finally {
+                    refreshing.remove(key);
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            refreshing.remove(key);
+        }
+    }
+
+    private static final class CachedValue<V> {
+        private final V value;
+        private final long loadedAt;
+
+        private CachedValue(V value, long loadedAt) {
+            this.value = value;
+            this.loadedAt = loadedAt;
+        }
+    }
+}
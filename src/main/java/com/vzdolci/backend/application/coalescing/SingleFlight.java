@@ -0,0 +1,89 @@
+package com.vzdolci.backend.application.coalescing;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent calls for the same key into a single load.
+ * The first caller for a key runs the loader; callers arriving while it is in flight wait for it and
+ * receive the same result, or the same exception. Nothing is kept once the load completes, so a call
+ * that starts afterwards loads again: this deduplicates concurrent work, it is not a cache.
+ * The loader must not call back into the same key on the same thread.
+ */
+public class SingleFlight<K, V> {
+
+    private final String name;
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder coalescedCalls = new LongAdder();
+
+    public SingleFlight(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Returns the result of the load in flight for the key, starting one with the loader if there is none.
+     */
+    public V execute(K key, Supplier<? extends V> loader) {
+        CompletableFuture<V> call = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, call);
+        if (existing != null) {
+            coalescedCalls.increment();
+            return await(existing);
+        }
+
+        loads.increment();
+        try {
+            V value = loader.get();
+            call.complete(value);
+            return value;
+        } catch (RuntimeException | Error ex) {
+            call.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(key, call);
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Loads actually run, one per group of coalesced calls.
+     */
+    public long getLoads() {
+        return loads.sum();
+    }
+
+    /**
+     * Calls that were served by a load started by another caller.
+     */
+    public long getCoalescedCalls() {
+        return coalescedCalls.sum();
+    }
+
+    public int getInFlight() {
+        return inFlight.size();
+    }
+
+    private static <V> V await(CompletableFuture<V> call) {
+        try {
+            return call.join();
+        } catch (CompletionException ex) {
+            // Rethrow what the loader threw, so waiting callers see the same exception as the one that loaded
+            Throwable cause = ex.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw ex;
+        }
+    }
+}
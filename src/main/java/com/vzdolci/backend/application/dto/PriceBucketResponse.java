@@ -0,0 +1,46 @@
+package com.vzdolci.backend.application.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * Data Transfer Object for one price facet bucket: products priced from {@code min} (inclusive)
+ * up to {@code max} (exclusive); {@code max} is null for an open-ended last bucket.
+ */
+public class PriceBucketResponse {
+    private BigDecimal min;
+    private BigDecimal max;
+    private int count;
+
+    public PriceBucketResponse() {
+    }
+
+    public PriceBucketResponse(BigDecimal min, BigDecimal max, int count) {
+        this.min = min;
+        this.max = max;
+        this.count = count;
+    }
+
+    public BigDecimal getMin() {
+        return min;
+    }
+
+    public void setMin(BigDecimal min) {
+        this.min = min;
+    }
+
+    public BigDecimal getMax() {
+        return max;
+    }
+
+    public void setMax(BigDecimal max) {
+        this.max = max;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public void setCount(int count) {
+        this.count = count;
+    }
+}
@@ -0,0 +1,44 @@
+package com.vzdolci.backend.application.dto;
+
+/**
+ * Data Transfer Object for one entry of a batch lookup.
+ * {@code product} is null when {@code found} is false.
+ */
+public class ProductBatchItemResponse {
+    private Long id;
+    private boolean found;
+    private ProductResponse product;
+
+    public ProductBatchItemResponse() {
+    }
+
+    public ProductBatchItemResponse(Long id, boolean found, ProductResponse product) {
+        this.id = id;
+        this.found = found;
+        this.product = product;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public boolean isFound() {
+        return found;
+    }
+
+    public void setFound(boolean found) {
+        this.found = found;
+    }
+
+    public ProductResponse getProduct() {
+        return product;
+    }
+
+    public void setProduct(ProductResponse product) {
+        this.product = product;
+    }
+}
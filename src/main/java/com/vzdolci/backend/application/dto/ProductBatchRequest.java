@@ -0,0 +1,25 @@
+package com.vzdolci.backend.application.dto;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for a batch lookup of products by ID.
+ */
+public class ProductBatchRequest {
+    private List<Long> ids;
+
+    public ProductBatchRequest() {
+    }
+
+    public ProductBatchRequest(List<Long> ids) {
+        this.ids = ids;
+    }
+
+    public List<Long> getIds() {
+        return ids;
+    }
+
+    public void setIds(List<Long> ids) {
+        this.ids = ids;
+    }
+}
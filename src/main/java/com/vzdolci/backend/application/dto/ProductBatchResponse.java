@@ -0,0 +1,25 @@
+package com.vzdolci.backend.application.dto;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for the result of a batch lookup, one item per distinct requested ID in request order.
+ */
+public class ProductBatchResponse {
+    private List<ProductBatchItemResponse> items;
+
+    public ProductBatchResponse() {
+    }
+
+    public ProductBatchResponse(List<ProductBatchItemResponse> items) {
+        this.items = items;
+    }
+
+    public List<ProductBatchItemResponse> getItems() {
+        return items;
+    }
+
+    public void setItems(List<ProductBatchItemResponse> items) {
+        this.items = items;
+    }
+}
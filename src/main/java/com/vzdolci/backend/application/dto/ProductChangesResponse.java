@@ -0,0 +1,68 @@
+package com.vzdolci.backend.application.dto;
+
+import com.vzdolci.backend.application.sync.ProductChanges;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Data Transfer Object for a delta sync.
+ * {@code items} are the active products changed since the requested watermark, {@code tombstones} the
+ * products to remove, and {@code watermark} the value to send as {@code since} on the next sync.
+ */
+public class ProductChangesResponse {
+    private List<ProductResponse> items;
+    private List<ProductTombstoneResponse> tombstones;
+    private OffsetDateTime watermark;
+
+    public ProductChangesResponse() {
+    }
+
+    public ProductChangesResponse(List<ProductResponse> items, List<ProductTombstoneResponse> tombstones,
+                                  OffsetDateTime watermark) {
+        this.items = items;
+        this.tombstones = tombstones;
+        this.watermark = watermark;
+    }
+
+    public static ProductChangesResponse fromChanges(ProductChanges changes) {
+        List<ProductResponse> items = changes.getUpdated().stream()
+                .map(ProductResponse::fromDomain)
+                .collect(Collectors.toList());
+
+        List<ProductTombstoneResponse> tombstones = new ArrayList<>();
+        for (Long id : changes.getDeactivatedIds()) {
+            tombstones.add(new ProductTombstoneResponse(id, ProductTombstoneResponse.INACTIVE));
+        }
+        for (Long id : changes.getDeletedIds()) {
+            tombstones.add(new ProductTombstoneResponse(id, ProductTombstoneResponse.DELETED));
+        }
+        return new ProductChangesResponse(items, tombstones, changes.getWatermark());
+    }
+
+    public List<ProductResponse> getItems() {
+        return items;
+    }
+
+    public void setItems(List<ProductResponse> items) {
+        this.items = items;
+    }
+
+    public List<ProductTombstoneResponse> getTombstones() {
+        return tombstones;
+    }
+
+    public void setTombstones(List<ProductTombstoneResponse> tombstones) {
+        this.tombstones = tombstones;
+    }
+
+    public OffsetDateTime getWatermark() {
+        return watermark;
+    }
+
+    public void setWatermark(OffsetDateTime watermark) {
+        this.watermark = watermark;
+    }
+}
@@ -0,0 +1,47 @@
+package com.vzdolci.backend.application.dto;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for the facet counts of a catalog query.
+ * Each facet ignores its own filter: price buckets are counted without the price range and the
+ * active/inactive counts without the active filter. Empty price buckets are omitted.
+ */
+public class ProductFacetsResponse {
+    private List<PriceBucketResponse> priceBuckets;
+    private int active;
+    private int inactive;
+
+    public ProductFacetsResponse() {
+    }
+
+    public ProductFacetsResponse(List<PriceBucketResponse> priceBuckets, int active, int inactive) {
+        this.priceBuckets = priceBuckets;
+        this.active = active;
+        this.inactive = inactive;
+    }
+
+    public List<PriceBucketResponse> getPriceBuckets() {
+        return priceBuckets;
+    }
+
+    public void setPriceBuckets(List<PriceBucketResponse> priceBuckets) {
+        this.priceBuckets = priceBuckets;
+    }
+
+    public int getActive() {
+        return active;
+    }
+
+    public void setActive(int active) {
+        this.active = active;
+    }
+
+    public int getInactive() {
+        return inactive;
+    }
+
+    public void setInactive(int inactive) {
+        this.inactive = inactive;
+    }
+}
@@ -0,0 +1,49 @@
+package com.vzdolci.backend.application.dto;
+
+import com.vzdolci.backend.application.importing.ProductImportError;
+
+/**
+ * Data Transfer Object for a record rejected by the bulk import.
+ */
+public class ProductImportErrorResponse {
+    private long line;
+    private String slug;
+    private String message;
+
+    public ProductImportErrorResponse() {
+    }
+
+    public ProductImportErrorResponse(long line, String slug, String message) {
+        this.line = line;
+        this.slug = slug;
+        this.message = message;
+    }
+
+    public static ProductImportErrorResponse fromDomain(ProductImportError error) {
+        return new ProductImportErrorResponse(error.getLineNumber(), error.getSlug(), error.getMessage());
+    }
+
+    public long getLine() {
+        return line;
+    }
+
+    public void setLine(long line) {
+        this.line = line;
+    }
+
+    public String getSlug() {
+        return slug;
+    }
+
+    public void setSlug(String slug) {
+        this.slug = slug;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+}
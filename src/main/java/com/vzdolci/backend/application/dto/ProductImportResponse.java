@@ -0,0 +1,92 @@
+package com.vzdolci.backend.application.dto;
+
+import com.vzdolci.backend.application.importing.ProductImportReport;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Data Transfer Object for the outcome of a bulk import.
+ */
+public class ProductImportResponse {
+    private long totalRows;
+    private long importedRows;
+    private long failedRows;
+    private long durationMillis;
+    private double rowsPerSecond;
+    private List<ProductImportErrorResponse> errors;
+
+    public ProductImportResponse() {
+    }
+
+    public ProductImportResponse(long totalRows, long importedRows, long failedRows, long durationMillis,
+                                 double rowsPerSecond, List<ProductImportErrorResponse> errors) {
+        this.totalRows = totalRows;
+        this.importedRows = importedRows;
+        this.failedRows = failedRows;
+        this.durationMillis = durationMillis;
+        this.rowsPerSecond = rowsPerSecond;
+        this.errors = errors;
+    }
+
+    public static ProductImportResponse fromDomain(ProductImportReport report) {
+        return new ProductImportResponse(
+            report.getTotalRows(),
+            report.getImportedRows(),
+            report.getFailedRows(),
+            report.getDuration().toMillis(),
+            Math.round(report.getRowsPerSecond() * 10) / 10.0,
+            report.getErrors().stream()
+                .map(ProductImportErrorResponse::fromDomain)
+                .collect(Collectors.toList())
+        );
+    }
+
+    public long getTotalRows() {
+        return totalRows;
+    }
+
+    public void setTotalRows(long totalRows) {
+        this.totalRows = totalRows;
+    }
+
+    public long getImportedRows() {
+        return importedRows;
+    }
+
+    public void setImportedRows(long importedRows) {
+        this.importedRows = importedRows;
+    }
+
+    public long getFailedRows() {
+        return failedRows;
+    }
+
+    public void setFailedRows(long failedRows) {
+        this.failedRows = failedRows;
+    }
+
+    public long getDurationMillis() {
+        return durationMillis;
+    }
+
+    public void setDurationMillis(long durationMillis) {
+        this.durationMillis = durationMillis;
+    }
+
+    public double getRowsPerSecond() {
+        return rowsPerSecond;
+    }
+
+    public void setRowsPerSecond(double rowsPerSecond) {
+        this.rowsPerSecond = rowsPerSecond;
+    }
+
+    public List<ProductImportErrorResponse> getErrors() {
+        return errors;
+    }
+
+    public void setErrors(List<ProductImportErrorResponse> errors) {
+        this.errors = errors;
+    }
+}
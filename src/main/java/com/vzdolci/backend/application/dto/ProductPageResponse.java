@@ -0,0 +1,46 @@
+package com.vzdolci.backend.application.dto;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for a page of products.
+ * {@code nextCursor} is an opaque token to pass back as {@code cursor}; it is null on the last page.
+ */
+public class ProductPageResponse {
+    private List<ProductResponse> items;
+    private String nextCursor;
+    private int limit;
+
+    public ProductPageResponse() {
+    }
+
+    public ProductPageResponse(List<ProductResponse> items, String nextCursor, int limit) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+        this.limit = limit;
+    }
+
+    public List<ProductResponse> getItems() {
+        return items;
+    }
+
+    public void setItems(List<ProductResponse> items) {
+        this.items = items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public void setLimit(int limit) {
+        this.limit = limit;
+    }
+}
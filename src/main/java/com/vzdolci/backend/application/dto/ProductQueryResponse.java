@@ -0,0 +1,94 @@
+package com.vzdolci.backend.application.dto;
+
+import com.vzdolci.backend.application.query.CatalogQueryResult;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Data Transfer Object for a faceted catalog query.
+ * {@code total} counts every product matching the filters; {@code items} is the requested slice of them.
+ */
+public class ProductQueryResponse {
+    private List<ProductResponse> items;
+    private int total;
+    private int offset;
+    private int limit;
+    private ProductFacetsResponse facets;
+
+    public ProductQueryResponse() {
+    }
+
+    public ProductQueryResponse(List<ProductResponse> items, int total, int offset, int limit,
+                                ProductFacetsResponse facets) {
+        this.items = items;
+        this.total = total;
+        this.offset = offset;
+        this.limit = limit;
+        this.facets = facets;
+    }
+
+    public static ProductQueryResponse fromResult(CatalogQueryResult result, int offset, int limit) {
+        List<ProductResponse> items = result.getItems().stream()
+                .map(ProductResponse::fromDomain)
+                .collect(Collectors.toList());
+
+        int width = result.getPriceBucketCents();
+        int[] counts = result.getPriceBucketCounts();
+        List<PriceBucketResponse> priceBuckets = new ArrayList<>();
+        for (int bucket = 0; bucket < counts.length; bucket++) {
+            if (counts[bucket] > 0) {
+                boolean open = result.isLastPriceBucketOpen() && bucket == counts.length - 1;
+                priceBuckets.add(new PriceBucketResponse(
+                        BigDecimal.valueOf((long) bucket * width, 2),
+                        open ? null : BigDecimal.valueOf((long) (bucket + 1) * width, 2),
+                        counts[bucket]));
+            }
+        }
+
+        return new ProductQueryResponse(items, result.getTotal(), offset, limit,
+                new ProductFacetsResponse(priceBuckets, result.getActiveCount(), result.getInactiveCount()));
+    }
+
+    public List<ProductResponse> getItems() {
+        return items;
+    }
+
+    public void setItems(List<ProductResponse> items) {
+        this.items = items;
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public void setTotal(int total) {
+        this.total = total;
+    }
+
+    public int getOffset() {
+        return offset;
+    }
+
+    public void setOffset(int offset) {
+        this.offset = offset;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public void setLimit(int limit) {
+        this.limit = limit;
+    }
+
+    public ProductFacetsResponse getFacets() {
+        return facets;
+    }
+
+    public void setFacets(ProductFacetsResponse facets) {
+        this.facets = facets;
+    }
+}
@@ -0,0 +1,35 @@
+package com.vzdolci.backend.application.dto;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for search results, ordered by relevance.
+ */
+public class ProductSearchResponse {
+    private String query;
+    private List<ProductResponse> items;
+
+    public ProductSearchResponse() {
+    }
+
+    public ProductSearchResponse(String query, List<ProductResponse> items) {
+        this.query = query;
+        this.items = items;
+    }
+
+    public String getQuery() {
+        return query;
+    }
+
+    public void setQuery(String query) {
+        this.query = query;
+    }
+
+    public List<ProductResponse> getItems() {
+        return items;
+    }
+
+    public void setItems(List<ProductResponse> items) {
+        this.items = items;
+    }
+}
@@ -0,0 +1,66 @@
+package com.vzdolci.backend.application.dto;
+
+import com.vzdolci.backend.domain.model.ProductSummary;
+
+import java.math.BigDecimal;
+
+/**
+ * Data Transfer Object for the summary view of a product ({@code view=summary}).
+ */
+public class ProductSummaryResponse {
+    private Long id;
+    private String name;
+    private BigDecimal price;
+    private String emoji;
+
+    public ProductSummaryResponse() {
+    }
+
+    public ProductSummaryResponse(Long id, String name, BigDecimal price, String emoji) {
+        this.id = id;
+        this.name = name;
+        this.price = price;
+        this.emoji = emoji;
+    }
+
+    public static ProductSummaryResponse fromDomain(ProductSummary summary) {
+        return new ProductSummaryResponse(
+            summary.getId(),
+            summary.getName(),
+            summary.getPrice(),
+            summary.getEmoji()
+        );
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public BigDecimal getPrice() {
+        return price;
+    }
+
+    public void setPrice(BigDecimal price) {
+        this.price = price;
+    }
+
+    public String getEmoji() {
+        return emoji;
+    }
+
+    public void setEmoji(String emoji) {
+        this.emoji = emoji;
+    }
+}
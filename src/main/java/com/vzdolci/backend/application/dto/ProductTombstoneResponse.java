@@ -0,0 +1,37 @@
+package com.vzdolci.backend.application.dto;
+
+/**
+ * Data Transfer Object for a product that left the active catalog during a delta sync.
+ * {@code reason} is {@code deleted} or {@code inactive}; either way the client should drop it.
+ */
+public class ProductTombstoneResponse {
+    public static final String DELETED = "deleted";
+    public static final String INACTIVE = "inactive";
+
+    private Long id;
+    private String reason;
+
+    public ProductTombstoneResponse() {
+    }
+
+    public ProductTombstoneResponse(Long id, String reason) {
+        this.id = id;
+        this.reason = reason;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getReason() {
+        return reason;
+    }
+
+    public void setReason(String reason) {
+        this.reason = reason;
+    }
+}
@@ -1,7 +1,11 @@
 package com.vzdolci.backend.application.exception;
 
+/**
+ * Thrown when a requested resource does not exist; always answered with 404.
+ * It is an expected outcome, not a fault, so it carries no stack trace: misses stay cheap under crawler traffic.
+ */
 public class NotFoundException extends RuntimeException {
     public NotFoundException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 }
@@ -0,0 +1,19 @@
+package com.vzdolci.backend.application.exception;
+
+import java.time.Duration;
+
+/**
+ * Thrown when a request is shed because a backend is saturated; carries the suggested retry delay.
+ */
+public class ServiceUnavailableException extends RuntimeException {
+    private final Duration retryAfter;
+
+    public ServiceUnavailableException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -0,0 +1,19 @@
+package com.vzdolci.backend.application.export;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Writes the product listing as a JSON array straight from the data source to an output stream.
+ * The array has the same shape as the regular listing (one ProductResponse per element), but rows are
+ * written as they are read, so memory use does not grow with the size of the catalog.
+ */
+public interface ProductJsonExporter {
+
+    /**
+     * Writes the listing to {@code out}, ordered by id. The stream is flushed but not closed.
+     *
+     * @return the number of products written
+     */
+    long writeAll(boolean activeOnly, OutputStream out) throws IOException;
+}
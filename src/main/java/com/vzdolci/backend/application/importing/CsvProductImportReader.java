@@ -0,0 +1,126 @@
+package com.vzdolci.backend.application.importing;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * RFC 4180 CSV reader. The first record is the header; quoted fields may contain commas,
+ * doubled quotes and line breaks. Empty fields are treated as absent.
+ */
+class CsvProductImportReader implements ProductImportReader {
+
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+    private final BufferedReader reader;
+    private List<String> header;
+    private long lineNumber;
+
+    CsvProductImportReader(BufferedReader reader) {
+        this.reader = reader;
+    }
+
+    @Override
+    public ProductImportRow next() throws IOException {
+        if (header == null) {
+            header = readHeader();
+            if (header == null) {
+                return null;
+            }
+        }
+
+        long recordLine;
+        List<String> values;
+        do {
+            recordLine = lineNumber + 1;
+            values = readRecord();
+            if (values == null) {
+                return null;
+            }
+        } while (values.size() == 1 && values.get(0).isEmpty());
+
+        if (values.size() != header.size()) {
+            return ProductImportRow.invalid(recordLine,
+                    "Expected " + header.size() + " columns but found " + values.size());
+        }
+        Map<String, String> fields = new HashMap<>();
+        for (int i = 0; i < values.size(); i++) {
+            if (!values.get(i).isEmpty()) {
+                fields.put(header.get(i), values.get(i));
+            }
+        }
+        return ProductImportRow.of(recordLine, fields);
+    }
+
+    private List<String> readHeader() throws IOException {
+        List<String> columns = readRecord();
+        if (columns == null) {
+            return null;
+        }
+        List<String> names = new ArrayList<>(columns.size());
+        for (String column : columns) {
+            String name = column.isEmpty() || column.charAt(0) != BYTE_ORDER_MARK ? column : column.substring(1);
+            names.add(name.trim().toLowerCase(Locale.ROOT));
+        }
+        return names;
+    }
+
+    /**
+     * Reads one record, which spans several lines when a quoted field contains line breaks.
+     */
+    private List<String> readRecord() throws IOException {
+        String line = reader.readLine();
+        if (line == null) {
+            return null;
+        }
+        lineNumber++;
+
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+        int i = 0;
+        while (true) {
+            if (i == line.length()) {
+                if (!quoted) {
+                    break;
+                }
+                String continuation = reader.readLine();
+                if (continuation == null) {
+                    // Unterminated quote at end of input: keep what was read
+                    break;
+                }
+                lineNumber++;
+                value.append('\n');
+                line = continuation;
+                i = 0;
+                continue;
+            }
+            char c = line.charAt(i++);
+            if (quoted) {
+                if (c == QUOTE && i < line.length() && line.charAt(i) == QUOTE) {
+                    value.append(QUOTE);
+                    i++;
+                } else if (c == QUOTE) {
+                    quoted = false;
+                } else {
+                    value.append(c);
+                }
+            } else if (c == QUOTE) {
+                quoted = true;
+            } else if (c == SEPARATOR) {
+                values.add(value.toString());
+                value.setLength(0);
+            } else {
+                value.append(c);
+            }
+        }
+        values.add(value.toString());
+        return values;
+    }
+}
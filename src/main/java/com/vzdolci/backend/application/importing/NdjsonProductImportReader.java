@@ -0,0 +1,63 @@
+package com.vzdolci.backend.application.importing;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * NDJSON reader: every non-blank line is a JSON object whose scalar fields become the row fields.
+ */
+class NdjsonProductImportReader implements ProductImportReader {
+
+    private final BufferedReader reader;
+    private final ObjectMapper objectMapper;
+    private long lineNumber;
+
+    NdjsonProductImportReader(BufferedReader reader, ObjectMapper objectMapper) {
+        this.reader = reader;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public ProductImportRow next() throws IOException {
+        String line;
+        do {
+            line = reader.readLine();
+            if (line == null) {
+                return null;
+            }
+            lineNumber++;
+        } while (line.isBlank());
+
+        JsonNode node;
+        try {
+            node = objectMapper.readTree(line);
+        } catch (JsonProcessingException ex) {
+            return ProductImportRow.invalid(lineNumber, "Malformed JSON: " + ex.getOriginalMessage());
+        }
+        if (!node.isObject()) {
+            return ProductImportRow.invalid(lineNumber, "Expected a JSON object");
+        }
+
+        Map<String, String> fields = new HashMap<>();
+        Iterator<Map.Entry<String, JsonNode>> entries = node.fields();
+        while (entries.hasNext()) {
+            Map.Entry<String, JsonNode> entry = entries.next();
+            JsonNode value = entry.getValue();
+            if (value.isNull()) {
+                continue;
+            }
+            if (!value.isValueNode()) {
+                return ProductImportRow.invalid(lineNumber, "Field '" + entry.getKey() + "' must be a scalar value");
+            }
+            fields.put(entry.getKey(), value.asText());
+        }
+        return ProductImportRow.of(lineNumber, fields);
+    }
+}
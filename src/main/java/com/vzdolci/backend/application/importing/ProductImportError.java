@@ -0,0 +1,28 @@
+package com.vzdolci.backend.application.importing;
+
+/**
+ * A record that was not imported, with the line it starts at and the reason.
+ */
+public class ProductImportError {
+    private final long lineNumber;
+    private final String slug;
+    private final String message;
+
+    public ProductImportError(long lineNumber, String slug, String message) {
+        this.lineNumber = lineNumber;
+        this.slug = slug;
+        this.message = message;
+    }
+
+    public long getLineNumber() {
+        return lineNumber;
+    }
+
+    public String getSlug() {
+        return slug;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+}
@@ -0,0 +1,11 @@
+package com.vzdolci.backend.application.importing;
+
+/**
+ * Input formats accepted by the bulk import.
+ */
+public enum ProductImportFormat {
+    /** One JSON object per line. */
+    NDJSON,
+    /** Comma-separated values with a header row naming the columns. */
+    CSV
+}
@@ -0,0 +1,29 @@
+package com.vzdolci.backend.application.importing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Reads an import file one record at a time, so the input is never held in memory as a whole.
+ * A malformed record is returned as an invalid row instead of aborting the whole file.
+ */
+public interface ProductImportReader {
+
+    /**
+     * @return The next record, or null at the end of the input
+     */
+    ProductImportRow next() throws IOException;
+
+    static ProductImportReader open(ProductImportFormat format, InputStream input, ObjectMapper objectMapper) {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        return switch (format) {
+            case NDJSON -> new NdjsonProductImportReader(reader, objectMapper);
+            case CSV -> new CsvProductImportReader(reader);
+        };
+    }
+}
@@ -0,0 +1,50 @@
+package com.vzdolci.backend.application.importing;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Outcome of a bulk import. {@code errors} holds at most the first few failures;
+ * {@code failedRows} always counts all of them.
+ */
+public class ProductImportReport {
+    private final long totalRows;
+    private final long importedRows;
+    private final long failedRows;
+    private final Duration duration;
+    private final List<ProductImportError> errors;
+
+    public ProductImportReport(long totalRows, long importedRows, long failedRows, Duration duration,
+                               List<ProductImportError> errors) {
+        this.totalRows = totalRows;
+        this.importedRows = importedRows;
+        this.failedRows = failedRows;
+        this.duration = duration;
+        this.errors = List.copyOf(errors);
+    }
+
+    public long getTotalRows() {
+        return totalRows;
+    }
+
+    public long getImportedRows() {
+        return importedRows;
+    }
+
+    public long getFailedRows() {
+        return failedRows;
+    }
+
+    public Duration getDuration() {
+        return duration;
+    }
+
+    public List<ProductImportError> getErrors() {
+        return errors;
+    }
+
+    public double getRowsPerSecond() {
+        long nanos = duration.toNanos();
+        return nanos > 0 ? totalRows * 1_000_000_000.0 / nanos : 0.0;
+    }
+}
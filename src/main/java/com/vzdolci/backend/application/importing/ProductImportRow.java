@@ -0,0 +1,42 @@
+package com.vzdolci.backend.application.importing;
+
+import java.util.Map;
+
+/**
+ * One raw record of an import file: its field values as text, or the reason it could not be parsed.
+ */
+public class ProductImportRow {
+    private final long lineNumber;
+    private final Map<String, String> fields;
+    private final String error;
+
+    private ProductImportRow(long lineNumber, Map<String, String> fields, String error) {
+        this.lineNumber = lineNumber;
+        this.fields = fields;
+        this.error = error;
+    }
+
+    public static ProductImportRow of(long lineNumber, Map<String, String> fields) {
+        return new ProductImportRow(lineNumber, fields, null);
+    }
+
+    public static ProductImportRow invalid(long lineNumber, String error) {
+        return new ProductImportRow(lineNumber, Map.of(), error);
+    }
+
+    public long getLineNumber() {
+        return lineNumber;
+    }
+
+    public String get(String field) {
+        return fields.get(field);
+    }
+
+    public boolean isValid() {
+        return error == null;
+    }
+
+    public String getError() {
+        return error;
+    }
+}
@@ -0,0 +1,109 @@
+package com.vzdolci.backend.application.index;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-size Bloom filter over 64-bit key hashes.
+ * {@code mightContain} never returns false for a hash that was put, and returns true for an absent one with
+ * roughly the false-positive rate the filter was sized for, as long as no more than the expected number of keys
+ * is put. Keys cannot be removed. Bits live in an AtomicLongArray, so puts and lookups are safe from any thread
+ * without locking and a put is visible to every lookup that starts after it returns.
+ */
+public final class BloomFilter {
+
+    private static final double LN2 = Math.log(2);
+
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashCount;
+
+    private BloomFilter(long bitCount, int hashCount) {
+        this.bits = new AtomicLongArray((int) (bitCount / Long.SIZE));
+        this.bitCount = bitCount;
+        this.hashCount = hashCount;
+    }
+
+    /**
+     * Creates a filter sized for {@code expectedInsertions} keys at the given false-positive rate.
+     */
+    public static BloomFilter create(int expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions <= 0) {
+            throw new IllegalArgumentException("expectedInsertions must be positive");
+        }
+        if (!(falsePositiveRate > 0 && falsePositiveRate < 1)) {
+            throw new IllegalArgumentException("falsePositiveRate must be between 0 and 1");
+        }
+        double optimalBits = -expectedInsertions * Math.log(falsePositiveRate) / (LN2 * LN2);
+        long words = Math.max(1, (long) Math.ceil(optimalBits / Long.SIZE));
+        if (words > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Filter too large for " + expectedInsertions + " keys");
+        }
+        long bitCount = words * Long.SIZE;
+        int hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * LN2));
+        return new BloomFilter(bitCount, hashCount);
+    }
+
+    public void put(long hash) {
+        long combined = hash;
+        long step = mix(hash) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long index = (combined & Long.MAX_VALUE) % bitCount;
+            bits.getAndAccumulate((int) (index >>> 6), 1L << index, (word, mask) -> word | mask);
+            combined += step;
+        }
+    }
+
+    public boolean mightContain(long hash) {
+        long combined = hash;
+        long step = mix(hash) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long index = (combined & Long.MAX_VALUE) % bitCount;
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+            combined += step;
+        }
+        return true;
+    }
+
+    /**
+     * False-positive rate expected after {@code insertions} distinct keys have been put.
+     */
+    public double expectedFalsePositiveRate(long insertions) {
+        return Math.pow(1 - Math.exp(-(double) hashCount * insertions / bitCount), hashCount);
+    }
+
+    public long getBitCount() {
+        return bitCount;
+    }
+
+    public int getHashCount() {
+        return hashCount;
+    }
+
+    public static long hash(long key) {
+        return mix(key);
+    }
+
+    public static long hash(String key) {
+        // FNV-1a over the UTF-16 code units, then mixed so that similar strings spread over the whole range
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            hash ^= key.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return mix(hash);
+    }
+
+    /**
+     * MurmurHash3 64-bit finalizer.
+     */
+    private static long mix(long key) {
+        key ^= key >>> 33;
+        key *= 0xff51afd7ed558ccdL;
+        key ^= key >>> 33;
+        key *= 0xc4ceb9fe1a85ec53L;
+        key ^= key >>> 33;
+        return key;
+    }
+}
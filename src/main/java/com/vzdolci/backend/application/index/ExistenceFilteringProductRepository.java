@@ -0,0 +1,115 @@
+package com.vzdolci.backend.application.index;
+
+import com.vzdolci.backend.domain.model.CatalogVersion;
+import com.vzdolci.backend.domain.model.Product;
+import com.vzdolci.backend.domain.model.ProductChangeSet;
+import com.vzdolci.backend.domain.model.ProductSummary;
+import com.vzdolci.backend.domain.repository.ProductPageQuery;
+import com.vzdolci.backend.domain.repository.ProductRepository;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Existence filter decorator for ProductRepository.
+ * Lookups by id or slug that the ProductExistenceFilter rules out return empty without reaching the delegate,
+ * so requests for products that do not exist cost no query. Saved products are added to the filter as soon as
+ * the write returns. Sits inside the cache decorator and outside the bulkhead: ruled-out lookups never take
+ * a permit.
+ */
+public class ExistenceFilteringProductRepository implements ProductRepository {
+
+    private final ProductRepository delegate;
+    private final ProductExistenceFilter filter;
+
+    public ExistenceFilteringProductRepository(ProductRepository delegate, ProductExistenceFilter filter) {
+        this.delegate = delegate;
+        this.filter = filter;
+    }
+
+    @Override
+    public List<Product> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public List<Product> findActiveProducts() {
+        return delegate.findActiveProducts();
+    }
+
+    @Override
+    public Optional<Product> findById(Long id) {
+        return filter.mightContainId(id) ? delegate.findById(id) : Optional.empty();
+    }
+
+    @Override
+    public List<Product> findAllByIds(Collection<Long> ids) {
+        List<Long> candidates = ids.stream().filter(filter::mightContainId).toList();
+        return candidates.isEmpty() ? List.of() : delegate.findAllByIds(candidates);
+    }
+
+    @Override
+    public Optional<Product> findBySlug(String slug) {
+        return filter.mightContainSlug(slug) ? delegate.findBySlug(slug) : Optional.empty();
+    }
+
+    @Override
+    public List<ProductSummary> findAllSummaries() {
+        return delegate.findAllSummaries();
+    }
+
+    @Override
+    public List<ProductSummary> findActiveSummaries() {
+        return delegate.findActiveSummaries();
+    }
+
+    @Override
+    public Optional<ProductSummary> findSummaryById(Long id) {
+        return filter.mightContainId(id) ? delegate.findSummaryById(id) : Optional.empty();
+    }
+
+    @Override
+    public CatalogVersion getCatalogVersion(boolean activeOnly) {
+        return delegate.getCatalogVersion(activeOnly);
+    }
+
+    @Override
+    public Optional<OffsetDateTime> findUpdatedAtById(Long id) {
+        return filter.mightContainId(id) ? delegate.findUpdatedAtById(id) : Optional.empty();
+    }
+
+    @Override
+    public List<Product> findPage(ProductPageQuery query) {
+        return delegate.findPage(query);
+    }
+
+    @Override
+    public ProductChangeSet findChangesSince(OffsetDateTime since) {
+        return delegate.findChangesSince(since);
+    }
+
+    @Override
+    public Product save(Product product) {
+        Product saved = delegate.save(product);
+        filter.add(saved);
+        return saved;
+    }
+
+    @Override
+    public void upsertAllBySlug(List<Product> products) {
+        delegate.upsertAllBySlug(products);
+        // The ids assigned to new rows are above every known id, which the filter already lets through
+        for (Product product : products) {
+            if (product.getSlug() != null) {
+                filter.addSlug(product.getSlug());
+            }
+        }
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        delegate.deleteById(id);
+    }
+}
@@ -0,0 +1,256 @@
+package com.vzdolci.backend.application.index;
+
+import com.vzdolci.backend.domain.event.ProductChangeType;
+import com.vzdolci.backend.domain.event.ProductChangedEvent;
+import com.vzdolci.backend.domain.model.Product;
+import com.vzdolci.backend.domain.repository.ProductRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bloom filters over the ids and slugs of every product, answering "definitely absent" without a query.
+ * Products written through this node are added as they are saved and changes from other nodes as their events
+ * arrive; deleted products cannot be removed from a Bloom filter, so the filters are rebuilt from the table
+ * periodically, on resync and when they fill up. Ids above the highest one known are always reported as
+ * possibly present, so a product inserted elsewhere is found even before its change notification arrives.
+ * Until the first build completes every key is reported as possibly present.
+ */
+public class ProductExistenceFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductExistenceFilter.class);
+    private static final int MIN_CAPACITY = 1024;
+
+    private final ProductRepository source;
+    private final double falsePositiveRate;
+    private final Duration rebuildInterval;
+    private final ScheduledExecutorService rebuilder;
+    private final AtomicBoolean started = new AtomicBoolean();
+    private final AtomicBoolean rebuildRequested = new AtomicBoolean();
+    private final Object rebuildLock = new Object();
+    private final Object lock = new Object();
+
+    private volatile Keys keys;
+    /** Keys added while a rebuild reads the table, replayed into the rebuilt filters; guarded by lock. */
+    private List<Entry> addedDuringRebuild;
+
+    private final LongAdder idsAbsent = new LongAdder();
+    private final LongAdder idsPossible = new LongAdder();
+    private final LongAdder slugsAbsent = new LongAdder();
+    private final LongAdder slugsPossible = new LongAdder();
+    private final LongAdder rebuilds = new LongAdder();
+
+    /**
+     * @param source Repository the filters are built from; it should read the table itself, not a cache
+     */
+    public ProductExistenceFilter(ProductRepository source, double falsePositiveRate, Duration rebuildInterval) {
+        this.source = source;
+        this.falsePositiveRate = falsePositiveRate;
+        this.rebuildInterval = rebuildInterval;
+        this.rebuilder = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "product-existence-filter");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * @return false only if no product has this id
+     */
+    public boolean mightContainId(Long id) {
+        Keys current = keys;
+        boolean possible = current == null || id > current.maxId || current.ids.mightContain(BloomFilter.hash(id));
+        (possible ? idsPossible : idsAbsent).increment();
+        return possible;
+    }
+
+    /**
+     * @return false only if no product has this slug
+     */
+    public boolean mightContainSlug(String slug) {
+        Keys current = keys;
+        boolean possible = current == null || current.slugs.mightContain(BloomFilter.hash(slug));
+        (possible ? slugsPossible : slugsAbsent).increment();
+        return possible;
+    }
+
+    public void add(Product product) {
+        add(product.getId(), product.getSlug());
+    }
+
+    public void addSlug(String slug) {
+        add(null, slug);
+    }
+
+    /**
+     * Runs right after the cache eviction, before the subscribers that read the changed product back.
+     */
+    @EventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE + 1)
+    public void onProductChanged(ProductChangedEvent event) {
+        if (event.isResync()) {
+            requestRebuild();
+            return;
+        }
+        if (event.getType() == ProductChangeType.DELETE) {
+            // A deleted key stays a false positive until the next rebuild
+            return;
+        }
+        add(event.getProductId(), null);
+        source.findById(event.getProductId()).ifPresent(this::add);
+    }
+
+    /**
+     * Builds the filters in the background once the context is up, then rebuilds them periodically.
+     */
+    @EventListener(ContextRefreshedEvent.class)
+    public void start() {
+        if (started.compareAndSet(false, true)) {
+            rebuilder.scheduleWithFixedDelay(this::rebuild, 0, rebuildInterval.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    public void rebuild() {
+        synchronized (rebuildLock) {
+            rebuildRequested.set(false);
+            synchronized (lock) {
+                addedDuringRebuild = new ArrayList<>();
+            }
+            try {
+                List<Product> products = source.findAll();
+                Keys rebuilt = new Keys(Math.max(MIN_CAPACITY, products.size() * 2), falsePositiveRate);
+                for (Product product : products) {
+                    rebuilt.add(product.getId(), product.getSlug());
+                }
+                synchronized (lock) {
+                    for (Entry entry : addedDuringRebuild) {
+                        rebuilt.add(entry.id, entry.slug);
+                    }
+                    keys = rebuilt;
+                }
+                rebuilds.increment();
+            } catch (RuntimeException ex) {
+                log.warn("Could not rebuild the product existence filter, keeping the current one: {}",
+                        ex.getMessage());
+            } finally {
+                synchronized (lock) {
+                    addedDuringRebuild = null;
+                }
+            }
+        }
+    }
+
+    public void shutdown() {
+        rebuilder.shutdownNow();
+    }
+
+    public long getIdsAbsent() {
+        return idsAbsent.sum();
+    }
+
+    public long getIdsPossible() {
+        return idsPossible.sum();
+    }
+
+    public long getSlugsAbsent() {
+        return slugsAbsent.sum();
+    }
+
+    public long getSlugsPossible() {
+        return slugsPossible.sum();
+    }
+
+    public long getRebuilds() {
+        return rebuilds.sum();
+    }
+
+    /**
+     * Keys put into the current filters, including those of products deleted since they were built.
+     */
+    public int getEntries() {
+        Keys current = keys;
+        return current == null ? 0 : current.entries;
+    }
+
+    /**
+     * False-positive rate the id filter is expected to have at its current number of entries.
+     */
+    public double getExpectedFalsePositiveRate() {
+        Keys current = keys;
+        return current == null ? 1 : current.ids.expectedFalsePositiveRate(current.entries);
+    }
+
+    private void add(Long id, String slug) {
+        boolean full;
+        synchronized (lock) {
+            Keys current = keys;
+            if (current == null && addedDuringRebuild == null) {
+                // Not built yet; the first build reads this product from the table
+                return;
+            }
+            if (addedDuringRebuild != null) {
+                addedDuringRebuild.add(new Entry(id, slug));
+            }
+            full = current != null && current.add(id, slug) > current.capacity;
+        }
+        if (full) {
+            requestRebuild();
+        }
+    }
+
+    private void requestRebuild() {
+        if (rebuildRequested.compareAndSet(false, true)) {
+            rebuilder.execute(this::rebuild);
+        }
+    }
+
+    /**
+     * One generation of the filters; only mutated under the lock, read without it.
+     */
+    private static final class Keys {
+        private final BloomFilter ids;
+        private final BloomFilter slugs;
+        private final int capacity;
+        private volatile long maxId = Long.MIN_VALUE;
+        private volatile int entries;
+
+        private Keys(int capacity, double falsePositiveRate) {
+            this.ids = BloomFilter.create(capacity, falsePositiveRate);
+            this.slugs = BloomFilter.create(capacity, falsePositiveRate);
+            this.capacity = capacity;
+        }
+
+        private int add(Long id, String slug) {
+            if (id != null) {
+                ids.put(BloomFilter.hash(id));
+                maxId = Math.max(maxId, id);
+            }
+            if (slug != null) {
+                slugs.put(BloomFilter.hash(slug));
+            }
+            return ++entries;
+        }
+    }
+
+    private static final class Entry {
+        private final Long id;
+        private final String slug;
+
+        private Entry(Long id, String slug) {
+            this.id = id;
+            this.slug = slug;
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.vzdolci.backend.application.index;
+
+import com.vzdolci.backend.domain.event.ProductChangedEvent;
+import com.vzdolci.backend.domain.model.Product;
+import com.vzdolci.backend.domain.repository.ProductRepository;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * In-memory slug → product index.
+ * Lookups read an immutable map through a volatile reference, so they take no lock and run in O(1).
+ * Changes build a modified copy of the map and swap it in atomically (copy-on-write); a single product
+ * change only re-reads that product, while a resync rebuilds the whole index from the catalog. Changes applied
+ * while a rebuild reads the catalog are replayed onto its result, so the rebuild cannot undo them.
+ */
+@Component
+public class ProductSlugIndex {
+
+    private final ProductRepository productRepository;
+    private final Object writeLock = new Object();
+
+    private volatile Map<String, Product> bySlug;
+    /** Products changed while a rebuild reads the catalog, null when removed; guarded by writeLock. */
+    private Map<Long, Product> changedDuringRebuild;
+
+    public ProductSlugIndex(ProductRepository productRepository) {
+        this.productRepository = productRepository;
+    }
+
+    /**
+     * Looks the slug up in the index, falling back to the slug query on a miss.
+     */
+    public Optional<Product> findBySlug(String slug) {
+        Product product = index().get(slug);
+        if (product != null) {
+            return Optional.of(product);
+        }
+        Optional<Product> loaded = productRepository.findBySlug(slug);
+        loaded.ifPresent(this::upsert);
+        return loaded;
+    }
+
+    @EventListener
+    public void onProductChanged(ProductChangedEvent event) {
+        if (!isBuiltOrBuilding()) {
+            return;
+        }
+        if (event.isResync()) {
+            rebuild();
+            return;
+        }
+        switch (event.getType()) {
+            case DELETE -> remove(event.getProductId());
+            default -> productRepository.findById(event.getProductId())
+                    .ifPresentOrElse(this::upsert, () -> remove(event.getProductId()));
+        }
+    }
+
+    /**
+     * Rebuilds the index from the catalog. Rebuilds are serialized, so each one replays every change made
+     * since its own read of the catalog.
+     */
+    public synchronized void rebuild() {
+        synchronized (writeLock) {
+            changedDuringRebuild = new LinkedHashMap<>();
+        }
+        try {
+            Map<String, Product> index = new HashMap<>();
+            for (Product product : productRepository.findAll()) {
+                if (product.getSlug() != null) {
+                    index.put(product.getSlug(), product);
+                }
+            }
+            synchronized (writeLock) {
+                // The catalog may have been read before these changes; replayed so the swap does not undo them
+                changedDuringRebuild.forEach((productId, product) -> apply(index, productId, product));
+                bySlug = Map.copyOf(index);
+            }
+        } finally {
+            synchronized (writeLock) {
+                changedDuringRebuild = null;
+            }
+        }
+    }
+
+    private Map<String, Product> index() {
+        Map<String, Product> index = bySlug;
+        if (index == null) {
+            synchronized (this) {
+                if (bySlug == null) {
+                    rebuild();
+                }
+                index = bySlug;
+            }
+        }
+        return index;
+    }
+
+    private boolean isBuiltOrBuilding() {
+        synchronized (writeLock) {
+            return bySlug != null || changedDuringRebuild != null;
+        }
+    }
+
+    private void upsert(Product product) {
+        change(product.getId(), product);
+    }
+
+    private void remove(Long productId) {
+        change(productId, null);
+    }
+
+    private void change(Long productId, Product product) {
+        synchronized (writeLock) {
+            if (changedDuringRebuild != null) {
+                changedDuringRebuild.put(productId, product);
+            }
+            if (bySlug != null) {
+                Map<String, Product> copy = new HashMap<>(bySlug);
+                apply(copy, productId, product);
+                bySlug = Map.copyOf(copy);
+            }
+        }
+    }
+
+    /**
+     * Replaces the product's entry in a mutable copy of the index, or removes it if {@code product} is null.
+     */
+    private static void apply(Map<String, Product> index, Long productId, Product product) {
+        // A product may have been renamed, so its old slug is found by id
+        index.values().removeIf(indexed -> indexed.getId().equals(productId));
+        if (product != null && product.getSlug() != null) {
+            index.put(product.getSlug(), product);
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package com.vzdolci.backend.application.mapper;
 
 import com.vzdolci.backend.domain.model.Product;
+import com.vzdolci.backend.domain.model.ProductSummary;
 import com.vzdolci.backend.infrastructure.persistence.entity.ProductEntity;
+import com.vzdolci.backend.infrastructure.persistence.projection.ProductSummaryView;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
@@ -33,6 +35,21 @@ public class ProductMapper {
         return product;
     }
     
+    public ProductSummary toSummary(ProductSummaryView view) {
+        if (view == null) {
+            return null;
+        }
+        
+        return new ProductSummary(
+            view.getId(),
+            view.getName(),
+            view.getPriceCents() != null 
+                ? BigDecimal.valueOf(view.getPriceCents()).movePointLeft(2) 
+                : null,
+            view.getEmoji()
+        );
+    }
+    
     public ProductEntity toEntity(Product product) {
         if (product == null) {
             return null;
@@ -0,0 +1,108 @@
+package com.vzdolci.backend.application.pagination;
+
+import com.vzdolci.backend.application.exception.InvalidRequestException;
+import com.vzdolci.backend.domain.model.Product;
+import com.vzdolci.backend.domain.model.ProductSortField;
+
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Opaque pagination cursor.
+ * Captures the listing parameters together with the sort key and id of the last product of a page,
+ * and is serialized as URL-safe Base64 so clients treat it as a token rather than something to build.
+ */
+public class ProductCursor {
+
+    private static final String VERSION = "v1";
+    private static final String SEPARATOR = "|";
+
+    private final ProductSortField sortField;
+    private final boolean descending;
+    private final boolean activeOnly;
+    private final Long lastId;
+    private final Object lastValue;
+
+    public ProductCursor(ProductSortField sortField, boolean descending, boolean activeOnly,
+                         Long lastId, Object lastValue) {
+        this.sortField = sortField;
+        this.descending = descending;
+        this.activeOnly = activeOnly;
+        this.lastId = lastId;
+        this.lastValue = lastValue;
+    }
+
+    public static ProductCursor after(Product product, ProductSortField sortField,
+                                      boolean descending, boolean activeOnly) {
+        return new ProductCursor(sortField, descending, activeOnly, product.getId(), sortValueOf(product, sortField));
+    }
+
+    public static ProductCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            // The sort value goes last so that names containing the separator survive the split
+            String[] parts = raw.split("\\" + SEPARATOR, 6);
+            if (parts.length != 6 || !VERSION.equals(parts[0])) {
+                throw new InvalidRequestException("Invalid pagination cursor");
+            }
+            ProductSortField sortField = ProductSortField.valueOf(parts[1]);
+            boolean descending = Boolean.parseBoolean(parts[2]);
+            boolean activeOnly = Boolean.parseBoolean(parts[3]);
+            Long lastId = Long.valueOf(parts[4]);
+            return new ProductCursor(sortField, descending, activeOnly, lastId, parseValue(sortField, parts[5]));
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw new InvalidRequestException("Invalid pagination cursor");
+        }
+    }
+
+    public String encode() {
+        String raw = String.join(SEPARATOR,
+                VERSION,
+                sortField.name(),
+                String.valueOf(descending),
+                String.valueOf(activeOnly),
+                String.valueOf(lastId),
+                lastValue == null ? "" : lastValue.toString());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Object sortValueOf(Product product, ProductSortField sortField) {
+        return switch (sortField) {
+            case ID -> null;
+            case NAME -> product.getName();
+            case PRICE_CENTS -> product.getPrice().movePointRight(2).intValueExact();
+            case CREATED_AT -> product.getCreatedAt();
+        };
+    }
+
+    private static Object parseValue(ProductSortField sortField, String value) {
+        return switch (sortField) {
+            case ID -> null;
+            case NAME -> value;
+            case PRICE_CENTS -> Integer.valueOf(value);
+            case CREATED_AT -> OffsetDateTime.parse(value);
+        };
+    }
+
+    public ProductSortField getSortField() {
+        return sortField;
+    }
+
+    public boolean isDescending() {
+        return descending;
+    }
+
+    public boolean isActiveOnly() {
+        return activeOnly;
+    }
+
+    public Long getLastId() {
+        return lastId;
+    }
+
+    public Object getLastValue() {
+        return lastValue;
+    }
+}
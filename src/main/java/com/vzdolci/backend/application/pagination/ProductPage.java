@@ -0,0 +1,26 @@
+package com.vzdolci.backend.application.pagination;
+
+import com.vzdolci.backend.domain.model.Product;
+
+import java.util.List;
+
+/**
+ * One page of products plus the cursor of the following page ({@code null} on the last page).
+ */
+public class ProductPage {
+    private final List<Product> items;
+    private final String nextCursor;
+
+    public ProductPage(List<Product> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<Product> getItems() {
+        return items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+}
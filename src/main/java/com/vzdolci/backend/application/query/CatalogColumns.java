@@ -0,0 +1,111 @@
+package com.vzdolci.backend.application.query;
+
+import com.vzdolci.backend.application.search.TextAnalyzer;
+import com.vzdolci.backend.domain.model.Product;
+import com.vzdolci.backend.domain.model.ProductSortField;
+
+import java.time.OffsetDateTime;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Immutable column-oriented copy of the catalog.
+ * Row {@code i} is the i-th product by id; prices are an {@code int[]} of cents and the active flag a bitset,
+ * so filters scan primitives only. Every supported ordering is precomputed as a permutation of row numbers
+ * (ties broken by id); ordering by id is the row order itself.
+ */
+final class CatalogColumns {
+
+    private final Product[] products;
+    private final int[] priceCents;
+    private final BitSet active;
+    private final int maxPriceCents;
+    private final int[] byName;
+    private final int[] byPrice;
+    private final int[] byCreatedAt;
+
+    private CatalogColumns(Product[] products, int[] priceCents, BitSet active, int maxPriceCents,
+                           int[] byName, int[] byPrice, int[] byCreatedAt) {
+        this.products = products;
+        this.priceCents = priceCents;
+        this.active = active;
+        this.maxPriceCents = maxPriceCents;
+        this.byName = byName;
+        this.byPrice = byPrice;
+        this.byCreatedAt = byCreatedAt;
+    }
+
+    static CatalogColumns of(List<Product> catalog) {
+        Product[] products = catalog.stream()
+                .sorted(Comparator.comparing(Product::getId))
+                .toArray(Product[]::new);
+        int size = products.length;
+
+        int[] priceCents = new int[size];
+        String[] foldedNames = new String[size];
+        BitSet active = new BitSet(size);
+        int maxPriceCents = 0;
+        for (int row = 0; row < size; row++) {
+            Product product = products[row];
+            priceCents[row] = product.getPrice().movePointRight(2).intValueExact();
+            maxPriceCents = Math.max(maxPriceCents, priceCents[row]);
+            foldedNames[row] = TextAnalyzer.fold(product.getName());
+            if (Boolean.TRUE.equals(product.getIsActive())) {
+                active.set(row);
+            }
+        }
+
+        // Rows are in id order, so comparing row numbers breaks ties by id
+        int[] byName = sortedRows(size, Comparator.<Integer, String>comparing(row -> foldedNames[row])
+                .thenComparingInt(row -> row));
+        int[] byPrice = sortedRows(size, Comparator.<Integer>comparingInt(row -> priceCents[row])
+                .thenComparingInt(row -> row));
+        int[] byCreatedAt = sortedRows(size, Comparator.<Integer, OffsetDateTime>comparing(
+                        row -> products[row].getCreatedAt(), Comparator.nullsFirst(Comparator.naturalOrder()))
+                .thenComparingInt(row -> row));
+        return new CatalogColumns(products, priceCents, active, maxPriceCents, byName, byPrice, byCreatedAt);
+    }
+
+    int size() {
+        return products.length;
+    }
+
+    Product product(int row) {
+        return products[row];
+    }
+
+    int[] priceCents() {
+        return priceCents;
+    }
+
+    BitSet active() {
+        return active;
+    }
+
+    int maxPriceCents() {
+        return maxPriceCents;
+    }
+
+    /**
+     * Rows in ascending order of the field, or {@code null} for the natural (id) order.
+     */
+    int[] order(ProductSortField sortField) {
+        return switch (sortField) {
+            case ID -> null;
+            case NAME -> byName;
+            case PRICE_CENTS -> byPrice;
+            case CREATED_AT -> byCreatedAt;
+        };
+    }
+
+    private static int[] sortedRows(int size, Comparator<Integer> comparator) {
+        // Boxing is confined to the rebuild; queries only walk the resulting int[]
+        return IntStream.range(0, size)
+                .boxed()
+                .sorted(comparator)
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+}
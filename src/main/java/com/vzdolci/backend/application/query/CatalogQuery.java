@@ -0,0 +1,63 @@
+package com.vzdolci.backend.application.query;
+
+import com.vzdolci.backend.domain.model.ProductSortField;
+
+/**
+ * Filters, ordering and facet settings of a catalog query, with prices already in cents.
+ * {@code active} is {@code null} when the active flag is not filtered; absent price bounds are
+ * {@code 0} and {@link Integer#MAX_VALUE}.
+ */
+public class CatalogQuery {
+    private final int minPriceCents;
+    private final int maxPriceCents;
+    private final Boolean active;
+    private final ProductSortField sortField;
+    private final boolean descending;
+    private final int offset;
+    private final int limit;
+    private final int priceBucketCents;
+
+    public CatalogQuery(int minPriceCents, int maxPriceCents, Boolean active, ProductSortField sortField,
+                        boolean descending, int offset, int limit, int priceBucketCents) {
+        this.minPriceCents = minPriceCents;
+        this.maxPriceCents = maxPriceCents;
+        this.active = active;
+        this.sortField = sortField;
+        this.descending = descending;
+        this.offset = offset;
+        this.limit = limit;
+        this.priceBucketCents = priceBucketCents;
+    }
+
+    public int getMinPriceCents() {
+        return minPriceCents;
+    }
+
+    public int getMaxPriceCents() {
+        return maxPriceCents;
+    }
+
+    public Boolean getActive() {
+        return active;
+    }
+
+    public ProductSortField getSortField() {
+        return sortField;
+    }
+
+    public boolean isDescending() {
+        return descending;
+    }
+
+    public int getOffset() {
+        return offset;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getPriceBucketCents() {
+        return priceBucketCents;
+    }
+}
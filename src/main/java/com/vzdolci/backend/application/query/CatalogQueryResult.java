@@ -0,0 +1,69 @@
+package com.vzdolci.backend.application.query;
+
+import com.vzdolci.backend.domain.model.Product;
+
+import java.util.List;
+
+/**
+ * One page of a catalog query plus its facet counts.
+ * Each facet is counted over the products matching every filter except its own, so the counts show what
+ * the result would be when that filter is changed: {@code priceBucketCounts[i]} holds the products priced in
+ * {@code [i * priceBucketCents, (i + 1) * priceBucketCents)}, ignoring the price range, and the active and
+ * inactive counts ignore the active filter. When the catalog prices would need more than
+ * {@link ProductCatalogQuery#MAX_PRICE_BUCKETS} buckets, the last one is open-ended and also holds every price
+ * above it.
+ */
+public class CatalogQueryResult {
+    private final List<Product> items;
+    private final int total;
+    private final int priceBucketCents;
+    private final int[] priceBucketCounts;
+    private final boolean lastPriceBucketOpen;
+    private final int activeCount;
+    private final int inactiveCount;
+
+    public CatalogQueryResult(List<Product> items, int total, int priceBucketCents, int[] priceBucketCounts,
+                              boolean lastPriceBucketOpen, int activeCount, int inactiveCount) {
+        this.items = items;
+        this.total = total;
+        this.priceBucketCents = priceBucketCents;
+        this.priceBucketCounts = priceBucketCounts;
+        this.lastPriceBucketOpen = lastPriceBucketOpen;
+        this.activeCount = activeCount;
+        this.inactiveCount = inactiveCount;
+    }
+
+    public List<Product> getItems() {
+        return items;
+    }
+
+    /**
+     * Number of products matching all filters, regardless of offset and limit.
+     */
+    public int getTotal() {
+        return total;
+    }
+
+    public int getPriceBucketCents() {
+        return priceBucketCents;
+    }
+
+    public int[] getPriceBucketCounts() {
+        return priceBucketCounts;
+    }
+
+    /**
+     * Whether the last price bucket has no upper bound.
+     */
+    public boolean isLastPriceBucketOpen() {
+        return lastPriceBucketOpen;
+    }
+
+    public int getActiveCount() {
+        return activeCount;
+    }
+
+    public int getInactiveCount() {
+        return inactiveCount;
+    }
+}
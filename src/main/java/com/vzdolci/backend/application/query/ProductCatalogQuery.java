@@ -0,0 +1,177 @@
+package com.vzdolci.backend.application.query;
+
+import com.vzdolci.backend.domain.event.ProductChangedEvent;
+import com.vzdolci.backend.domain.model.Product;
+import com.vzdolci.backend.domain.repository.ProductRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Faceted filtering and sorting over an in-memory columnar snapshot of the catalog.
+ * A query is one pass over the price and active columns that marks the matching rows and counts the facets,
+ * followed by a walk of the precomputed permutation for the requested order; nothing is boxed and no
+ * {@code BigDecimal} is touched. Product changes schedule a rebuild on a background thread a short delay later,
+ * so a burst of changes costs one rebuild and the thread publishing the event never pays for it; the new
+ * snapshot is built off to the side and published with a single volatile write, so queries never see a
+ * half-built one and never wait for a rebuild.
+ */
+public class ProductCatalogQuery {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductCatalogQuery.class);
+
+    /** Upper bound on the number of price buckets; prices beyond the last one are counted in it. */
+    public static final int MAX_PRICE_BUCKETS = 1000;
+
+    private final ProductRepository productRepository;
+    private final Duration rebuildDelay;
+    private final ScheduledExecutorService rebuilder;
+    private final AtomicBoolean rebuildScheduled = new AtomicBoolean();
+
+    private volatile CatalogColumns columns;
+
+    /**
+     * @param rebuildDelay How long after a change the snapshot is rebuilt; changes within it share the rebuild
+     */
+    public ProductCatalogQuery(ProductRepository productRepository, Duration rebuildDelay) {
+        this.productRepository = productRepository;
+        this.rebuildDelay = rebuildDelay;
+        this.rebuilder = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "catalog-query-rebuild");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public CatalogQueryResult query(CatalogQuery query) {
+        CatalogColumns snapshot = ensureBuilt();
+        int size = snapshot.size();
+        int[] priceCents = snapshot.priceCents();
+        BitSet active = snapshot.active();
+
+        int bucketWidth = query.getPriceBucketCents();
+        // A single outlier price must not make narrow buckets unusable: past the limit, the last bucket is open-ended
+        int neededBuckets = snapshot.maxPriceCents() / bucketWidth + 1;
+        boolean overflowBucket = neededBuckets > MAX_PRICE_BUCKETS;
+        int lastBucket = Math.min(neededBuckets, MAX_PRICE_BUCKETS) - 1;
+        int[] priceBuckets = new int[lastBucket + 1];
+
+        int minPrice = query.getMinPriceCents();
+        int maxPrice = query.getMaxPriceCents();
+        boolean filterActive = query.getActive() != null;
+        boolean wantActive = Boolean.TRUE.equals(query.getActive());
+
+        BitSet matches = new BitSet(size);
+        int total = 0;
+        int activeCount = 0;
+        int inactiveCount = 0;
+        for (int row = 0; row < size; row++) {
+            int price = priceCents[row];
+            boolean isActive = active.get(row);
+            boolean priceMatches = price >= minPrice && price <= maxPrice;
+            boolean activeMatches = !filterActive || isActive == wantActive;
+            if (activeMatches) {
+                priceBuckets[Math.min(price / bucketWidth, lastBucket)]++;
+            }
+            if (priceMatches) {
+                if (isActive) {
+                    activeCount++;
+                } else {
+                    inactiveCount++;
+                }
+                if (activeMatches) {
+                    matches.set(row);
+                    total++;
+                }
+            }
+        }
+
+        List<Product> items = page(snapshot, matches, total, query);
+        return new CatalogQueryResult(items, total, bucketWidth, priceBuckets, overflowBucket,
+                activeCount, inactiveCount);
+    }
+
+    @EventListener
+    public void onProductChanged(ProductChangedEvent event) {
+        if (columns != null && rebuildScheduled.compareAndSet(false, true)) {
+            try {
+                rebuilder.schedule(this::scheduledRebuild, rebuildDelay.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException ex) {
+                // Shutting down
+            }
+        }
+    }
+
+    public void shutdown() {
+        rebuilder.shutdownNow();
+    }
+
+    /**
+     * Builds a new snapshot from the current catalog and publishes it.
+     * Rebuilds are serialized, so a slower build started earlier can never replace a newer snapshot.
+     */
+    public synchronized void rebuild() {
+        columns = CatalogColumns.of(productRepository.findAll());
+    }
+
+    private void scheduledRebuild() {
+        // Cleared first, so that a change arriving during the rebuild schedules another one
+        rebuildScheduled.set(false);
+        try {
+            rebuild();
+        } catch (RuntimeException ex) {
+            // The next change schedules another rebuild; until then queries use the current snapshot
+            log.warn("Could not rebuild the catalog query snapshot: {}", ex.getMessage());
+        }
+    }
+
+    private CatalogColumns ensureBuilt() {
+        CatalogColumns snapshot = columns;
+        if (snapshot == null) {
+            synchronized (this) {
+                if (columns == null) {
+                    rebuild();
+                }
+                snapshot = columns;
+            }
+        }
+        return snapshot;
+    }
+
+    private static List<Product> page(CatalogColumns snapshot, BitSet matches, int total, CatalogQuery query) {
+        int offset = query.getOffset();
+        if (offset >= total) {
+            return List.of();
+        }
+        int size = snapshot.size();
+        int[] order = snapshot.order(query.getSortField());
+        boolean descending = query.isDescending();
+        int limit = Math.min(query.getLimit(), total - offset);
+
+        List<Product> items = new ArrayList<>(limit);
+        int skipped = 0;
+        for (int position = 0; position < size && items.size() < limit; position++) {
+            int index = descending ? size - 1 - position : position;
+            int row = order == null ? index : order[index];
+            if (!matches.get(row)) {
+                continue;
+            }
+            if (skipped < offset) {
+                skipped++;
+                continue;
+            }
+            items.add(snapshot.product(row));
+        }
+        return items;
+    }
+}
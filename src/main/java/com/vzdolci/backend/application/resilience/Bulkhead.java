@@ -0,0 +1,98 @@
+package com.vzdolci.backend.application.resilience;
+
+import com.vzdolci.backend.application.exception.ServiceUnavailableException;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Semaphore bulkhead: limits how many calls run at once and sheds callers that cannot get a permit
+ * within a short wait, instead of letting them queue on the resource behind it.
+ * A thread that already holds a permit (e.g. an event listener reading the catalog during a write)
+ * passes through without taking a second one, so nested calls cannot starve themselves.
+ */
+public class Bulkhead {
+
+    private final String name;
+    private final int maxConcurrentCalls;
+    private final long maxWaitNanos;
+    private final Duration retryAfter;
+    private final Semaphore permits;
+    private final ThreadLocal<Boolean> holdingPermit = new ThreadLocal<>();
+    private final LongAdder rejectedCalls = new LongAdder();
+
+    public Bulkhead(String name, int maxConcurrentCalls, Duration maxWait, Duration retryAfter) {
+        if (maxConcurrentCalls <= 0) {
+            throw new IllegalArgumentException("maxConcurrentCalls must be positive: " + maxConcurrentCalls);
+        }
+        this.name = name;
+        this.maxConcurrentCalls = maxConcurrentCalls;
+        this.maxWaitNanos = maxWait.toNanos();
+        this.retryAfter = retryAfter;
+        // Fair, so that waiting callers are served in arrival order
+        this.permits = new Semaphore(maxConcurrentCalls, true);
+    }
+
+    /**
+     * Runs the action under a permit.
+     *
+     * @throws ServiceUnavailableException if no permit became available within the maximum wait
+     */
+    public <T> T call(Supplier<T> action) {
+        if (holdingPermit.get() != null) {
+            return action.get();
+        }
+        acquire();
+        holdingPermit.set(Boolean.TRUE);
+        try {
+            return action.get();
+        } finally {
+            holdingPermit.remove();
+            permits.release();
+        }
+    }
+
+    public void run(Runnable action) {
+        call(() -> {
+            action.run();
+            return null;
+        });
+    }
+
+    private void acquire() {
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            rejectedCalls.increment();
+            throw new ServiceUnavailableException("Service is busy, please retry later", retryAfter);
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getMaxConcurrentCalls() {
+        return maxConcurrentCalls;
+    }
+
+    public int getActiveCalls() {
+        return maxConcurrentCalls - permits.availablePermits();
+    }
+
+    public int getQueuedCalls() {
+        return permits.getQueueLength();
+    }
+
+    public long getRejectedCalls() {
+        return rejectedCalls.sum();
+    }
+}
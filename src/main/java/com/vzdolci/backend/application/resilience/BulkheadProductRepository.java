@@ -0,0 +1,105 @@
+package com.vzdolci.backend.application.resilience;
+
+import com.vzdolci.backend.domain.model.CatalogVersion;
+import com.vzdolci.backend.domain.model.Product;
+import com.vzdolci.backend.domain.model.ProductChangeSet;
+import com.vzdolci.backend.domain.model.ProductSummary;
+import com.vzdolci.backend.domain.repository.ProductPageQuery;
+import com.vzdolci.backend.domain.repository.ProductRepository;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Bulkhead decorator for ProductRepository.
+ * Every call that reaches the database runs under a permit of a bulkhead sized to the connection pool,
+ * so excess requests are rejected after a short wait instead of queueing for a connection.
+ * Sits inside the cache decorator: cache hits never take a permit.
+ */
+public class BulkheadProductRepository implements ProductRepository {
+    
+    private final ProductRepository delegate;
+    private final Bulkhead bulkhead;
+    
+    public BulkheadProductRepository(ProductRepository delegate, Bulkhead bulkhead) {
+        this.delegate = delegate;
+        this.bulkhead = bulkhead;
+    }
+    
+    @Override
+    public List<Product> findAll() {
+        return bulkhead.call(delegate::findAll);
+    }
+    
+    @Override
+    public List<Product> findActiveProducts() {
+        return bulkhead.call(delegate::findActiveProducts);
+    }
+    
+    @Override
+    public Optional<Product> findById(Long id) {
+        return bulkhead.call(() -> delegate.findById(id));
+    }
+    
+    @Override
+    public List<Product> findAllByIds(Collection<Long> ids) {
+        return bulkhead.call(() -> delegate.findAllByIds(ids));
+    }
+    
+    @Override
+    public Optional<Product> findBySlug(String slug) {
+        return bulkhead.call(() -> delegate.findBySlug(slug));
+    }
+    
+    @Override
+    public List<ProductSummary> findAllSummaries() {
+        return bulkhead.call(delegate::findAllSummaries);
+    }
+    
+    @Override
+    public List<ProductSummary> findActiveSummaries() {
+        return bulkhead.call(delegate::findActiveSummaries);
+    }
+    
+    @Override
+    public Optional<ProductSummary> findSummaryById(Long id) {
+        return bulkhead.call(() -> delegate.findSummaryById(id));
+    }
+    
+    @Override
+    public CatalogVersion getCatalogVersion(boolean activeOnly) {
+        return bulkhead.call(() -> delegate.getCatalogVersion(activeOnly));
+    }
+    
+    @Override
+    public Optional<OffsetDateTime> findUpdatedAtById(Long id) {
+        return bulkhead.call(() -> delegate.findUpdatedAtById(id));
+    }
+    
+    @Override
+    public List<Product> findPage(ProductPageQuery query) {
+        return bulkhead.call(() -> delegate.findPage(query));
+    }
+    
+    @Override
+    public ProductChangeSet findChangesSince(OffsetDateTime since) {
+        return bulkhead.call(() -> delegate.findChangesSince(since));
+    }
+    
+    @Override
+    public Product save(Product product) {
+        return bulkhead.call(() -> delegate.save(product));
+    }
+    
+    @Override
+    public void upsertAllBySlug(List<Product> products) {
+        bulkhead.run(() -> delegate.upsertAllBySlug(products));
+    }
+    
+    @Override
+    public void deleteById(Long id) {
+        bulkhead.run(() -> delegate.deleteById(id));
+    }
+}
@@ -0,0 +1,96 @@
+package com.vzdolci.backend.application.search;
+
+/**
+ * Light stemmer for Portuguese, in the spirit of the RSLP plural/feminine reduction steps.
+ * Works on accent-folded, lower-case words and only strips inflections (plural, feminine,
+ * diminutive and the final vowel), which is enough to match "bolos"/"bolinho"/"bolo"
+ * or "chocolates"/"chocolate" without the over-stemming of an aggressive algorithm.
+ */
+public final class PortugueseStemmer {
+
+    private static final int MIN_LENGTH = 4;
+
+    private PortugueseStemmer() {
+    }
+
+    public static String stem(String word) {
+        if (word.length() < MIN_LENGTH) {
+            return word;
+        }
+        String stem = reducePlural(word);
+        stem = reduceFeminine(stem);
+        stem = reduceDiminutive(stem);
+        return removeFinalVowel(stem);
+    }
+
+    private static String reducePlural(String word) {
+        if (!word.endsWith("s") || word.endsWith("ss") || word.length() < MIN_LENGTH) {
+            return word;
+        }
+        if (word.endsWith("oes") || word.endsWith("aes")) {
+            return replaceSuffix(word, 3, "ao");
+        }
+        if (word.endsWith("ais")) {
+            return replaceSuffix(word, 3, "al");
+        }
+        if (word.endsWith("eis")) {
+            return replaceSuffix(word, 3, "el");
+        }
+        if (word.endsWith("ois")) {
+            return replaceSuffix(word, 3, "ol");
+        }
+        if (word.endsWith("ns")) {
+            return replaceSuffix(word, 2, "m");
+        }
+        if (word.length() > 4 && (word.endsWith("res") || word.endsWith("zes"))) {
+            return word.substring(0, word.length() - 2);
+        }
+        return word.substring(0, word.length() - 1);
+    }
+
+    private static String reduceFeminine(String word) {
+        if (!word.endsWith("a") || word.length() <= MIN_LENGTH) {
+            return word;
+        }
+        if (word.endsWith("inha")) {
+            return replaceSuffix(word, 4, "inho");
+        }
+        if (word.endsWith("eira")) {
+            return replaceSuffix(word, 4, "eiro");
+        }
+        if (word.endsWith("ona")) {
+            return replaceSuffix(word, 3, "ao");
+        }
+        if (word.endsWith("ora")) {
+            return replaceSuffix(word, 3, "or");
+        }
+        if (word.endsWith("osa") || word.endsWith("iva") || word.endsWith("ada") || word.endsWith("ida")) {
+            return replaceSuffix(word, 1, "o");
+        }
+        return word;
+    }
+
+    private static String reduceDiminutive(String word) {
+        if (word.endsWith("zinho") && word.length() > 7) {
+            return word.substring(0, word.length() - 5);
+        }
+        if (word.endsWith("inho") && word.length() > 6) {
+            return word.substring(0, word.length() - 4);
+        }
+        return word;
+    }
+
+    private static String removeFinalVowel(String word) {
+        if (word.length() < MIN_LENGTH) {
+            return word;
+        }
+        char last = word.charAt(word.length() - 1);
+        return last == 'a' || last == 'e' || last == 'o'
+            ? word.substring(0, word.length() - 1)
+            : word;
+    }
+
+    private static String replaceSuffix(String word, int suffixLength, String replacement) {
+        return word.substring(0, word.length() - suffixLength) + replacement;
+    }
+}
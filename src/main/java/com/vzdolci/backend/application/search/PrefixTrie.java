@@ -0,0 +1,72 @@
+package com.vzdolci.backend.application.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Character trie of words, used to expand an autocomplete prefix into the indexed words it starts.
+ * Not thread-safe; guarded by the owning index.
+ */
+class PrefixTrie {
+
+    private final Node root = new Node();
+
+    void insert(String word) {
+        Node node = root;
+        for (int i = 0; i < word.length(); i++) {
+            node = node.children.computeIfAbsent(word.charAt(i), key -> new Node());
+        }
+        node.terminal = true;
+    }
+
+    void remove(String word) {
+        Node node = find(word);
+        if (node != null) {
+            node.terminal = false;
+        }
+    }
+
+    /**
+     * @return Up to {@code limit} words starting with the prefix, in lexicographic order
+     */
+    List<String> wordsWithPrefix(String prefix, int limit) {
+        List<String> words = new ArrayList<>();
+        Node node = find(prefix);
+        if (node != null) {
+            collect(node, new StringBuilder(prefix), words, limit);
+        }
+        return words;
+    }
+
+    private Node find(String word) {
+        Node node = root;
+        for (int i = 0; i < word.length() && node != null; i++) {
+            node = node.children.get(word.charAt(i));
+        }
+        return node;
+    }
+
+    private static void collect(Node node, StringBuilder word, List<String> words, int limit) {
+        if (words.size() >= limit) {
+            return;
+        }
+        if (node.terminal) {
+            words.add(word.toString());
+        }
+        for (Map.Entry<Character, Node> child : node.children.entrySet()) {
+            word.append(child.getKey());
+            collect(child.getValue(), word, words, limit);
+            word.setLength(word.length() - 1);
+            if (words.size() >= limit) {
+                return;
+            }
+        }
+    }
+
+    private static final class Node {
+        private final Map<Character, Node> children = new TreeMap<>();
+        private boolean terminal;
+    }
+}
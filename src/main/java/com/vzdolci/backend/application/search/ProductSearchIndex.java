@@ -0,0 +1,331 @@
+package com.vzdolci.backend.application.search;
+
+import com.vzdolci.backend.domain.event.ProductChangedEvent;
+import com.vzdolci.backend.domain.model.Product;
+import com.vzdolci.backend.domain.repository.ProductRepository;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory full-text index over the active products.
+ * Name, description and ingredients are analyzed into stemmed terms and kept in an inverted index
+ * (term → product → term frequency) ranked with BM25; name words are also kept in a prefix trie for
+ * autocomplete. Queries hold the read lock; a product change re-indexes only that product, and a resync
+ * builds a fresh index off-lock and swaps it in, after replaying the changes applied while it was being built.
+ */
+@Component
+public class ProductSearchIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    /** Name matches count as this many occurrences, so they outrank description/ingredient matches. */
+    private static final int NAME_WEIGHT = 3;
+    /** Upper bound on trie words a single autocomplete prefix expands to. */
+    private static final int MAX_PREFIX_EXPANSIONS = 64;
+
+    private final ProductRepository productRepository;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private IndexState state;
+    /** Products changed while a rebuild reads the catalog, null when no longer indexed; guarded by lock. */
+    private Map<Long, Product> changedDuringRebuild;
+
+    public ProductSearchIndex(ProductRepository productRepository) {
+        this.productRepository = productRepository;
+    }
+
+    /**
+     * Ranks products matching any of the query terms.
+     *
+     * @param query Free text, e.g. "bolo de chocolate"
+     * @param limit Maximum number of hits
+     * @return Hits ordered by descending BM25 score
+     */
+    public List<SearchHit> search(String query, int limit) {
+        List<String> terms = new ArrayList<>(new LinkedHashSet<>(TextAnalyzer.terms(query)));
+        if (terms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        ensureBuilt();
+        lock.readLock().lock();
+        try {
+            return state.search(terms, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Suggests products whose name contains every typed word, the last one as a prefix
+     * ("bolo choc" → "Bolo de Chocolate").
+     *
+     * @param input Text typed so far
+     * @param limit Maximum number of suggestions
+     * @return Products ordered by name relevance: names starting with the input first, then shorter names
+     */
+    public List<Product> autocomplete(String input, int limit) {
+        List<String> words = TextAnalyzer.words(input);
+        if (words.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        ensureBuilt();
+        lock.readLock().lock();
+        try {
+            return state.autocomplete(words, TextAnalyzer.fold(input).trim(), limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @EventListener
+    public void onProductChanged(ProductChangedEvent event) {
+        if (!isBuiltOrBuilding()) {
+            return;
+        }
+        if (event.isResync()) {
+            rebuild();
+            return;
+        }
+        Product product = switch (event.getType()) {
+            case DELETE -> null;
+            default -> productRepository.findById(event.getProductId())
+                    .filter(found -> Boolean.TRUE.equals(found.getIsActive()))
+                    .orElse(null);
+        };
+        lock.writeLock().lock();
+        try {
+            if (changedDuringRebuild != null) {
+                changedDuringRebuild.put(event.getProductId(), product);
+            }
+            if (state != null) {
+                state.replace(event.getProductId(), product);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Rebuilds the index from the active products. Rebuilds are serialized, so each one replays every change
+     * made since its own read of the catalog.
+     */
+    public synchronized void rebuild() {
+        setChangedDuringRebuild(new LinkedHashMap<>());
+        try {
+            IndexState rebuilt = new IndexState();
+            for (Product product : productRepository.findActiveProducts()) {
+                rebuilt.add(product);
+            }
+            lock.writeLock().lock();
+            try {
+                // The catalog may have been read before these changes; replayed so the swap does not undo them
+                changedDuringRebuild.forEach(rebuilt::replace);
+                state = rebuilt;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } finally {
+            setChangedDuringRebuild(null);
+        }
+    }
+
+    private void setChangedDuringRebuild(Map<Long, Product> changes) {
+        lock.writeLock().lock();
+        try {
+            changedDuringRebuild = changes;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private boolean isBuilt() {
+        lock.readLock().lock();
+        try {
+            return state != null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private boolean isBuiltOrBuilding() {
+        lock.readLock().lock();
+        try {
+            return state != null || changedDuringRebuild != null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void ensureBuilt() {
+        if (!isBuilt()) {
+            synchronized (this) {
+                if (!isBuilt()) {
+                    rebuild();
+                }
+            }
+        }
+    }
+
+    private static final class IndexState {
+        private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+        private final Map<String, Set<Long>> productsByNameWord = new HashMap<>();
+        private final Map<Long, IndexedProduct> documents = new HashMap<>();
+        private final PrefixTrie nameWords = new PrefixTrie();
+        private long totalLength;
+
+        void add(Product product) {
+            Map<String, Integer> frequencies = new HashMap<>();
+            addTerms(frequencies, product.getName(), NAME_WEIGHT);
+            addTerms(frequencies, product.getDescription(), 1);
+            addTerms(frequencies, product.getIngredients(), 1);
+
+            int length = 0;
+            for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+                postings.computeIfAbsent(entry.getKey(), term -> new HashMap<>()).put(product.getId(), entry.getValue());
+                length += entry.getValue();
+            }
+            Set<String> words = new HashSet<>(TextAnalyzer.words(product.getName()));
+            for (String word : words) {
+                productsByNameWord.computeIfAbsent(word, key -> new HashSet<>()).add(product.getId());
+                nameWords.insert(word);
+            }
+            documents.put(product.getId(), new IndexedProduct(product, frequencies.keySet(), words,
+                    TextAnalyzer.fold(product.getName()), length));
+            totalLength += length;
+        }
+
+        /**
+         * Re-indexes the product, or only removes it if {@code product} is null.
+         */
+        void replace(Long productId, Product product) {
+            remove(productId);
+            if (product != null) {
+                add(product);
+            }
+        }
+
+        void remove(Long productId) {
+            IndexedProduct document = documents.remove(productId);
+            if (document == null) {
+                return;
+            }
+            for (String term : document.terms) {
+                Map<Long, Integer> posting = postings.get(term);
+                posting.remove(productId);
+                if (posting.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+            for (String word : document.nameWords) {
+                Set<Long> products = productsByNameWord.get(word);
+                products.remove(productId);
+                if (products.isEmpty()) {
+                    productsByNameWord.remove(word);
+                    nameWords.remove(word);
+                }
+            }
+            totalLength -= document.length;
+        }
+
+        List<SearchHit> search(List<String> terms, int limit) {
+            int documentCount = documents.size();
+            if (documentCount == 0) {
+                return List.of();
+            }
+            double averageLength = (double) totalLength / documentCount;
+
+            Map<Long, Double> scores = new HashMap<>();
+            for (String term : terms) {
+                Map<Long, Integer> posting = postings.get(term);
+                if (posting == null) {
+                    continue;
+                }
+                double idf = Math.log(1 + (documentCount - posting.size() + 0.5) / (posting.size() + 0.5));
+                for (Map.Entry<Long, Integer> entry : posting.entrySet()) {
+                    int frequency = entry.getValue();
+                    double normalizedLength = documents.get(entry.getKey()).length / averageLength;
+                    double score = idf * frequency * (K1 + 1) / (frequency + K1 * (1 - B + B * normalizedLength));
+                    scores.merge(entry.getKey(), score, Double::sum);
+                }
+            }
+
+            // Top-k selection: a min-heap of size k keeps the best hits in O(n log k)
+            Comparator<Map.Entry<Long, Double>> byRelevance = Map.Entry.<Long, Double>comparingByValue()
+                    .thenComparing(Map.Entry.<Long, Double>comparingByKey().reversed());
+            PriorityQueue<Map.Entry<Long, Double>> top = new PriorityQueue<>(limit + 1, byRelevance);
+            for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+                top.offer(entry);
+                if (top.size() > limit) {
+                    top.poll();
+                }
+            }
+            List<SearchHit> hits = new ArrayList<>(top.size());
+            while (!top.isEmpty()) {
+                Map.Entry<Long, Double> entry = top.poll();
+                hits.add(new SearchHit(documents.get(entry.getKey()).product, entry.getValue()));
+            }
+            Collections.reverse(hits);
+            return hits;
+        }
+
+        List<Product> autocomplete(List<String> words, String foldedInput, int limit) {
+            List<String> completeWords = words.subList(0, words.size() - 1);
+            String prefix = words.get(words.size() - 1);
+
+            List<IndexedProduct> candidates = new ArrayList<>();
+            Set<Long> seen = new HashSet<>();
+            for (String word : nameWords.wordsWithPrefix(prefix, MAX_PREFIX_EXPANSIONS)) {
+                for (Long productId : productsByNameWord.getOrDefault(word, Set.of())) {
+                    IndexedProduct document = documents.get(productId);
+                    if (seen.add(productId) && document.nameWords.containsAll(completeWords)) {
+                        candidates.add(document);
+                    }
+                }
+            }
+            candidates.sort(Comparator
+                    .comparing((IndexedProduct document) -> !document.foldedName.startsWith(foldedInput))
+                    .thenComparingInt(document -> document.foldedName.length())
+                    .thenComparing(document -> document.foldedName));
+            return candidates.stream()
+                    .limit(limit)
+                    .map(document -> document.product)
+                    .toList();
+        }
+
+        private static void addTerms(Map<String, Integer> frequencies, String text, int weight) {
+            for (String term : TextAnalyzer.terms(text)) {
+                frequencies.merge(term, weight, Integer::sum);
+            }
+        }
+    }
+
+    private static final class IndexedProduct {
+        private final Product product;
+        private final Set<String> terms;
+        private final Set<String> nameWords;
+        private final String foldedName;
+        private final int length;
+
+        IndexedProduct(Product product, Set<String> terms, Set<String> nameWords, String foldedName, int length) {
+            this.product = product;
+            this.terms = terms;
+            this.nameWords = nameWords;
+            this.foldedName = foldedName;
+            this.length = length;
+        }
+    }
+}
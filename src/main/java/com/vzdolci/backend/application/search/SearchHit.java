@@ -0,0 +1,24 @@
+package com.vzdolci.backend.application.search;
+
+import com.vzdolci.backend.domain.model.Product;
+
+/**
+ * A product matched by a search, with its BM25 relevance score.
+ */
+public class SearchHit {
+    private final Product product;
+    private final double score;
+
+    public SearchHit(Product product, double score) {
+        this.product = product;
+        this.score = score;
+    }
+
+    public Product getProduct() {
+        return product;
+    }
+
+    public double getScore() {
+        return score;
+    }
+}
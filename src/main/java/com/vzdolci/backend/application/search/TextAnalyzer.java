@@ -0,0 +1,62 @@
+package com.vzdolci.backend.application.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Turns product text into search terms: accent folding, lower-casing, tokenization,
+ * Portuguese stop-word removal and stemming.
+ */
+public final class TextAnalyzer {
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern NON_WORD = Pattern.compile("[^a-z0-9]+");
+    private static final Set<String> STOP_WORDS = Set.of(
+        "a", "o", "as", "os", "ao", "aos", "de", "da", "do", "das", "dos", "e", "em", "no", "na", "nos", "nas",
+        "com", "sem", "para", "por", "um", "uma", "uns", "umas", "que", "se"
+    );
+
+    private TextAnalyzer() {
+    }
+
+    /**
+     * Removes diacritics and lower-cases the text ("Pão de Mel" → "pao de mel").
+     */
+    public static String fold(String text) {
+        if (text == null || text.isEmpty()) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        return DIACRITICS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Folded words of the text, without stemming; used for prefix matching.
+     */
+    public static List<String> words(String text) {
+        List<String> words = new ArrayList<>();
+        for (String word : NON_WORD.split(fold(text))) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+
+    /**
+     * Index terms of the text: folded words without stop words, stemmed.
+     */
+    public static List<String> terms(String text) {
+        List<String> terms = new ArrayList<>();
+        for (String word : words(text)) {
+            if (!STOP_WORDS.contains(word)) {
+                terms.add(PortugueseStemmer.stem(word));
+            }
+        }
+        return terms;
+    }
+}
@@ -0,0 +1,41 @@
+package com.vzdolci.backend.application.sync;
+
+import com.vzdolci.backend.domain.model.Product;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * Incremental sync result: active products to upsert, IDs to drop (deactivated or deleted) and the
+ * watermark to send as {@code since} on the next sync.
+ */
+public class ProductChanges {
+    private final List<Product> updated;
+    private final List<Long> deactivatedIds;
+    private final List<Long> deletedIds;
+    private final OffsetDateTime watermark;
+
+    public ProductChanges(List<Product> updated, List<Long> deactivatedIds, List<Long> deletedIds,
+                          OffsetDateTime watermark) {
+        this.updated = updated;
+        this.deactivatedIds = deactivatedIds;
+        this.deletedIds = deletedIds;
+        this.watermark = watermark;
+    }
+
+    public List<Product> getUpdated() {
+        return updated;
+    }
+
+    public List<Long> getDeactivatedIds() {
+        return deactivatedIds;
+    }
+
+    public List<Long> getDeletedIds() {
+        return deletedIds;
+    }
+
+    public OffsetDateTime getWatermark() {
+        return watermark;
+    }
+}
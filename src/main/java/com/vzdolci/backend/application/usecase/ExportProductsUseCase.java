@@ -0,0 +1,92 @@
+package com.vzdolci.backend.application.usecase;
+
+import com.vzdolci.backend.application.exception.ServiceUnavailableException;
+import com.vzdolci.backend.application.export.ProductJsonExporter;
+import io.micrometer.core.annotation.Timed;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Use case for exporting the product listing as a stream.
+ * Unlike {@link GetAllProductsUseCase}, nothing is materialised: rows go from the database to the
+ * output stream as they are read, so it suits catalogs too large to hold in memory.
+ * Each export holds a pooled connection for as long as the client takes to read it, so only a fixed number
+ * run at once; callers beyond that are turned away instead of draining the pool.
+ */
+@Timed("vzdolci.usecase")
+public class ExportProductsUseCase {
+    
+    private final ProductJsonExporter productJsonExporter;
+    private final int maxConcurrentExports;
+    private final Duration retryAfter;
+    private final Semaphore slots;
+    private final LongAdder rejectedExports = new LongAdder();
+    
+    public ExportProductsUseCase(ProductJsonExporter productJsonExporter, int maxConcurrentExports,
+                                 Duration retryAfter) {
+        if (maxConcurrentExports <= 0) {
+            throw new IllegalArgumentException("maxConcurrentExports must be positive: " + maxConcurrentExports);
+        }
+        this.productJsonExporter = productJsonExporter;
+        this.maxConcurrentExports = maxConcurrentExports;
+        this.retryAfter = retryAfter;
+        this.slots = new Semaphore(maxConcurrentExports);
+    }
+    
+    /**
+     * Reserves one of the export slots. Called on the request thread before the response is committed, so
+     * that a busy instance can still answer 503; {@link #execute} releases the slot when the export ends.
+     *
+     * @throws ServiceUnavailableException if every slot is in use
+     */
+    public ExportSlot reserve() {
+        if (!slots.tryAcquire()) {
+            rejectedExports.increment();
+            throw new ServiceUnavailableException("Too many exports in progress, please retry later", retryAfter);
+        }
+        return new ExportSlot(slots);
+    }
+    
+    public long execute(ExportSlot slot, boolean activeOnly, OutputStream out) throws IOException {
+        try {
+            return productJsonExporter.writeAll(activeOnly, out);
+        } finally {
+            slot.release();
+        }
+    }
+    
+    public int getMaxConcurrentExports() {
+        return maxConcurrentExports;
+    }
+    
+    public int getActiveExports() {
+        return maxConcurrentExports - slots.availablePermits();
+    }
+    
+    public long getRejectedExports() {
+        return rejectedExports.sum();
+    }
+    
+    /**
+     * A reserved export slot; releasing it more than once has no effect.
+     */
+    public static final class ExportSlot {
+        private final Semaphore slots;
+        private final AtomicBoolean released = new AtomicBoolean();
+        
+        private ExportSlot(Semaphore slots) {
+            this.slots = slots;
+        }
+        
+        public void release() {
+            if (released.compareAndSet(false, true)) {
+                slots.release();
+            }
+        }
+    }
+}
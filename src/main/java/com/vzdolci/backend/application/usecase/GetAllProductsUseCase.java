@@ -1,7 +1,10 @@
 package com.vzdolci.backend.application.usecase;
 
+import com.vzdolci.backend.application.coalescing.SingleFlight;
 import com.vzdolci.backend.domain.model.Product;
+import com.vzdolci.backend.domain.model.ProductSummary;
 import com.vzdolci.backend.domain.repository.ProductRepository;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -10,21 +13,34 @@ import java.util.List;
  * Use case for retrieving all products.
  * This service depends on the domain repository interface, not on infrastructure.
  * Follows the Dependency Inversion Principle - depends on abstraction, not concretions.
+ * Concurrent loads of the same full list (all or active only) share a single repository call.
  */
 @Service
+@Timed("vzdolci.usecase")
 public class GetAllProductsUseCase {
     
     private final ProductRepository productRepository;
+    private final SingleFlight<Boolean, List<Product>> productListFlight;
     
-    public GetAllProductsUseCase(ProductRepository productRepository) {
+    public GetAllProductsUseCase(ProductRepository productRepository,
+                                 SingleFlight<Boolean, List<Product>> productListFlight) {
         this.productRepository = productRepository;
+        this.productListFlight = productListFlight;
     }
     
     public List<Product> execute() {
-        return productRepository.findAll();
+        return productListFlight.execute(Boolean.FALSE, productRepository::findAll);
     }
     
     public List<Product> executeActiveOnly() {
-        return productRepository.findActiveProducts();
+        return productListFlight.execute(Boolean.TRUE, productRepository::findActiveProducts);
+    }
+    
+    public List<ProductSummary> executeSummaries() {
+        return productRepository.findAllSummaries();
+    }
+    
+    public List<ProductSummary> executeActiveOnlySummaries() {
+        return productRepository.findActiveSummaries();
     }
 }
@@ -0,0 +1,43 @@
+package com.vzdolci.backend.application.usecase;
+
+import com.vzdolci.backend.application.coalescing.SingleFlight;
+import com.vzdolci.backend.application.exception.NotFoundException;
+import com.vzdolci.backend.domain.model.CatalogVersion;
+import com.vzdolci.backend.domain.repository.ProductRepository;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.stereotype.Service;
+
+import java.time.OffsetDateTime;
+import java.util.Optional;
+
+/**
+ * Use case for retrieving catalog version data used as HTTP validators.
+ * Only reads aggregate or single-column data, never whole products.
+ * Validators are looked up before every conditional read, so concurrent lookups of the same key share a single
+ * repository load, like the reads they guard.
+ */
+@Service
+@Timed("vzdolci.usecase")
+public class GetCatalogVersionUseCase {
+    
+    private final ProductRepository productRepository;
+    private final SingleFlight<Boolean, CatalogVersion> catalogVersionFlight;
+    private final SingleFlight<Long, Optional<OffsetDateTime>> productVersionFlight;
+    
+    public GetCatalogVersionUseCase(ProductRepository productRepository,
+                                    SingleFlight<Boolean, CatalogVersion> catalogVersionFlight,
+                                    SingleFlight<Long, Optional<OffsetDateTime>> productVersionFlight) {
+        this.productRepository = productRepository;
+        this.catalogVersionFlight = catalogVersionFlight;
+        this.productVersionFlight = productVersionFlight;
+    }
+    
+    public CatalogVersion execute(boolean activeOnly) {
+        return catalogVersionFlight.execute(activeOnly, () -> productRepository.getCatalogVersion(activeOnly));
+    }
+    
+    public OffsetDateTime executeForProduct(Long id) {
+        return productVersionFlight.execute(id, () -> productRepository.findUpdatedAtById(id))
+                .orElseThrow(() -> new NotFoundException("Product not found with id: " + id));
+    }
+}
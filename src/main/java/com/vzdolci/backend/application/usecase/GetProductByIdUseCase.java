@@ -1,26 +1,41 @@
 package com.vzdolci.backend.application.usecase;
 
+import com.vzdolci.backend.application.coalescing.SingleFlight;
 import com.vzdolci.backend.application.exception.NotFoundException;
 import com.vzdolci.backend.domain.model.Product;
+import com.vzdolci.backend.domain.model.ProductSummary;
 import com.vzdolci.backend.domain.repository.ProductRepository;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.stereotype.Service;
 
+import java.util.Optional;
+
 /**
  * Use case for retrieving a product by its ID.
  * This service depends on the domain repository interface, not on infrastructure.
  * Follows the Dependency Inversion Principle - depends on abstraction, not concretions.
+ * Concurrent lookups of the same id share a single repository load.
  */
 @Service
+@Timed("vzdolci.usecase")
 public class GetProductByIdUseCase {
     
     private final ProductRepository productRepository;
+    private final SingleFlight<Long, Optional<Product>> productByIdFlight;
     
-    public GetProductByIdUseCase(ProductRepository productRepository) {
+    public GetProductByIdUseCase(ProductRepository productRepository,
+                                 SingleFlight<Long, Optional<Product>> productByIdFlight) {
         this.productRepository = productRepository;
+        this.productByIdFlight = productByIdFlight;
     }
     
     public Product execute(Long id) {
-        return productRepository.findById(id)
+        return productByIdFlight.execute(id, () -> productRepository.findById(id))
+                .orElseThrow(() -> new NotFoundException("Product not found with id: " + id));
+    }
+    
+    public ProductSummary executeSummary(Long id) {
+        return productRepository.findSummaryById(id)
                 .orElseThrow(() -> new NotFoundException("Product not found with id: " + id));
     }
 }
@@ -0,0 +1,27 @@
+package com.vzdolci.backend.application.usecase;
+
+import com.vzdolci.backend.application.exception.NotFoundException;
+import com.vzdolci.backend.application.index.ProductSlugIndex;
+import com.vzdolci.backend.domain.model.Product;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.stereotype.Service;
+
+/**
+ * Use case for retrieving a product by its slug, as used by the storefront URLs.
+ * Lookups are served by the in-memory slug index; only index misses reach the database.
+ */
+@Service
+@Timed("vzdolci.usecase")
+public class GetProductBySlugUseCase {
+    
+    private final ProductSlugIndex productSlugIndex;
+    
+    public GetProductBySlugUseCase(ProductSlugIndex productSlugIndex) {
+        this.productSlugIndex = productSlugIndex;
+    }
+    
+    public Product execute(String slug) {
+        return productSlugIndex.findBySlug(slug)
+                .orElseThrow(() -> new NotFoundException("Product not found with slug: " + slug));
+    }
+}
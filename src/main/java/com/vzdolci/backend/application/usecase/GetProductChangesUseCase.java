@@ -0,0 +1,50 @@
+package com.vzdolci.backend.application.usecase;
+
+import com.vzdolci.backend.application.sync.ProductChanges;
+import com.vzdolci.backend.domain.model.Product;
+import com.vzdolci.backend.domain.model.ProductChangeSet;
+import com.vzdolci.backend.domain.repository.ProductRepository;
+import io.micrometer.core.annotation.Timed;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Use case for delta sync: what changed in the catalog after a watermark.
+ * updated_at and deleted_at are set when the writing transaction starts, so a transaction still running
+ * at read time can later commit rows stamped before the read. The returned watermark therefore lags the
+ * read by {@code overlap}: the next sync asks for that window again and picks up such rows, at the cost of
+ * re-sending recent changes (applying them twice is harmless). Transactions longer than the overlap can
+ * still be missed.
+ */
+@Timed("vzdolci.usecase")
+public class GetProductChangesUseCase {
+    
+    private final ProductRepository productRepository;
+    private final Duration overlap;
+    
+    public GetProductChangesUseCase(ProductRepository productRepository, Duration overlap) {
+        this.productRepository = productRepository;
+        this.overlap = overlap;
+    }
+    
+    public ProductChanges execute(OffsetDateTime since) {
+        ProductChangeSet changeSet = productRepository.findChangesSince(since);
+        
+        List<Product> updated = new ArrayList<>();
+        List<Long> deactivatedIds = new ArrayList<>();
+        for (Product product : changeSet.getChanged()) {
+            if (Boolean.TRUE.equals(product.getIsActive())) {
+                updated.add(product);
+            } else {
+                deactivatedIds.add(product.getId());
+            }
+        }
+        
+        OffsetDateTime watermark = changeSet.getConsistentAt().minus(overlap).withOffsetSameInstant(ZoneOffset.UTC);
+        return new ProductChanges(updated, deactivatedIds, changeSet.getDeletedIds(), watermark);
+    }
+}
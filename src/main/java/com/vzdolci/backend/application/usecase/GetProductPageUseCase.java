@@ -0,0 +1,82 @@
+package com.vzdolci.backend.application.usecase;
+
+import com.vzdolci.backend.application.exception.InvalidRequestException;
+import com.vzdolci.backend.application.pagination.ProductCursor;
+import com.vzdolci.backend.application.pagination.ProductPage;
+import com.vzdolci.backend.domain.model.Product;
+import com.vzdolci.backend.domain.model.ProductSortField;
+import com.vzdolci.backend.domain.repository.ProductPageQuery;
+import com.vzdolci.backend.domain.repository.ProductRepository;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Use case for retrieving products one page at a time.
+ * Uses keyset pagination: the cursor carries the position of the last product returned, so every page
+ * is a bounded index seek instead of an OFFSET scan.
+ */
+@Service
+@Timed("vzdolci.usecase")
+public class GetProductPageUseCase {
+    
+    public static final int MAX_LIMIT = 100;
+    
+    private final ProductRepository productRepository;
+    
+    public GetProductPageUseCase(ProductRepository productRepository) {
+        this.productRepository = productRepository;
+    }
+    
+    /**
+     * Returns the first page for the given ordering, or the page following {@code cursor}.
+     * When a cursor is given, its sort order and filter take precedence over the other arguments.
+     */
+    public ProductPage execute(String sort, String direction, boolean activeOnly, String cursor, int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new InvalidRequestException("limit must be between 1 and " + MAX_LIMIT);
+        }
+        
+        ProductCursor position = cursor != null && !cursor.isBlank()
+            ? ProductCursor.decode(cursor)
+            : new ProductCursor(parseSortField(sort), parseDescending(direction), activeOnly, null, null);
+        
+        // Fetch one extra row to find out whether a next page exists
+        List<Product> products = productRepository.findPage(new ProductPageQuery(
+                position.getSortField(),
+                position.isDescending(),
+                position.isActiveOnly(),
+                position.getLastValue(),
+                position.getLastId(),
+                limit + 1));
+        
+        if (products.size() <= limit) {
+            return new ProductPage(products, null);
+        }
+        
+        List<Product> items = products.subList(0, limit);
+        String nextCursor = ProductCursor.after(items.get(limit - 1), position.getSortField(),
+                position.isDescending(), position.isActiveOnly()).encode();
+        return new ProductPage(items, nextCursor);
+    }
+    
+    private ProductSortField parseSortField(String sort) {
+        try {
+            return ProductSortField.valueOf(sort.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidRequestException("sort must be one of: id, name, price_cents, created_at");
+        }
+    }
+    
+    private boolean parseDescending(String direction) {
+        if ("asc".equalsIgnoreCase(direction)) {
+            return false;
+        }
+        if ("desc".equalsIgnoreCase(direction)) {
+            return true;
+        }
+        throw new InvalidRequestException("direction must be asc or desc");
+    }
+}
@@ -0,0 +1,58 @@
+package com.vzdolci.backend.application.usecase;
+
+import com.vzdolci.backend.application.exception.InvalidRequestException;
+import com.vzdolci.backend.domain.model.Product;
+import com.vzdolci.backend.domain.repository.ProductRepository;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Use case for retrieving several products by ID at once, e.g. for cart and favorites pages.
+ * All IDs are resolved with one repository call instead of one lookup per product.
+ */
+@Service
+@Timed("vzdolci.usecase")
+public class GetProductsByIdsUseCase {
+    
+    public static final int MAX_IDS = 100;
+    
+    private final ProductRepository productRepository;
+    
+    public GetProductsByIdsUseCase(ProductRepository productRepository) {
+        this.productRepository = productRepository;
+    }
+    
+    /**
+     * @return One entry per distinct requested ID, in request order; empty when the product does not exist
+     */
+    public Map<Long, Optional<Product>> execute(List<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            throw new InvalidRequestException("ids must not be empty");
+        }
+        if (ids.contains(null)) {
+            throw new InvalidRequestException("ids must not contain null values");
+        }
+        Set<Long> distinctIds = new LinkedHashSet<>(ids);
+        if (distinctIds.size() > MAX_IDS) {
+            throw new InvalidRequestException("At most " + MAX_IDS + " ids can be requested at once");
+        }
+        
+        Map<Long, Product> found = productRepository.findAllByIds(distinctIds).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+        
+        Map<Long, Optional<Product>> products = new LinkedHashMap<>();
+        for (Long id : distinctIds) {
+            products.put(id, Optional.ofNullable(found.get(id)));
+        }
+        return products;
+    }
+}
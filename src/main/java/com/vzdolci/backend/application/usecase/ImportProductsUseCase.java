@@ -0,0 +1,194 @@
+package com.vzdolci.backend.application.usecase;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vzdolci.backend.application.importing.ProductImportError;
+import com.vzdolci.backend.application.importing.ProductImportFormat;
+import com.vzdolci.backend.application.importing.ProductImportReader;
+import com.vzdolci.backend.application.importing.ProductImportReport;
+import com.vzdolci.backend.application.importing.ProductImportRow;
+import com.vzdolci.backend.domain.event.ProductChangedEvent;
+import com.vzdolci.backend.domain.model.Product;
+import com.vzdolci.backend.domain.repository.ProductRepository;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Use case for the bulk catalog import (e.g. the nightly supplier sync).
+ * Records are streamed from the input and upserted by slug in chunks, each chunk being one JDBC batch
+ * in its own transaction. When a chunk fails, its rows are retried one by one so that only the offending
+ * rows are reported as errors. Chunks already written stay committed; importing the same file again is
+ * harmless since rows are matched by slug.
+ */
+@Timed("vzdolci.usecase")
+public class ImportProductsUseCase {
+    
+    private static final int MAX_NAME_LENGTH = 150;
+    private static final int MAX_SLUG_LENGTH = 160;
+    private static final int MAX_EMOJI_LENGTH = 16;
+    /** price_cents is an INTEGER column. */
+    private static final BigDecimal MAX_PRICE = BigDecimal.valueOf(Integer.MAX_VALUE, 2);
+    
+    private final ProductRepository productRepository;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int chunkSize;
+    private final int maxReportedErrors;
+    
+    public ImportProductsUseCase(ProductRepository productRepository, ObjectMapper objectMapper,
+                                 ApplicationEventPublisher eventPublisher, int chunkSize, int maxReportedErrors) {
+        this.productRepository = productRepository;
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+        this.chunkSize = chunkSize;
+        this.maxReportedErrors = maxReportedErrors;
+    }
+    
+    public ProductImportReport execute(InputStream input, ProductImportFormat format) {
+        long startedAt = System.nanoTime();
+        ImportRun run = new ImportRun();
+        ProductImportReader reader = ProductImportReader.open(format, input, objectMapper);
+        try {
+            ProductImportRow row;
+            while ((row = reader.next()) != null) {
+                run.totalRows++;
+                if (!row.isValid()) {
+                    run.fail(row.getLineNumber(), null, row.getError());
+                    continue;
+                }
+                try {
+                    run.add(row.getLineNumber(), toProduct(row));
+                } catch (IllegalArgumentException ex) {
+                    run.fail(row.getLineNumber(), row.get("slug"), ex.getMessage());
+                }
+                if (run.chunk.size() >= chunkSize) {
+                    run.flush();
+                }
+            }
+            run.flush();
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to read the import input", ex);
+        } finally {
+            if (run.importedRows > 0) {
+                // Bulk writes publish no per-product events, so in-memory catalog state is rebuilt once
+                eventPublisher.publishEvent(ProductChangedEvent.resync());
+            }
+        }
+        return new ProductImportReport(run.totalRows, run.importedRows, run.failedRows,
+                Duration.ofNanos(System.nanoTime() - startedAt), run.errors);
+    }
+    
+    private static Product toProduct(ProductImportRow row) {
+        Product product = new Product();
+        product.setSlug(required(row, "slug", MAX_SLUG_LENGTH));
+        product.setName(required(row, "name", MAX_NAME_LENGTH));
+        product.setPrice(parsePrice(row.get("price")));
+        product.setDescription(row.get("description"));
+        product.setIngredients(row.get("ingredients"));
+        product.setStory(row.get("story"));
+        product.setEmoji(limited("emoji", row.get("emoji"), MAX_EMOJI_LENGTH));
+        product.setIsActive(parseActive(row.get("active")));
+        return product;
+    }
+    
+    private static String required(ProductImportRow row, String field, int maxLength) {
+        String value = row.get(field);
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("Missing required field '" + field + "'");
+        }
+        return limited(field, value.trim(), maxLength);
+    }
+    
+    private static String limited(String field, String value, int maxLength) {
+        if (value != null && value.codePointCount(0, value.length()) > maxLength) {
+            throw new IllegalArgumentException("Field '" + field + "' exceeds " + maxLength + " characters");
+        }
+        return value;
+    }
+    
+    private static BigDecimal parsePrice(String value) {
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("Missing required field 'price'");
+        }
+        BigDecimal price;
+        try {
+            price = new BigDecimal(value.trim().replace(',', '.'));
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("Invalid price: " + value);
+        }
+        if (price.signum() < 0 || price.stripTrailingZeros().scale() > 2) {
+            throw new IllegalArgumentException("Price must be a non-negative amount with at most 2 decimals: " + value);
+        }
+        if (price.compareTo(MAX_PRICE) > 0) {
+            throw new IllegalArgumentException("Price exceeds " + MAX_PRICE + ": " + value);
+        }
+        return price.setScale(2);
+    }
+    
+    private static Boolean parseActive(String value) {
+        if (value == null) {
+            return Boolean.TRUE;
+        }
+        return switch (value.trim().toLowerCase(Locale.ROOT)) {
+            case "true", "1", "yes", "sim" -> Boolean.TRUE;
+            case "false", "0", "no", "nao" -> Boolean.FALSE;
+            default -> throw new IllegalArgumentException("Invalid value for 'active': " + value);
+        };
+    }
+    
+    /**
+     * Mutable state of one import: the pending chunk and the running totals.
+     */
+    private final class ImportRun {
+        private final List<Product> chunk = new ArrayList<>();
+        private final List<Long> chunkLines = new ArrayList<>();
+        private final List<ProductImportError> errors = new ArrayList<>();
+        private long totalRows;
+        private long importedRows;
+        private long failedRows;
+        
+        void add(long lineNumber, Product product) {
+            chunk.add(product);
+            chunkLines.add(lineNumber);
+        }
+        
+        void flush() {
+            if (chunk.isEmpty()) {
+                return;
+            }
+            try {
+                productRepository.upsertAllBySlug(chunk);
+                importedRows += chunk.size();
+            } catch (DataAccessException ex) {
+                // The chunk was rolled back as a whole; retry row by row to isolate the failing rows
+                for (int i = 0; i < chunk.size(); i++) {
+                    Product product = chunk.get(i);
+                    try {
+                        productRepository.upsertAllBySlug(List.of(product));
+                        importedRows++;
+                    } catch (DataAccessException rowEx) {
+                        fail(chunkLines.get(i), product.getSlug(), rowEx.getMostSpecificCause().getMessage());
+                    }
+                }
+            }
+            chunk.clear();
+            chunkLines.clear();
+        }
+        
+        void fail(long lineNumber, String slug, String message) {
+            failedRows++;
+            if (errors.size() < maxReportedErrors) {
+                errors.add(new ProductImportError(lineNumber, slug, message));
+            }
+        }
+    }
+}
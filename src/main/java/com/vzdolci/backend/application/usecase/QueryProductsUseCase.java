@@ -0,0 +1,86 @@
+package com.vzdolci.backend.application.usecase;
+
+import com.vzdolci.backend.application.exception.InvalidRequestException;
+import com.vzdolci.backend.application.query.CatalogQuery;
+import com.vzdolci.backend.application.query.CatalogQueryResult;
+import com.vzdolci.backend.application.query.ProductCatalogQuery;
+import com.vzdolci.backend.domain.model.ProductSortField;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Locale;
+
+/**
+ * Use case for faceted catalog queries: price range and active filters, sorting and facet counts.
+ * Answered by the in-memory columnar snapshot; no query reaches the database.
+ */
+@Service
+@Timed("vzdolci.usecase")
+public class QueryProductsUseCase {
+    
+    public static final int MAX_LIMIT = 100;
+    
+    private final ProductCatalogQuery productCatalogQuery;
+    
+    public QueryProductsUseCase(ProductCatalogQuery productCatalogQuery) {
+        this.productCatalogQuery = productCatalogQuery;
+    }
+    
+    /**
+     * Runs the query. Prices are in the currency unit (e.g. {@code 12.50}); the range bounds are inclusive.
+     */
+    public CatalogQueryResult execute(BigDecimal minPrice, BigDecimal maxPrice, Boolean active, String sort,
+                                      String direction, int offset, int limit, BigDecimal priceBucket) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new InvalidRequestException("limit must be between 1 and " + MAX_LIMIT);
+        }
+        if (offset < 0) {
+            throw new InvalidRequestException("offset must not be negative");
+        }
+        
+        // A bound between two cent values keeps only the prices inside it, hence ceiling and floor
+        int minPriceCents = minPrice == null ? 0 : toCents(minPrice, RoundingMode.CEILING, "minPrice");
+        int maxPriceCents = maxPrice == null ? Integer.MAX_VALUE : toCents(maxPrice, RoundingMode.FLOOR, "maxPrice");
+        if (minPriceCents > maxPriceCents) {
+            throw new InvalidRequestException("minPrice must not be greater than maxPrice");
+        }
+        int priceBucketCents = toCents(priceBucket, RoundingMode.CEILING, "priceBucket");
+        if (priceBucketCents == 0) {
+            throw new InvalidRequestException("priceBucket must be positive");
+        }
+        
+        return productCatalogQuery.query(new CatalogQuery(minPriceCents, maxPriceCents, active,
+                parseSortField(sort), parseDescending(direction), offset, limit, priceBucketCents));
+    }
+    
+    private static int toCents(BigDecimal amount, RoundingMode roundingMode, String parameter) {
+        if (amount.signum() < 0) {
+            throw new InvalidRequestException(parameter + " must not be negative");
+        }
+        try {
+            return amount.movePointRight(2).setScale(0, roundingMode).intValueExact();
+        } catch (ArithmeticException ex) {
+            throw new InvalidRequestException(parameter + " is too large");
+        }
+    }
+    
+    private static ProductSortField parseSortField(String sort) {
+        try {
+            return ProductSortField.valueOf(sort.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidRequestException("sort must be one of: id, name, price_cents, created_at");
+        }
+    }
+    
+    private static boolean parseDescending(String direction) {
+        if ("asc".equalsIgnoreCase(direction)) {
+            return false;
+        }
+        if ("desc".equalsIgnoreCase(direction)) {
+            return true;
+        }
+        throw new InvalidRequestException("direction must be asc or desc");
+    }
+}
@@ -0,0 +1,45 @@
+package com.vzdolci.backend.application.usecase;
+
+import com.vzdolci.backend.application.exception.InvalidRequestException;
+import com.vzdolci.backend.application.search.ProductSearchIndex;
+import com.vzdolci.backend.application.search.SearchHit;
+import com.vzdolci.backend.domain.model.Product;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Use case for full-text search and autocomplete over the active products.
+ * Both are answered by the in-memory search index; no query reaches the database.
+ */
+@Service
+@Timed("vzdolci.usecase")
+public class SearchProductsUseCase {
+    
+    public static final int MAX_LIMIT = 50;
+    
+    private final ProductSearchIndex productSearchIndex;
+    
+    public SearchProductsUseCase(ProductSearchIndex productSearchIndex) {
+        this.productSearchIndex = productSearchIndex;
+    }
+    
+    public List<Product> execute(String query, int limit) {
+        validateLimit(limit);
+        return productSearchIndex.search(query, limit).stream()
+                .map(SearchHit::getProduct)
+                .toList();
+    }
+    
+    public List<Product> executeAutocomplete(String input, int limit) {
+        validateLimit(limit);
+        return productSearchIndex.autocomplete(input, limit);
+    }
+    
+    private static void validateLimit(int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new InvalidRequestException("limit must be between 1 and " + MAX_LIMIT);
+        }
+    }
+}
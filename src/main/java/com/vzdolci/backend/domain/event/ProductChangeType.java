@@ -0,0 +1,12 @@
+package com.vzdolci.backend.domain.event;
+
+/**
+ * Kind of change reported by a {@link ProductChangedEvent}.
+ * RESYNC means individual changes may have been missed and the whole catalog must be treated as changed.
+ */
+public enum ProductChangeType {
+    INSERT,
+    UPDATE,
+    DELETE,
+    RESYNC
+}
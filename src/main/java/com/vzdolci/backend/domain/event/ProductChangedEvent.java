@@ -0,0 +1,40 @@
+package com.vzdolci.backend.domain.event;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Domain event published whenever a product row changes, either through this node's repository
+ * or, via database notifications, through another node or direct SQL.
+ * Subscribers must be idempotent: the same change can be delivered more than once.
+ */
+public class ProductChangedEvent {
+    private final Long productId;
+    private final ProductChangeType type;
+    private final OffsetDateTime updatedAt;
+
+    public ProductChangedEvent(Long productId, ProductChangeType type, OffsetDateTime updatedAt) {
+        this.productId = productId;
+        this.type = type;
+        this.updatedAt = updatedAt;
+    }
+
+    public static ProductChangedEvent resync() {
+        return new ProductChangedEvent(null, ProductChangeType.RESYNC, null);
+    }
+
+    public boolean isResync() {
+        return type == ProductChangeType.RESYNC;
+    }
+
+    public Long getProductId() {
+        return productId;
+    }
+
+    public ProductChangeType getType() {
+        return type;
+    }
+
+    public OffsetDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+}
@@ -0,0 +1,41 @@
+package com.vzdolci.backend.domain.model;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * Cheap fingerprint of a catalog view: its row count plus the newest {@code updated_at}.
+ * Any insert, update or delete in the view changes at least one of the two values,
+ * so it can be used to validate cached copies without loading the products.
+ */
+public class CatalogVersion {
+    private final long productCount;
+    private final OffsetDateTime lastModified;
+
+    public CatalogVersion(long productCount, OffsetDateTime lastModified) {
+        this.productCount = productCount;
+        this.lastModified = lastModified;
+    }
+
+    public static CatalogVersion of(List<Product> products) {
+        OffsetDateTime lastModified = null;
+        for (Product product : products) {
+            OffsetDateTime updatedAt = product.getUpdatedAt();
+            if (updatedAt != null && (lastModified == null || updatedAt.isAfter(lastModified))) {
+                lastModified = updatedAt;
+            }
+        }
+        return new CatalogVersion(products.size(), lastModified);
+    }
+
+    public long getProductCount() {
+        return productCount;
+    }
+
+    /**
+     * @return The newest updated_at of the view, or null when the view is empty
+     */
+    public OffsetDateTime getLastModified() {
+        return lastModified;
+    }
+}
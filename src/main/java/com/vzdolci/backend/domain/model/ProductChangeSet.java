@@ -0,0 +1,33 @@
+package com.vzdolci.backend.domain.model;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * What changed in the catalog after a watermark: the products updated since then (active or not)
+ * and the IDs of the products deleted since then.
+ * {@code consistentAt} is the database time up to which committed changes were visible to the read.
+ */
+public class ProductChangeSet {
+    private final List<Product> changed;
+    private final List<Long> deletedIds;
+    private final OffsetDateTime consistentAt;
+
+    public ProductChangeSet(List<Product> changed, List<Long> deletedIds, OffsetDateTime consistentAt) {
+        this.changed = changed;
+        this.deletedIds = deletedIds;
+        this.consistentAt = consistentAt;
+    }
+
+    public List<Product> getChanged() {
+        return changed;
+    }
+
+    public List<Long> getDeletedIds() {
+        return deletedIds;
+    }
+
+    public OffsetDateTime getConsistentAt() {
+        return consistentAt;
+    }
+}
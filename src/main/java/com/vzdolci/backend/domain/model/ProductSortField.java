@@ -0,0 +1,12 @@
+package com.vzdolci.backend.domain.model;
+
+/**
+ * Stable sort keys supported by paginated product listings.
+ * Every key is combined with the product id as a tie-breaker, so the ordering is total.
+ */
+public enum ProductSortField {
+    ID,
+    NAME,
+    PRICE_CENTS,
+    CREATED_AT
+}
@@ -0,0 +1,41 @@
+package com.vzdolci.backend.domain.model;
+
+import java.math.BigDecimal;
+
+/**
+ * Lightweight read model with the fields needed by catalog list views.
+ * Leaves out the long text fields (description, ingredients, story) of Product.
+ */
+public class ProductSummary {
+    private final Long id;
+    private final String name;
+    private final BigDecimal price;
+    private final String emoji;
+
+    public ProductSummary(Long id, String name, BigDecimal price, String emoji) {
+        this.id = id;
+        this.name = name;
+        this.price = price;
+        this.emoji = emoji;
+    }
+
+    public static ProductSummary from(Product product) {
+        return new ProductSummary(product.getId(), product.getName(), product.getPrice(), product.getEmoji());
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public BigDecimal getPrice() {
+        return price;
+    }
+
+    public String getEmoji() {
+        return emoji;
+    }
+}
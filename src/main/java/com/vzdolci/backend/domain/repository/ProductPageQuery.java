@@ -0,0 +1,52 @@
+package com.vzdolci.backend.domain.repository;
+
+import com.vzdolci.backend.domain.model.ProductSortField;
+
+/**
+ * Keyset (seek) query for one page of products.
+ * The page starts right after the position given by {@code afterValue}/{@code afterId};
+ * both are {@code null} for the first page. {@code afterValue} holds the sort key of the
+ * last product of the previous page and is unused when sorting by id.
+ */
+public class ProductPageQuery {
+    private final ProductSortField sortField;
+    private final boolean descending;
+    private final boolean activeOnly;
+    private final Object afterValue;
+    private final Long afterId;
+    private final int limit;
+
+    public ProductPageQuery(ProductSortField sortField, boolean descending, boolean activeOnly,
+                            Object afterValue, Long afterId, int limit) {
+        this.sortField = sortField;
+        this.descending = descending;
+        this.activeOnly = activeOnly;
+        this.afterValue = afterValue;
+        this.afterId = afterId;
+        this.limit = limit;
+    }
+
+    public ProductSortField getSortField() {
+        return sortField;
+    }
+
+    public boolean isDescending() {
+        return descending;
+    }
+
+    public boolean isActiveOnly() {
+        return activeOnly;
+    }
+
+    public Object getAfterValue() {
+        return afterValue;
+    }
+
+    public Long getAfterId() {
+        return afterId;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+}
@@ -1,7 +1,12 @@
 package com.vzdolci.backend.domain.repository;
 
+import com.vzdolci.backend.domain.model.CatalogVersion;
 import com.vzdolci.backend.domain.model.Product;
+import com.vzdolci.backend.domain.model.ProductChangeSet;
+import com.vzdolci.backend.domain.model.ProductSummary;
 
+import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -32,6 +37,13 @@ public interface ProductRepository {
      */
     Optional<Product> findById(Long id);
     
+    /**
+     * Find the products with the given IDs in a single query
+     * @param ids The product IDs
+     * @return The products found, in no particular order; unknown IDs are left out
+     */
+    List<Product> findAllByIds(Collection<Long> ids);
+    
     /**
      * Find a product by its slug
      * @param slug The product slug
@@ -39,6 +51,53 @@ public interface ProductRepository {
      */
     Optional<Product> findBySlug(String slug);
     
+    /**
+     * Find the summary view of all products
+     * @return List of product summaries
+     */
+    List<ProductSummary> findAllSummaries();
+    
+    /**
+     * Find the summary view of all active products
+     * @return List of active product summaries
+     */
+    List<ProductSummary> findActiveSummaries();
+    
+    /**
+     * Find the summary view of a product by its ID
+     * @param id The product ID
+     * @return Optional containing the product summary if found
+     */
+    Optional<ProductSummary> findSummaryById(Long id);
+    
+    /**
+     * Get the current version of the catalog without loading any product
+     * @param activeOnly Whether the version refers to the active products only
+     * @return The product count and newest updated_at of the catalog view
+     */
+    CatalogVersion getCatalogVersion(boolean activeOnly);
+    
+    /**
+     * Find the last modification time of a product without loading it
+     * @param id The product ID
+     * @return Optional containing the product updated_at if the product exists
+     */
+    Optional<OffsetDateTime> findUpdatedAtById(Long id);
+    
+    /**
+     * Find one page of products using keyset pagination
+     * @param query The sort order, the position to start after and the page size
+     * @return Up to query.getLimit() products in the requested order
+     */
+    List<Product> findPage(ProductPageQuery query);
+    
+    /**
+     * Find what changed after a point in time, for incremental sync
+     * @param since Exclusive lower bound on updated_at of products and on the deletion time of deleted ones
+     * @return The products updated and the IDs deleted after {@code since}, in change order
+     */
+    ProductChangeSet findChangesSince(OffsetDateTime since);
+    
     /**
      * Save a product
      * @param product The product to save
@@ -46,6 +105,13 @@ public interface ProductRepository {
      */
     Product save(Product product);
     
+    /**
+     * Insert or update products by slug in a single batch, as one transaction
+     * Individual change events are not published; callers publish a resync once they are done
+     * @param products The products to write; their IDs are ignored
+     */
+    void upsertAllBySlug(List<Product> products);
+    
     /**
      * Delete a product by ID
      * @param id The product ID
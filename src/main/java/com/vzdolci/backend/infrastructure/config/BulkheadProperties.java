@@ -0,0 +1,51 @@
+package com.vzdolci.backend.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings for the database bulkhead ({@code vzdolci.bulkhead.*}).
+ * When {@code max-concurrent-calls} is not set, the bulkhead is sized to the Hikari pool minus the connections
+ * held by streaming exports and background readers, which do not go through it.
+ */
+@ConfigurationProperties(prefix = "vzdolci.bulkhead")
+public class BulkheadProperties {
+
+    private boolean enabled = false;
+    private Integer maxConcurrentCalls;
+    private Duration maxWait = Duration.ofMillis(100);
+    private Duration retryAfter = Duration.ofSeconds(1);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Integer getMaxConcurrentCalls() {
+        return maxConcurrentCalls;
+    }
+
+    public void setMaxConcurrentCalls(Integer maxConcurrentCalls) {
+        this.maxConcurrentCalls = maxConcurrentCalls;
+    }
+
+    public Duration getMaxWait() {
+        return maxWait;
+    }
+
+    public void setMaxWait(Duration maxWait) {
+        this.maxWait = maxWait;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+
+    public void setRetryAfter(Duration retryAfter) {
+        this.retryAfter = retryAfter;
+    }
+}
@@ -0,0 +1,39 @@
+package com.vzdolci.backend.infrastructure.config;
+
+import com.vzdolci.backend.infrastructure.monitoring.CatalogSnapshotMetrics;
+import com.vzdolci.backend.infrastructure.persistence.repository.ProductRepositoryImpl;
+import com.vzdolci.backend.infrastructure.persistence.snapshot.CatalogSnapshotFile;
+import com.vzdolci.backend.infrastructure.persistence.snapshot.CatalogSnapshotStore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+
+/**
+ * Local catalog snapshot used by ProductRepositoryConfig to serve reads during startup and database outages.
+ * The store reads the JPA adapter directly, so the snapshot is never taken from a cache.
+ */
+@Configuration
+@EnableConfigurationProperties(CatalogSnapshotProperties.class)
+@ConditionalOnProperty(prefix = "vzdolci.snapshot", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class CatalogSnapshotConfig {
+
+    @Bean(destroyMethod = "shutdown")
+    public CatalogSnapshotStore catalogSnapshotStore(CatalogSnapshotProperties properties,
+                                                     ProductRepositoryImpl productRepositoryImpl,
+                                                     ApplicationEventPublisher eventPublisher) {
+        if (!properties.getWriteDelay().isPositive() || !properties.getRetryInterval().isPositive()) {
+            throw new IllegalStateException("vzdolci.snapshot write-delay and retry-interval must be positive");
+        }
+        return new CatalogSnapshotStore(new CatalogSnapshotFile(Path.of(properties.getPath())), productRepositoryImpl,
+                eventPublisher, properties.getWriteDelay(), properties.getRetryInterval());
+    }
+
+    @Bean
+    public CatalogSnapshotMetrics catalogSnapshotMetrics(CatalogSnapshotStore catalogSnapshotStore) {
+        return new CatalogSnapshotMetrics(catalogSnapshotStore);
+    }
+}
@@ -0,0 +1,50 @@
+package com.vzdolci.backend.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings for the local catalog snapshot ({@code vzdolci.snapshot.*}).
+ * {@code path} should be on a disk that survives restarts of the instance for the snapshot to help at startup.
+ */
+@ConfigurationProperties(prefix = "vzdolci.snapshot")
+public class CatalogSnapshotProperties {
+
+    private boolean enabled = true;
+    private String path = "data/catalog.snapshot";
+    private Duration writeDelay = Duration.ofSeconds(5);
+    private Duration retryInterval = Duration.ofSeconds(10);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public void setPath(String path) {
+        this.path = path;
+    }
+
+    public Duration getWriteDelay() {
+        return writeDelay;
+    }
+
+    public void setWriteDelay(Duration writeDelay) {
+        this.writeDelay = writeDelay;
+    }
+
+    public Duration getRetryInterval() {
+        return retryInterval;
+    }
+
+    public void setRetryInterval(Duration retryInterval) {
+        this.retryInterval = retryInterval;
+    }
+}
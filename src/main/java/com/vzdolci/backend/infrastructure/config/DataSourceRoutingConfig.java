@@ -0,0 +1,95 @@
+package com.vzdolci.backend.infrastructure.config;
+
+import com.vzdolci.backend.infrastructure.monitoring.DataSourceRoutingMetrics;
+import com.vzdolci.backend.infrastructure.persistence.routing.ReadWriteRoutingDataSource;
+import com.vzdolci.backend.infrastructure.persistence.routing.ReplicaDataSource;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Replaces the auto-configured DataSource with a read/write routing one when
+ * {@code vzdolci.datasource.routing.enabled} is set: read-only transactions go to the replicas,
+ * the rest (writes, migrations, schema validation) to the primary.
+ * The primary pool is still configured through {@code spring.datasource.*} and {@code spring.datasource.hikari.*}.
+ */
+@Configuration
+@EnableConfigurationProperties(DataSourceRoutingProperties.class)
+@ConditionalOnProperty(prefix = "vzdolci.datasource.routing", name = "enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties(prefix = "spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean(destroyMethod = "close")
+    public ReadWriteRoutingDataSource readWriteRoutingDataSource(HikariDataSource primaryDataSource,
+                                                                 DataSourceRoutingProperties properties,
+                                                                 DataSourceProperties dataSourceProperties,
+                                                                 MeterRegistry meterRegistry) {
+        List<ReplicaDataSource> replicas = new ArrayList<>();
+        for (int i = 0; i < properties.getReplicas().size(); i++) {
+            DataSourceRoutingProperties.Replica replica = properties.getReplicas().get(i);
+            if (!StringUtils.hasText(replica.getUrl())) {
+                throw new IllegalStateException("vzdolci.datasource.routing.replicas[" + i + "].url must be set");
+            }
+            HikariConfig config = new HikariConfig();
+            config.setPoolName("replica-" + i);
+            config.setJdbcUrl(replica.getUrl());
+            config.setUsername(replica.getUsername() != null
+                ? replica.getUsername()
+                : dataSourceProperties.determineUsername());
+            config.setPassword(replica.getPassword() != null
+                ? replica.getPassword()
+                : dataSourceProperties.determinePassword());
+            config.setMaximumPoolSize(replica.getMaximumPoolSize());
+            config.setMinimumIdle(replica.getMinimumIdle());
+            config.setConnectionTimeout(replica.getConnectionTimeout().toMillis());
+            config.setReadOnly(true);
+            // Start even if the replica is down; the health check keeps it out of rotation meanwhile
+            config.setInitializationFailTimeout(-1);
+            config.setMetricRegistry(meterRegistry);
+            replicas.add(new ReplicaDataSource(config.getPoolName(), new HikariDataSource(config)));
+        }
+        return new ReadWriteRoutingDataSource(primaryDataSource, replicas, properties.getReadYourWritesWindow(),
+                properties.getHealthCheckInterval(), properties.getHealthCheckTimeout());
+    }
+
+    /**
+     * The physical connection is fetched on the first statement, once the transaction's read-only flag is set.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadWriteRoutingDataSource readWriteRoutingDataSource) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(readWriteRoutingDataSource);
+        // Known upfront, so that no connection has to be opened just to find them out
+        dataSource.setDefaultAutoCommit(true);
+        dataSource.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+        return dataSource;
+    }
+
+    @Bean
+    public DataSourceRoutingMetrics dataSourceRoutingMetrics(ReadWriteRoutingDataSource readWriteRoutingDataSource) {
+        return new DataSourceRoutingMetrics(readWriteRoutingDataSource);
+    }
+}
@@ -0,0 +1,122 @@
+package com.vzdolci.backend.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Settings for read replica routing ({@code vzdolci.datasource.routing.*}).
+ * The primary pool keeps using {@code spring.datasource.*}; each replica gets its own pool.
+ */
+@ConfigurationProperties(prefix = "vzdolci.datasource.routing")
+public class DataSourceRoutingProperties {
+
+    private boolean enabled = false;
+    private List<Replica> replicas = new ArrayList<>();
+    private Duration healthCheckInterval = Duration.ofSeconds(5);
+    private Duration healthCheckTimeout = Duration.ofSeconds(2);
+    /** After a write, reads stay on the primary for this long (replication lag); zero disables it. */
+    private Duration readYourWritesWindow = Duration.ZERO;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public List<Replica> getReplicas() {
+        return replicas;
+    }
+
+    public void setReplicas(List<Replica> replicas) {
+        this.replicas = replicas;
+    }
+
+    public Duration getHealthCheckInterval() {
+        return healthCheckInterval;
+    }
+
+    public void setHealthCheckInterval(Duration healthCheckInterval) {
+        this.healthCheckInterval = healthCheckInterval;
+    }
+
+    public Duration getHealthCheckTimeout() {
+        return healthCheckTimeout;
+    }
+
+    public void setHealthCheckTimeout(Duration healthCheckTimeout) {
+        this.healthCheckTimeout = healthCheckTimeout;
+    }
+
+    public Duration getReadYourWritesWindow() {
+        return readYourWritesWindow;
+    }
+
+    public void setReadYourWritesWindow(Duration readYourWritesWindow) {
+        this.readYourWritesWindow = readYourWritesWindow;
+    }
+
+    public static class Replica {
+
+        private String url;
+        /** Defaults to the primary's credentials. */
+        private String username;
+        private String password;
+        private int maximumPoolSize = 10;
+        private int minimumIdle = 2;
+        /** Kept short: a slow replica should fall back to the primary, not hold the request. */
+        private Duration connectionTimeout = Duration.ofSeconds(1);
+
+        public String getUrl() {
+            return url;
+        }
+
+        public void setUrl(String url) {
+            this.url = url;
+        }
+
+        public String getUsername() {
+            return username;
+        }
+
+        public void setUsername(String username) {
+            this.username = username;
+        }
+
+        public String getPassword() {
+            return password;
+        }
+
+        public void setPassword(String password) {
+            this.password = password;
+        }
+
+        public int getMaximumPoolSize() {
+            return maximumPoolSize;
+        }
+
+        public void setMaximumPoolSize(int maximumPoolSize) {
+            this.maximumPoolSize = maximumPoolSize;
+        }
+
+        public int getMinimumIdle() {
+            return minimumIdle;
+        }
+
+        public void setMinimumIdle(int minimumIdle) {
+            this.minimumIdle = minimumIdle;
+        }
+
+        public Duration getConnectionTimeout() {
+            return connectionTimeout;
+        }
+
+        public void setConnectionTimeout(Duration connectionTimeout) {
+            this.connectionTimeout = connectionTimeout;
+        }
+    }
+}
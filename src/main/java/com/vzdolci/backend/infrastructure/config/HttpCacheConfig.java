@@ -0,0 +1,16 @@
+package com.vzdolci.backend.infrastructure.config;
+
+import com.vzdolci.backend.web.http.HttpCachePolicies;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(HttpCacheProperties.class)
+public class HttpCacheConfig {
+
+    @Bean
+    public HttpCachePolicies httpCachePolicies(HttpCacheProperties properties) {
+        return new HttpCachePolicies(properties);
+    }
+}
@@ -0,0 +1,65 @@
+package com.vzdolci.backend.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * HTTP caching policies per endpoint ({@code vzdolci.http-cache.policies.<endpoint>.*}).
+ * Endpoints without a policy are sent with {@code Cache-Control: no-cache}, i.e. clients may
+ * store the response but must revalidate it on every use.
+ */
+@ConfigurationProperties(prefix = "vzdolci.http-cache")
+public class HttpCacheProperties {
+
+    private Map<String, Policy> policies = new HashMap<>();
+
+    public Map<String, Policy> getPolicies() {
+        return policies;
+    }
+
+    public void setPolicies(Map<String, Policy> policies) {
+        this.policies = policies;
+    }
+
+    public static class Policy {
+        private Duration maxAge = Duration.ZERO;
+        private Duration staleWhileRevalidate;
+        private Duration staleIfError;
+        private boolean shared = true;
+
+        public Duration getMaxAge() {
+            return maxAge;
+        }
+
+        public void setMaxAge(Duration maxAge) {
+            this.maxAge = maxAge;
+        }
+
+        public Duration getStaleWhileRevalidate() {
+            return staleWhileRevalidate;
+        }
+
+        public void setStaleWhileRevalidate(Duration staleWhileRevalidate) {
+            this.staleWhileRevalidate = staleWhileRevalidate;
+        }
+
+        public Duration getStaleIfError() {
+            return staleIfError;
+        }
+
+        public void setStaleIfError(Duration staleIfError) {
+            this.staleIfError = staleIfError;
+        }
+
+        public boolean isShared() {
+            return shared;
+        }
+
+        public void setShared(boolean shared) {
+            this.shared = shared;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.vzdolci.backend.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings for the in-process catalog cache ({@code vzdolci.cache.*}).
+ */
+@ConfigurationProperties(prefix = "vzdolci.cache")
+public class ProductCacheProperties {
+
+    private boolean enabled = true;
+    private int maximumSize = 1000;
+    private Duration ttl = Duration.ofMinutes(10);
+    private Duration refreshAfter = Duration.ofMinutes(5);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    public void setMaximumSize(int maximumSize) {
+        this.maximumSize = maximumSize;
+    }
+
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    public void setTtl(Duration ttl) {
+        this.ttl = ttl;
+    }
+
+    public Duration getRefreshAfter() {
+        return refreshAfter;
+    }
+
+    public void setRefreshAfter(Duration refreshAfter) {
+        this.refreshAfter = refreshAfter;
+    }
+}
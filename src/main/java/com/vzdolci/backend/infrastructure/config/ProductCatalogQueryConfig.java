@@ -0,0 +1,22 @@
+package com.vzdolci.backend.infrastructure.config;
+
+import com.vzdolci.backend.application.query.ProductCatalogQuery;
+import com.vzdolci.backend.domain.repository.ProductRepository;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(ProductCatalogQueryProperties.class)
+public class ProductCatalogQueryConfig {
+
+    @Bean(destroyMethod = "shutdown")
+    public ProductCatalogQuery productCatalogQuery(ProductCatalogQueryProperties properties,
+                                                   ProductRepository productRepository) {
+        if (properties.getRebuildDelay().isNegative()) {
+            throw new IllegalStateException("vzdolci.catalog-query.rebuild-delay must not be negative: "
+                    + properties.getRebuildDelay());
+        }
+        return new ProductCatalogQuery(productRepository, properties.getRebuildDelay());
+    }
+}
@@ -0,0 +1,23 @@
+package com.vzdolci.backend.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings for the faceted catalog query snapshot ({@code vzdolci.catalog-query.*}).
+ * Queries may see the catalog as it was up to {@code rebuild-delay} before the latest change.
+ */
+@ConfigurationProperties(prefix = "vzdolci.catalog-query")
+public class ProductCatalogQueryProperties {
+
+    private Duration rebuildDelay = Duration.ofSeconds(1);
+
+    public Duration getRebuildDelay() {
+        return rebuildDelay;
+    }
+
+    public void setRebuildDelay(Duration rebuildDelay) {
+        this.rebuildDelay = rebuildDelay;
+    }
+}
@@ -0,0 +1,26 @@
+package com.vzdolci.backend.infrastructure.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vzdolci.backend.infrastructure.persistence.notification.ProductChangeListener;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(ProductChangeListenerProperties.class)
+@ConditionalOnProperty(prefix = "vzdolci.catalog.change-listener", name = "enabled", havingValue = "true")
+public class ProductChangeListenerConfig {
+
+    @Bean
+    public ProductChangeListener productChangeListener(ProductChangeListenerProperties properties,
+                                                       DataSourceProperties dataSourceProperties,
+                                                       ApplicationEventPublisher eventPublisher,
+                                                       ObjectMapper objectMapper) {
+        String url = properties.getUrl() != null ? properties.getUrl() : dataSourceProperties.determineUrl();
+        return new ProductChangeListener(properties, url, dataSourceProperties.determineUsername(),
+                dataSourceProperties.determinePassword(), eventPublisher, objectMapper);
+    }
+}
@@ -0,0 +1,99 @@
+package com.vzdolci.backend.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings for the PostgreSQL LISTEN/NOTIFY catalog change listener
+ * ({@code vzdolci.catalog.change-listener.*}).
+ */
+@ConfigurationProperties(prefix = "vzdolci.catalog.change-listener")
+public class ProductChangeListenerProperties {
+
+    private boolean enabled = false;
+    private String channel = "products_changed";
+    /**
+     * JDBC URL of the listener connection. Defaults to spring.datasource.url; must point to a direct
+     * (session mode) connection, since transaction poolers such as pgbouncer do not support LISTEN.
+     */
+    private String url;
+    private Duration pollTimeout = Duration.ofMillis(500);
+    private Duration coalesceWindow = Duration.ofMillis(100);
+    private int maxBatchSize = 100;
+    private Duration keepAliveInterval = Duration.ofSeconds(30);
+    private Duration initialBackoff = Duration.ofSeconds(1);
+    private Duration maxBackoff = Duration.ofSeconds(30);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getChannel() {
+        return channel;
+    }
+
+    public void setChannel(String channel) {
+        this.channel = channel;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public void setUrl(String url) {
+        this.url = url;
+    }
+
+    public Duration getPollTimeout() {
+        return pollTimeout;
+    }
+
+    public void setPollTimeout(Duration pollTimeout) {
+        this.pollTimeout = pollTimeout;
+    }
+
+    public Duration getCoalesceWindow() {
+        return coalesceWindow;
+    }
+
+    public void setCoalesceWindow(Duration coalesceWindow) {
+        this.coalesceWindow = coalesceWindow;
+    }
+
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    public void setMaxBatchSize(int maxBatchSize) {
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    public Duration getKeepAliveInterval() {
+        return keepAliveInterval;
+    }
+
+    public void setKeepAliveInterval(Duration keepAliveInterval) {
+        this.keepAliveInterval = keepAliveInterval;
+    }
+
+    public Duration getInitialBackoff() {
+        return initialBackoff;
+    }
+
+    public void setInitialBackoff(Duration initialBackoff) {
+        this.initialBackoff = initialBackoff;
+    }
+
+    public Duration getMaxBackoff() {
+        return maxBackoff;
+    }
+
+    public void setMaxBackoff(Duration maxBackoff) {
+        this.maxBackoff = maxBackoff;
+    }
+}
@@ -0,0 +1,36 @@
+package com.vzdolci.backend.infrastructure.config;
+
+import com.vzdolci.backend.application.index.ProductExistenceFilter;
+import com.vzdolci.backend.infrastructure.monitoring.ProductExistenceFilterMetrics;
+import com.vzdolci.backend.infrastructure.persistence.repository.ProductRepositoryImpl;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Existence filter used by ProductRepositoryConfig to answer lookups of unknown ids and slugs without a query.
+ * The filter reads the JPA adapter directly, so its rebuilds never see a cached catalog.
+ */
+@Configuration
+@EnableConfigurationProperties(ProductExistenceFilterProperties.class)
+@ConditionalOnProperty(prefix = "vzdolci.existence-filter", name = "enabled", havingValue = "true",
+        matchIfMissing = true)
+public class ProductExistenceFilterConfig {
+
+    @Bean(destroyMethod = "shutdown")
+    public ProductExistenceFilter productExistenceFilter(ProductExistenceFilterProperties properties,
+                                                         ProductRepositoryImpl productRepositoryImpl) {
+        double falsePositiveRate = properties.getFalsePositiveRate();
+        if (!(falsePositiveRate > 0 && falsePositiveRate < 1) || !properties.getRebuildInterval().isPositive()) {
+            throw new IllegalStateException("vzdolci.existence-filter false-positive-rate must be between 0 and 1 "
+                    + "and rebuild-interval must be positive");
+        }
+        return new ProductExistenceFilter(productRepositoryImpl, falsePositiveRate, properties.getRebuildInterval());
+    }
+
+    @Bean
+    public ProductExistenceFilterMetrics productExistenceFilterMetrics(ProductExistenceFilter productExistenceFilter) {
+        return new ProductExistenceFilterMetrics(productExistenceFilter);
+    }
+}
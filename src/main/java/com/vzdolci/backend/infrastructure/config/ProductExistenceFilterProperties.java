@@ -0,0 +1,42 @@
+package com.vzdolci.backend.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings for the product existence filter ({@code vzdolci.existence-filter.*}).
+ * Without the change listener, a slug created on another instance can be answered with 404 here for up to
+ * {@code rebuild-interval}, as stale as the cache may already be.
+ */
+@ConfigurationProperties(prefix = "vzdolci.existence-filter")
+public class ProductExistenceFilterProperties {
+
+    private boolean enabled = true;
+    private double falsePositiveRate = 0.01;
+    private Duration rebuildInterval = Duration.ofMinutes(5);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public double getFalsePositiveRate() {
+        return falsePositiveRate;
+    }
+
+    public void setFalsePositiveRate(double falsePositiveRate) {
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    public Duration getRebuildInterval() {
+        return rebuildInterval;
+    }
+
+    public void setRebuildInterval(Duration rebuildInterval) {
+        this.rebuildInterval = rebuildInterval;
+    }
+}
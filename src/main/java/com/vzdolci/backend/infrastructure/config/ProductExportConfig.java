@@ -0,0 +1,29 @@
+package com.vzdolci.backend.infrastructure.config;
+
+import com.vzdolci.backend.application.export.ProductJsonExporter;
+import com.vzdolci.backend.application.usecase.ExportProductsUseCase;
+import com.vzdolci.backend.infrastructure.monitoring.ProductExportMetrics;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(ProductExportProperties.class)
+public class ProductExportConfig {
+
+    @Bean
+    public ExportProductsUseCase exportProductsUseCase(ProductExportProperties properties,
+                                                       ProductJsonExporter productJsonExporter) {
+        if (properties.getMaxConcurrentStreams() <= 0) {
+            throw new IllegalStateException("vzdolci.export.max-concurrent-streams must be positive: "
+                    + properties.getMaxConcurrentStreams());
+        }
+        return new ExportProductsUseCase(productJsonExporter, properties.getMaxConcurrentStreams(),
+                properties.getRetryAfter());
+    }
+
+    @Bean
+    public ProductExportMetrics productExportMetrics(ExportProductsUseCase exportProductsUseCase) {
+        return new ProductExportMetrics(exportProductsUseCase);
+    }
+}
@@ -0,0 +1,33 @@
+package com.vzdolci.backend.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings for the streaming export ({@code GET /api/v1/products?stream=true}, {@code vzdolci.export.*}).
+ * Every export holds a connection until the client has read the whole response, so
+ * {@code max-concurrent-streams} must stay well below the pool size.
+ */
+@ConfigurationProperties(prefix = "vzdolci.export")
+public class ProductExportProperties {
+
+    private int maxConcurrentStreams = 2;
+    private Duration retryAfter = Duration.ofSeconds(5);
+
+    public int getMaxConcurrentStreams() {
+        return maxConcurrentStreams;
+    }
+
+    public void setMaxConcurrentStreams(int maxConcurrentStreams) {
+        this.maxConcurrentStreams = maxConcurrentStreams;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+
+    public void setRetryAfter(Duration retryAfter) {
+        this.retryAfter = retryAfter;
+    }
+}
@@ -0,0 +1,31 @@
+package com.vzdolci.backend.infrastructure.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vzdolci.backend.application.usecase.ImportProductsUseCase;
+import com.vzdolci.backend.domain.repository.ProductRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(ProductImportProperties.class)
+@ConditionalOnProperty(prefix = "vzdolci.import", name = "enabled", havingValue = "true")
+public class ProductImportConfig {
+
+    @Bean
+    public ImportProductsUseCase importProductsUseCase(ProductImportProperties properties,
+                                                       ProductRepository productRepository,
+                                                       ObjectMapper objectMapper,
+                                                       ApplicationEventPublisher eventPublisher) {
+        if (properties.getToken() == null || properties.getToken().isBlank()) {
+            throw new IllegalStateException("vzdolci.import.token must be set when the import endpoint is enabled");
+        }
+        if (properties.getChunkSize() <= 0) {
+            throw new IllegalStateException("vzdolci.import.chunk-size must be positive: " + properties.getChunkSize());
+        }
+        return new ImportProductsUseCase(productRepository, objectMapper, eventPublisher,
+                properties.getChunkSize(), properties.getMaxReportedErrors());
+    }
+}
@@ -0,0 +1,49 @@
+package com.vzdolci.backend.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings for the bulk catalog import endpoint ({@code vzdolci.import.*}).
+ * The endpoint is disabled by default and, when enabled, requires {@code token} in the
+ * {@code X-Import-Token} header.
+ */
+@ConfigurationProperties(prefix = "vzdolci.import")
+public class ProductImportProperties {
+
+    private boolean enabled = false;
+    private String token;
+    private int chunkSize = 500;
+    private int maxReportedErrors = 100;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getToken() {
+        return token;
+    }
+
+    public void setToken(String token) {
+        this.token = token;
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public void setChunkSize(int chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+
+    public int getMaxReportedErrors() {
+        return maxReportedErrors;
+    }
+
+    public void setMaxReportedErrors(int maxReportedErrors) {
+        this.maxReportedErrors = maxReportedErrors;
+    }
+}
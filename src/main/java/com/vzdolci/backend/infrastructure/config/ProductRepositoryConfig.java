@@ -0,0 +1,126 @@
+package com.vzdolci.backend.infrastructure.config;
+
+import com.vzdolci.backend.application.cache.CachingProductRepository;
+import com.vzdolci.backend.application.cache.ProductCacheService;
+import com.vzdolci.backend.application.index.ExistenceFilteringProductRepository;
+import com.vzdolci.backend.application.index.ProductExistenceFilter;
+import com.vzdolci.backend.application.resilience.Bulkhead;
+import com.vzdolci.backend.application.resilience.BulkheadProductRepository;
+import com.vzdolci.backend.domain.repository.ProductRepository;
+import com.vzdolci.backend.infrastructure.monitoring.BulkheadMetrics;
+import com.vzdolci.backend.infrastructure.monitoring.MeteredProductRepository;
+import com.vzdolci.backend.infrastructure.monitoring.ProductCacheEndpoint;
+import com.vzdolci.backend.infrastructure.monitoring.ProductCacheJmxExtension;
+import com.vzdolci.backend.infrastructure.monitoring.ProductCacheMetrics;
+import com.vzdolci.backend.infrastructure.persistence.repository.ProductRepositoryImpl;
+import com.vzdolci.backend.infrastructure.persistence.snapshot.CatalogSnapshotStore;
+import com.vzdolci.backend.infrastructure.persistence.snapshot.SnapshotFallbackProductRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+
+/**
+ * Assembles the ProductRepository used by the application.
+ * The JPA adapter is wrapped by the metrics decorator and then by the optional ones (database bulkhead,
+ * local snapshot, existence filter, then catalog cache),
+ * and the outermost one is exposed as the primary ProductRepository bean.
+ */
+@Configuration
+@EnableConfigurationProperties({ProductCacheProperties.class, BulkheadProperties.class})
+public class ProductRepositoryConfig {
+
+    /** HikariCP's own default for maximum-pool-size. */
+    private static final int DEFAULT_POOL_SIZE = 10;
+
+    @Bean(destroyMethod = "shutdown")
+    @ConditionalOnProperty(prefix = "vzdolci.cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public ProductCacheService productCacheService(ProductCacheProperties properties) {
+        return new ProductCacheService(properties.getMaximumSize(), properties.getTtl(),
+                properties.getRefreshAfter());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "vzdolci.cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public ProductCacheEndpoint productCacheEndpoint(ProductCacheService productCacheService) {
+        return new ProductCacheEndpoint(productCacheService);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "vzdolci.cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public ProductCacheJmxExtension productCacheJmxExtension(ProductCacheService productCacheService) {
+        return new ProductCacheJmxExtension(productCacheService);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "vzdolci.cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public ProductCacheMetrics productCacheMetrics(ProductCacheService productCacheService) {
+        return new ProductCacheMetrics(productCacheService);
+    }
+
+    /**
+     * By default the bulkhead gets the pool connections that are left once the readers it does not see are
+     * set aside: each streaming export holds one for its JDBC cursor, and the existence filter and snapshot
+     * store rebuilds read the JPA adapter directly, one connection each.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "vzdolci.bulkhead", name = "enabled", havingValue = "true")
+    public Bulkhead databaseBulkhead(BulkheadProperties properties, ProductExportProperties exportProperties,
+                                     ObjectProvider<ProductExistenceFilter> productExistenceFilter,
+                                     ObjectProvider<CatalogSnapshotStore> catalogSnapshotStore,
+                                     Environment environment) {
+        Integer maxConcurrentCalls = properties.getMaxConcurrentCalls();
+        if (maxConcurrentCalls == null) {
+            int poolSize = environment.getProperty("spring.datasource.hikari.maximum-pool-size",
+                    Integer.class, DEFAULT_POOL_SIZE);
+            int reserved = exportProperties.getMaxConcurrentStreams()
+                    + (productExistenceFilter.getIfAvailable() != null ? 1 : 0)
+                    + (catalogSnapshotStore.getIfAvailable() != null ? 1 : 0);
+            maxConcurrentCalls = poolSize - reserved;
+            if (maxConcurrentCalls <= 0) {
+                throw new IllegalStateException("The Hikari pool (" + poolSize + ") leaves no connection for the "
+                        + "database bulkhead after the " + reserved + " reserved for exports and background "
+                        + "readers; raise maximum-pool-size or set vzdolci.bulkhead.max-concurrent-calls");
+            }
+        }
+        return new Bulkhead("database", maxConcurrentCalls, properties.getMaxWait(), properties.getRetryAfter());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "vzdolci.bulkhead", name = "enabled", havingValue = "true")
+    public BulkheadMetrics databaseBulkheadMetrics(Bulkhead databaseBulkhead) {
+        return new BulkheadMetrics(databaseBulkhead);
+    }
+
+    @Bean
+    @Primary
+    public ProductRepository productRepository(ProductRepositoryImpl productRepositoryImpl,
+                                               MeterRegistry meterRegistry,
+                                               ObjectProvider<Bulkhead> databaseBulkhead,
+                                               ObjectProvider<CatalogSnapshotStore> catalogSnapshotStore,
+                                               ObjectProvider<ProductExistenceFilter> productExistenceFilter,
+                                               ObjectProvider<ProductCacheService> productCacheService) {
+        ProductRepository repository = new MeteredProductRepository(productRepositoryImpl, meterRegistry);
+        Bulkhead bulkhead = databaseBulkhead.getIfAvailable();
+        if (bulkhead != null) {
+            repository = new BulkheadProductRepository(repository, bulkhead);
+        }
+        CatalogSnapshotStore snapshotStore = catalogSnapshotStore.getIfAvailable();
+        if (snapshotStore != null) {
+            repository = new SnapshotFallbackProductRepository(repository, snapshotStore);
+        }
+        ProductExistenceFilter existenceFilter = productExistenceFilter.getIfAvailable();
+        if (existenceFilter != null) {
+            repository = new ExistenceFilteringProductRepository(repository, existenceFilter);
+        }
+        ProductCacheService cache = productCacheService.getIfAvailable();
+        if (cache != null) {
+            repository = new CachingProductRepository(repository, cache);
+        }
+        return repository;
+    }
+}
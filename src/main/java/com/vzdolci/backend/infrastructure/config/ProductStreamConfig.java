@@ -0,0 +1,34 @@
+package com.vzdolci.backend.infrastructure.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vzdolci.backend.domain.repository.ProductRepository;
+import com.vzdolci.backend.infrastructure.monitoring.ProductStreamMetrics;
+import com.vzdolci.backend.web.stream.ProductChangeBroadcaster;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(ProductStreamProperties.class)
+@ConditionalOnProperty(prefix = "vzdolci.stream", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ProductStreamConfig {
+
+    @Bean(destroyMethod = "shutdown")
+    public ProductChangeBroadcaster productChangeBroadcaster(ProductStreamProperties properties,
+                                                            ProductRepository productRepository,
+                                                            ObjectMapper objectMapper) {
+        if (properties.getBufferSize() < 2 || properties.getWriterThreads() <= 0
+                || properties.getReplaySize() <= 0 || properties.getMaxSubscribers() <= 0
+                || properties.getSendTimeout().isNegative() || properties.getSendTimeout().isZero()) {
+            throw new IllegalStateException("vzdolci.stream buffer-size must be at least 2 and writer-threads, "
+                    + "replay-size, max-subscribers and send-timeout must be positive");
+        }
+        return new ProductChangeBroadcaster(productRepository, objectMapper, properties);
+    }
+
+    @Bean
+    public ProductStreamMetrics productStreamMetrics(ProductChangeBroadcaster productChangeBroadcaster) {
+        return new ProductStreamMetrics(productChangeBroadcaster);
+    }
+}
@@ -0,0 +1,102 @@
+package com.vzdolci.backend.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings for the catalog change stream ({@code vzdolci.stream.*}), served as Server-Sent Events on
+ * {@code GET /api/v1/products/stream}.
+ */
+@ConfigurationProperties(prefix = "vzdolci.stream")
+public class ProductStreamProperties {
+
+    private boolean enabled = true;
+    /** Subscribers beyond this are turned away with 503; keep it below server.tomcat.max-connections (8192). */
+    private int maxSubscribers = 5000;
+    /** Events queued per subscriber; a subscriber whose buffer fills up is disconnected. */
+    private int bufferSize = 256;
+    /** Recent events kept for Last-Event-ID resume. */
+    private int replaySize = 1024;
+    /** Threads writing to subscribers, shared by all connections. */
+    private int writerThreads = 2;
+    private Duration heartbeatInterval = Duration.ofSeconds(15);
+    /** A subscriber whose current write has been blocked this long is disconnected and its writer replaced. */
+    private Duration sendTimeout = Duration.ofSeconds(5);
+    /** Connections are closed after this long; clients reconnect and resume with Last-Event-ID. */
+    private Duration timeout = Duration.ofMinutes(30);
+    /** Reconnection delay suggested to clients ({@code retry:} field). */
+    private Duration reconnectTime = Duration.ofSeconds(3);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getMaxSubscribers() {
+        return maxSubscribers;
+    }
+
+    public void setMaxSubscribers(int maxSubscribers) {
+        this.maxSubscribers = maxSubscribers;
+    }
+
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    public void setBufferSize(int bufferSize) {
+        this.bufferSize = bufferSize;
+    }
+
+    public int getReplaySize() {
+        return replaySize;
+    }
+
+    public void setReplaySize(int replaySize) {
+        this.replaySize = replaySize;
+    }
+
+    public int getWriterThreads() {
+        return writerThreads;
+    }
+
+    public void setWriterThreads(int writerThreads) {
+        this.writerThreads = writerThreads;
+    }
+
+    public Duration getHeartbeatInterval() {
+        return heartbeatInterval;
+    }
+
+    public void setHeartbeatInterval(Duration heartbeatInterval) {
+        this.heartbeatInterval = heartbeatInterval;
+    }
+
+    public Duration getSendTimeout() {
+        return sendTimeout;
+    }
+
+    public void setSendTimeout(Duration sendTimeout) {
+        this.sendTimeout = sendTimeout;
+    }
+
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    public void setTimeout(Duration timeout) {
+        this.timeout = timeout;
+    }
+
+    public Duration getReconnectTime() {
+        return reconnectTime;
+    }
+
+    public void setReconnectTime(Duration reconnectTime) {
+        this.reconnectTime = reconnectTime;
+    }
+}
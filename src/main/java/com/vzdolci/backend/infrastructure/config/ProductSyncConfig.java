@@ -0,0 +1,21 @@
+package com.vzdolci.backend.infrastructure.config;
+
+import com.vzdolci.backend.application.usecase.GetProductChangesUseCase;
+import com.vzdolci.backend.domain.repository.ProductRepository;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(ProductSyncProperties.class)
+public class ProductSyncConfig {
+
+    @Bean
+    public GetProductChangesUseCase getProductChangesUseCase(ProductSyncProperties properties,
+                                                             ProductRepository productRepository) {
+        if (properties.getOverlap() == null || properties.getOverlap().isNegative()) {
+            throw new IllegalStateException("vzdolci.sync.overlap must not be negative: " + properties.getOverlap());
+        }
+        return new GetProductChangesUseCase(productRepository, properties.getOverlap());
+    }
+}
@@ -0,0 +1,24 @@
+package com.vzdolci.backend.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings for the delta sync endpoint ({@code vzdolci.sync.*}).
+ * {@code overlap} is how far the returned watermark lags the read; it should exceed the longest write
+ * transaction on the products table.
+ */
+@ConfigurationProperties(prefix = "vzdolci.sync")
+public class ProductSyncProperties {
+
+    private Duration overlap = Duration.ofSeconds(5);
+
+    public Duration getOverlap() {
+        return overlap;
+    }
+
+    public void setOverlap(Duration overlap) {
+        this.overlap = overlap;
+    }
+}
@@ -0,0 +1,60 @@
+package com.vzdolci.backend.infrastructure.config;
+
+import com.vzdolci.backend.application.coalescing.SingleFlight;
+import com.vzdolci.backend.domain.model.CatalogVersion;
+import com.vzdolci.backend.domain.model.Product;
+import com.vzdolci.backend.infrastructure.monitoring.SingleFlightMetrics;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Single-flight groups used by the read use cases to coalesce concurrent identical loads, and their metrics.
+ */
+@Configuration
+public class RequestCoalescingConfig {
+
+    @Bean
+    public SingleFlight<Long, Optional<Product>> productByIdFlight() {
+        return new SingleFlight<>("product-by-id");
+    }
+
+    @Bean
+    public SingleFlight<Boolean, List<Product>> productListFlight() {
+        return new SingleFlight<>("product-list");
+    }
+
+    @Bean
+    public SingleFlight<Boolean, CatalogVersion> catalogVersionFlight() {
+        return new SingleFlight<>("catalog-version");
+    }
+
+    @Bean
+    public SingleFlight<Long, Optional<OffsetDateTime>> productVersionFlight() {
+        return new SingleFlight<>("product-version");
+    }
+
+    @Bean
+    public SingleFlightMetrics productByIdFlightMetrics(SingleFlight<Long, Optional<Product>> productByIdFlight) {
+        return new SingleFlightMetrics(productByIdFlight);
+    }
+
+    @Bean
+    public SingleFlightMetrics productListFlightMetrics(SingleFlight<Boolean, List<Product>> productListFlight) {
+        return new SingleFlightMetrics(productListFlight);
+    }
+
+    @Bean
+    public SingleFlightMetrics catalogVersionFlightMetrics(SingleFlight<Boolean, CatalogVersion> catalogVersionFlight) {
+        return new SingleFlightMetrics(catalogVersionFlight);
+    }
+
+    @Bean
+    public SingleFlightMetrics productVersionFlightMetrics(
+            SingleFlight<Long, Optional<OffsetDateTime>> productVersionFlight) {
+        return new SingleFlightMetrics(productVersionFlight);
+    }
+}
@@ -0,0 +1,58 @@
+package com.vzdolci.backend.infrastructure.config;
+
+import com.vzdolci.backend.application.usecase.GetAllProductsUseCase;
+import com.vzdolci.backend.infrastructure.startup.StartupWarmup;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationInitializer;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.orm.jpa.AbstractEntityManagerFactoryBean;
+
+import javax.sql.DataSource;
+
+/**
+ * Startup tuning. For the faststart profile, where {@code spring.main.lazy-initialization} defers beans
+ * until first use, the infrastructure beans below stay eager so that the schema is still migrated and
+ * validated, and the change listener is running, before the application reports itself ready.
+ * The warm-up then holds readiness back until caches, pools and hot paths are warm.
+ */
+@Configuration
+@EnableConfigurationProperties(WarmupProperties.class)
+public class StartupConfig {
+
+    @Bean
+    static LazyInitializationExcludeFilter eagerInfrastructureBeans() {
+        return LazyInitializationExcludeFilter.forBeanTypes(DataSource.class, FlywayMigrationInitializer.class,
+                AbstractEntityManagerFactoryBean.class, SmartLifecycle.class);
+    }
+
+    /**
+     * With AOT the Flyway beans exist whatever {@code spring.flyway.enabled} was at build time, so it is checked
+     * again here; this lets the CDS training run (cds-training profile, no database) take the AOT startup path.
+     */
+    @Bean
+    public FlywayMigrationStrategy flywayMigrationStrategy(Environment environment) {
+        return flyway -> {
+            if (environment.getProperty("spring.flyway.enabled", Boolean.class, true)) {
+                flyway.migrate();
+            }
+        };
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "vzdolci.warmup", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public StartupWarmup startupWarmup(ApplicationContext context, WarmupProperties properties,
+                                       GetAllProductsUseCase getAllProductsUseCase,
+                                       ObjectProvider<HikariDataSource> pools, MeterRegistry meterRegistry) {
+        return new StartupWarmup(context, properties, getAllProductsUseCase, pools, meterRegistry);
+    }
+}
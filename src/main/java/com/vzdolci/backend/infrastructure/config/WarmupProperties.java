@@ -0,0 +1,52 @@
+package com.vzdolci.backend.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings for the startup warm-up ({@code vzdolci.warmup.*}).
+ */
+@ConfigurationProperties(prefix = "vzdolci.warmup")
+public class WarmupProperties {
+
+    private boolean enabled = true;
+    /** Rounds over the read endpoints; each round uses the next product of the sample. */
+    private int iterations = 50;
+    /** Products whose by-id, slug and search paths are exercised. */
+    private int sampleSize = 20;
+    /** Upper bound for the whole warm-up; readiness is never held back longer than this. */
+    private Duration maxDuration = Duration.ofSeconds(60);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getIterations() {
+        return iterations;
+    }
+
+    public void setIterations(int iterations) {
+        this.iterations = iterations;
+    }
+
+    public int getSampleSize() {
+        return sampleSize;
+    }
+
+    public void setSampleSize(int sampleSize) {
+        this.sampleSize = sampleSize;
+    }
+
+    public Duration getMaxDuration() {
+        return maxDuration;
+    }
+
+    public void setMaxDuration(Duration maxDuration) {
+        this.maxDuration = maxDuration;
+    }
+}
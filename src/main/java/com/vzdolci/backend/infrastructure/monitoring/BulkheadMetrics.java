@@ -0,0 +1,39 @@
+package com.vzdolci.backend.infrastructure.monitoring;
+
+import com.vzdolci.backend.application.resilience.Bulkhead;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Exposes the state of a bulkhead: calls in flight, callers waiting, capacity and rejections.
+ */
+public class BulkheadMetrics implements MeterBinder {
+
+    private final Bulkhead bulkhead;
+
+    public BulkheadMetrics(Bulkhead bulkhead) {
+        this.bulkhead = bulkhead;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("vzdolci.bulkhead.active", bulkhead, Bulkhead::getActiveCalls)
+                .description("Calls currently holding a permit")
+                .tag("bulkhead", bulkhead.getName())
+                .register(registry);
+        Gauge.builder("vzdolci.bulkhead.queued", bulkhead, Bulkhead::getQueuedCalls)
+                .description("Calls waiting for a permit")
+                .tag("bulkhead", bulkhead.getName())
+                .register(registry);
+        Gauge.builder("vzdolci.bulkhead.max", bulkhead, Bulkhead::getMaxConcurrentCalls)
+                .description("Maximum concurrent calls")
+                .tag("bulkhead", bulkhead.getName())
+                .register(registry);
+        FunctionCounter.builder("vzdolci.bulkhead.rejected", bulkhead, Bulkhead::getRejectedCalls)
+                .description("Calls rejected because no permit became available in time")
+                .tag("bulkhead", bulkhead.getName())
+                .register(registry);
+    }
+}
@@ -0,0 +1,35 @@
+package com.vzdolci.backend.infrastructure.monitoring;
+
+import com.vzdolci.backend.infrastructure.persistence.snapshot.CatalogSnapshotStore;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Exposes how many reads the local catalog snapshot answered, and how old it is.
+ */
+public class CatalogSnapshotMetrics implements MeterBinder {
+
+    private final CatalogSnapshotStore store;
+
+    public CatalogSnapshotMetrics(CatalogSnapshotStore store) {
+        this.store = store;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("vzdolci.snapshot.reads", store, CatalogSnapshotStore::getStartupReads)
+                .description("Reads answered from the snapshot before the catalog was read from the database")
+                .tag("reason", "startup")
+                .register(registry);
+        FunctionCounter.builder("vzdolci.snapshot.reads", store, CatalogSnapshotStore::getFallbackReads)
+                .description("Reads answered from the snapshot because the database was unavailable")
+                .tag("reason", "fallback")
+                .register(registry);
+        Gauge.builder("vzdolci.snapshot.age", store, CatalogSnapshotStore::getAgeSeconds)
+                .description("Time since the snapshot was read from the database")
+                .baseUnit("seconds")
+                .register(registry);
+    }
+}
@@ -0,0 +1,35 @@
+package com.vzdolci.backend.infrastructure.monitoring;
+
+import com.vzdolci.backend.infrastructure.persistence.routing.ReadWriteRoutingDataSource;
+import com.vzdolci.backend.infrastructure.persistence.routing.ReplicaDataSource;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Exposes replica health and how many reads fell back to the primary.
+ * Pool metrics of the replicas are published by Hikari itself ({@code hikaricp.*}, pool {@code replica-N}).
+ */
+public class DataSourceRoutingMetrics implements MeterBinder {
+
+    private final ReadWriteRoutingDataSource dataSource;
+
+    public DataSourceRoutingMetrics(ReadWriteRoutingDataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (ReplicaDataSource replica : dataSource.getReplicas()) {
+            Gauge.builder("vzdolci.datasource.replica.healthy", replica, r -> r.isHealthy() ? 1 : 0)
+                    .description("Whether the replica is in the read rotation")
+                    .tag("replica", replica.getName())
+                    .register(registry);
+        }
+        FunctionCounter.builder("vzdolci.datasource.replica.fallbacks", dataSource,
+                        ReadWriteRoutingDataSource::getFallbacks)
+                .description("Read-only transactions served by the primary because no replica was available")
+                .register(registry);
+    }
+}
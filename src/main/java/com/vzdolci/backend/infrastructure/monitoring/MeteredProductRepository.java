@@ -0,0 +1,200 @@
+package com.vzdolci.backend.infrastructure.monitoring;
+
+import com.vzdolci.backend.domain.model.CatalogVersion;
+import com.vzdolci.backend.domain.model.Product;
+import com.vzdolci.backend.domain.model.ProductChangeSet;
+import com.vzdolci.backend.domain.model.ProductSummary;
+import com.vzdolci.backend.domain.repository.ProductPageQuery;
+import com.vzdolci.backend.domain.repository.ProductRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
+/**
+ * Metrics decorator for ProductRepository, wrapped directly around the JPA adapter so that it measures
+ * database time only (cache hits and bulkhead waits are excluded).
+ * Records a {@code vzdolci.repository} timer and a {@code vzdolci.repository.rows} summary per method,
+ * tagged with the method, the activeOnly variant and the outcome. Meters are created once up front,
+ * so the hot path does no registry lookups.
+ */
+public class MeteredProductRepository implements ProductRepository {
+    
+    private static final String NOT_APPLICABLE = "n/a";
+    
+    private final ProductRepository delegate;
+    
+    private final MethodMeters findAll;
+    private final MethodMeters findActiveProducts;
+    private final MethodMeters findById;
+    private final MethodMeters findAllByIds;
+    private final MethodMeters findBySlug;
+    private final MethodMeters findAllSummaries;
+    private final MethodMeters findActiveSummaries;
+    private final MethodMeters findSummaryById;
+    private final MethodMeters getCatalogVersion;
+    private final MethodMeters getActiveCatalogVersion;
+    private final MethodMeters findUpdatedAtById;
+    private final MethodMeters findPage;
+    private final MethodMeters findActivePage;
+    private final MethodMeters findChangesSince;
+    private final MethodMeters save;
+    private final MethodMeters upsertAllBySlug;
+    private final MethodMeters deleteById;
+    
+    public MeteredProductRepository(ProductRepository delegate, MeterRegistry registry) {
+        this.delegate = delegate;
+        this.findAll = new MethodMeters(registry, "findAll", "false");
+        this.findActiveProducts = new MethodMeters(registry, "findActiveProducts", "true");
+        this.findById = new MethodMeters(registry, "findById", NOT_APPLICABLE);
+        this.findAllByIds = new MethodMeters(registry, "findAllByIds", NOT_APPLICABLE);
+        this.findBySlug = new MethodMeters(registry, "findBySlug", NOT_APPLICABLE);
+        this.findAllSummaries = new MethodMeters(registry, "findAllSummaries", "false");
+        this.findActiveSummaries = new MethodMeters(registry, "findActiveSummaries", "true");
+        this.findSummaryById = new MethodMeters(registry, "findSummaryById", NOT_APPLICABLE);
+        this.getCatalogVersion = new MethodMeters(registry, "getCatalogVersion", "false");
+        this.getActiveCatalogVersion = new MethodMeters(registry, "getCatalogVersion", "true");
+        this.findUpdatedAtById = new MethodMeters(registry, "findUpdatedAtById", NOT_APPLICABLE);
+        this.findPage = new MethodMeters(registry, "findPage", "false");
+        this.findActivePage = new MethodMeters(registry, "findPage", "true");
+        this.findChangesSince = new MethodMeters(registry, "findChangesSince", NOT_APPLICABLE);
+        this.save = new MethodMeters(registry, "save", NOT_APPLICABLE);
+        this.upsertAllBySlug = new MethodMeters(registry, "upsertAllBySlug", NOT_APPLICABLE);
+        this.deleteById = new MethodMeters(registry, "deleteById", NOT_APPLICABLE);
+    }
+    
+    @Override
+    public List<Product> findAll() {
+        return findAll.record(delegate::findAll, List::size);
+    }
+    
+    @Override
+    public List<Product> findActiveProducts() {
+        return findActiveProducts.record(delegate::findActiveProducts, List::size);
+    }
+    
+    @Override
+    public Optional<Product> findById(Long id) {
+        return findById.record(() -> delegate.findById(id), MeteredProductRepository::rows);
+    }
+    
+    @Override
+    public List<Product> findAllByIds(Collection<Long> ids) {
+        return findAllByIds.record(() -> delegate.findAllByIds(ids), List::size);
+    }
+    
+    @Override
+    public Optional<Product> findBySlug(String slug) {
+        return findBySlug.record(() -> delegate.findBySlug(slug), MeteredProductRepository::rows);
+    }
+    
+    @Override
+    public List<ProductSummary> findAllSummaries() {
+        return findAllSummaries.record(delegate::findAllSummaries, List::size);
+    }
+    
+    @Override
+    public List<ProductSummary> findActiveSummaries() {
+        return findActiveSummaries.record(delegate::findActiveSummaries, List::size);
+    }
+    
+    @Override
+    public Optional<ProductSummary> findSummaryById(Long id) {
+        return findSummaryById.record(() -> delegate.findSummaryById(id), MeteredProductRepository::rows);
+    }
+    
+    @Override
+    public CatalogVersion getCatalogVersion(boolean activeOnly) {
+        MethodMeters meters = activeOnly ? getActiveCatalogVersion : getCatalogVersion;
+        return meters.record(() -> delegate.getCatalogVersion(activeOnly), version -> 1);
+    }
+    
+    @Override
+    public Optional<OffsetDateTime> findUpdatedAtById(Long id) {
+        return findUpdatedAtById.record(() -> delegate.findUpdatedAtById(id), MeteredProductRepository::rows);
+    }
+    
+    @Override
+    public List<Product> findPage(ProductPageQuery query) {
+        MethodMeters meters = query.isActiveOnly() ? findActivePage : findPage;
+        return meters.record(() -> delegate.findPage(query), List::size);
+    }
+    
+    @Override
+    public ProductChangeSet findChangesSince(OffsetDateTime since) {
+        return findChangesSince.record(() -> delegate.findChangesSince(since),
+                changes -> changes.getChanged().size() + changes.getDeletedIds().size());
+    }
+    
+    @Override
+    public Product save(Product product) {
+        return save.record(() -> delegate.save(product), saved -> 1);
+    }
+    
+    @Override
+    public void upsertAllBySlug(List<Product> products) {
+        upsertAllBySlug.record(() -> {
+            delegate.upsertAllBySlug(products);
+            return products;
+        }, List::size);
+    }
+    
+    @Override
+    public void deleteById(Long id) {
+        deleteById.record(() -> {
+            delegate.deleteById(id);
+            return id;
+        }, deleted -> 1);
+    }
+    
+    private static int rows(Optional<?> result) {
+        return result.isPresent() ? 1 : 0;
+    }
+    
+    private static final class MethodMeters {
+        private final Timer success;
+        private final Timer error;
+        private final DistributionSummary rows;
+        
+        private MethodMeters(MeterRegistry registry, String method, String activeOnly) {
+            this.success = timer(registry, method, activeOnly, "success");
+            this.error = timer(registry, method, activeOnly, "error");
+            this.rows = DistributionSummary.builder("vzdolci.repository.rows")
+                    .description("Rows read or written per ProductRepository call")
+                    .baseUnit("rows")
+                    .tag("method", method)
+                    .tag("active_only", activeOnly)
+                    .register(registry);
+        }
+        
+        private static Timer timer(MeterRegistry registry, String method, String activeOnly, String outcome) {
+            return Timer.builder("vzdolci.repository")
+                    .description("Database time per ProductRepository call")
+                    .tag("method", method)
+                    .tag("active_only", activeOnly)
+                    .tag("outcome", outcome)
+                    .register(registry);
+        }
+        
+        private <T> T record(Supplier<T> call, ToIntFunction<T> rowCount) {
+            long start = System.nanoTime();
+            T result;
+            try {
+                result = call.get();
+            } catch (RuntimeException ex) {
+                error.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                throw ex;
+            }
+            success.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            rows.record(rowCount.applyAsInt(result));
+            return result;
+        }
+    }
+}
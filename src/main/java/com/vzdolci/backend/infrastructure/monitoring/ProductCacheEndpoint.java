@@ -0,0 +1,28 @@
+package com.vzdolci.backend.infrastructure.monitoring;
+
+import com.vzdolci.backend.application.cache.CacheStats;
+import com.vzdolci.backend.application.cache.ProductCacheService;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import java.util.List;
+
+/**
+ * Actuator endpoint ({@code /actuator/productcache}) exposing the catalog cache statistics.
+ * It is read-only over HTTP; dropping the cache is a JMX operation (ProductCacheJmxExtension), so an
+ * unauthenticated client cannot keep the cache empty and push every read onto the pool.
+ */
+@Endpoint(id = "productcache")
+public class ProductCacheEndpoint {
+
+    private final ProductCacheService productCacheService;
+
+    public ProductCacheEndpoint(ProductCacheService productCacheService) {
+        this.productCacheService = productCacheService;
+    }
+
+    @ReadOperation
+    public List<CacheStats> stats() {
+        return productCacheService.stats();
+    }
+}
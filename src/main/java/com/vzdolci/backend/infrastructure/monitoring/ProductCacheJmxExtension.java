@@ -0,0 +1,23 @@
+package com.vzdolci.backend.infrastructure.monitoring;
+
+import com.vzdolci.backend.application.cache.ProductCacheService;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.jmx.annotation.EndpointJmxExtension;
+
+/**
+ * JMX-only operations of the productcache endpoint: the {@code invalidate} operation drops every cached entry.
+ */
+@EndpointJmxExtension(endpoint = ProductCacheEndpoint.class)
+public class ProductCacheJmxExtension {
+
+    private final ProductCacheService productCacheService;
+
+    public ProductCacheJmxExtension(ProductCacheService productCacheService) {
+        this.productCacheService = productCacheService;
+    }
+
+    @DeleteOperation
+    public void invalidate() {
+        productCacheService.invalidateAll();
+    }
+}
@@ -0,0 +1,56 @@
+package com.vzdolci.backend.infrastructure.monitoring;
+
+import com.vzdolci.backend.application.cache.CacheStats;
+import com.vzdolci.backend.application.cache.ProductCacheService;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Exposes the catalog cache statistics as meters, tagged by cache name.
+ * Values are read from the cache counters at scrape time, so nothing is added to the request path.
+ */
+public class ProductCacheMetrics implements MeterBinder {
+
+    private final ProductCacheService productCacheService;
+
+    public ProductCacheMetrics(ProductCacheService productCacheService) {
+        this.productCacheService = productCacheService;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (CacheStats initial : productCacheService.stats()) {
+            String cache = initial.getName();
+            counter(registry, "vzdolci.cache.gets", cache, "result", "hit", CacheStats::getHits);
+            counter(registry, "vzdolci.cache.gets", cache, "result", "miss", CacheStats::getMisses);
+            counter(registry, "vzdolci.cache.evictions", cache, "cause", "size", CacheStats::getEvictions);
+            counter(registry, "vzdolci.cache.evictions", cache, "cause", "expired", CacheStats::getExpirations);
+            counter(registry, "vzdolci.cache.refreshes", cache, "result", "success", CacheStats::getRefreshes);
+            counter(registry, "vzdolci.cache.refreshes", cache, "result", "failure", CacheStats::getLoadFailures);
+            Gauge.builder("vzdolci.cache.size", productCacheService, service -> stat(service, cache, CacheStats::getSize))
+                    .description("Entries currently held by the catalog cache")
+                    .tag("cache", cache)
+                    .register(registry);
+        }
+    }
+
+    private void counter(MeterRegistry registry, String name, String cache, String tagKey, String tagValue,
+                         ToDoubleFunction<CacheStats> value) {
+        FunctionCounter.builder(name, productCacheService, service -> stat(service, cache, value))
+                .tag("cache", cache)
+                .tag(tagKey, tagValue)
+                .register(registry);
+    }
+
+    private static double stat(ProductCacheService service, String cache, ToDoubleFunction<CacheStats> value) {
+        return service.stats().stream()
+                .filter(stats -> stats.getName().equals(cache))
+                .mapToDouble(value)
+                .findFirst()
+                .orElse(Double.NaN);
+    }
+}
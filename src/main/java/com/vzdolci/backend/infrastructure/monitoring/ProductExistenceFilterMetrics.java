@@ -0,0 +1,48 @@
+package com.vzdolci.backend.infrastructure.monitoring;
+
+import com.vzdolci.backend.application.index.ProductExistenceFilter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Exposes how many id and slug lookups the existence filter ruled out, and how full the filter is.
+ */
+public class ProductExistenceFilterMetrics implements MeterBinder {
+
+    private final ProductExistenceFilter filter;
+
+    public ProductExistenceFilterMetrics(ProductExistenceFilter filter) {
+        this.filter = filter;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        checks(registry, "id", "absent", ProductExistenceFilter::getIdsAbsent);
+        checks(registry, "id", "possible", ProductExistenceFilter::getIdsPossible);
+        checks(registry, "slug", "absent", ProductExistenceFilter::getSlugsAbsent);
+        checks(registry, "slug", "possible", ProductExistenceFilter::getSlugsPossible);
+        FunctionCounter.builder("vzdolci.existence_filter.rebuilds", filter, ProductExistenceFilter::getRebuilds)
+                .description("Rebuilds of the existence filter from the products table")
+                .register(registry);
+        Gauge.builder("vzdolci.existence_filter.entries", filter, ProductExistenceFilter::getEntries)
+                .description("Keys in the existence filter, including deleted products not yet rebuilt away")
+                .register(registry);
+        Gauge.builder("vzdolci.existence_filter.false_positive_rate", filter,
+                        ProductExistenceFilter::getExpectedFalsePositiveRate)
+                .description("Expected share of unknown ids the existence filter lets through")
+                .register(registry);
+    }
+
+    private void checks(MeterRegistry registry, String key, String result,
+                        ToDoubleFunction<ProductExistenceFilter> count) {
+        FunctionCounter.builder("vzdolci.existence_filter.checks", filter, count)
+                .description("Lookups checked against the existence filter")
+                .tag("key", key)
+                .tag("result", result)
+                .register(registry);
+    }
+}
@@ -0,0 +1,33 @@
+package com.vzdolci.backend.infrastructure.monitoring;
+
+import com.vzdolci.backend.application.usecase.ExportProductsUseCase;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Exposes the streaming export slots: exports in progress, capacity and rejections.
+ */
+public class ProductExportMetrics implements MeterBinder {
+
+    private final ExportProductsUseCase exportProductsUseCase;
+
+    public ProductExportMetrics(ExportProductsUseCase exportProductsUseCase) {
+        this.exportProductsUseCase = exportProductsUseCase;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("vzdolci.export.active", exportProductsUseCase, ExportProductsUseCase::getActiveExports)
+                .description("Streaming exports in progress")
+                .register(registry);
+        Gauge.builder("vzdolci.export.max", exportProductsUseCase, ExportProductsUseCase::getMaxConcurrentExports)
+                .description("Maximum concurrent streaming exports")
+                .register(registry);
+        FunctionCounter.builder("vzdolci.export.rejected", exportProductsUseCase,
+                        ExportProductsUseCase::getRejectedExports)
+                .description("Streaming exports rejected because every slot was in use")
+                .register(registry);
+    }
+}
@@ -0,0 +1,33 @@
+package com.vzdolci.backend.infrastructure.monitoring;
+
+import com.vzdolci.backend.web.stream.ProductChangeBroadcaster;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Exposes the change stream: open subscribers, events published and slow subscribers disconnected.
+ */
+public class ProductStreamMetrics implements MeterBinder {
+
+    private final ProductChangeBroadcaster broadcaster;
+
+    public ProductStreamMetrics(ProductChangeBroadcaster broadcaster) {
+        this.broadcaster = broadcaster;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("vzdolci.stream.subscribers", broadcaster, ProductChangeBroadcaster::getSubscriberCount)
+                .description("Open change stream connections")
+                .register(registry);
+        FunctionCounter.builder("vzdolci.stream.events", broadcaster, ProductChangeBroadcaster::getPublishedEvents)
+                .description("Change events published to the stream")
+                .register(registry);
+        FunctionCounter.builder("vzdolci.stream.evictions", broadcaster,
+                        ProductChangeBroadcaster::getEvictedSubscribers)
+                .description("Subscribers disconnected because their buffer filled up or a write stalled")
+                .register(registry);
+    }
+}
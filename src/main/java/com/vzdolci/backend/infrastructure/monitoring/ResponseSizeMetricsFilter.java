@@ -0,0 +1,239 @@
+package com.vzdolci.backend.infrastructure.monitoring;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Records the size of every response body as {@code vzdolci.http.response.size}, tagged like
+ * {@code http.server.requests} (method, uri pattern, status) plus the content coding and the activeOnly variant.
+ * Bytes are counted as they pass through the response output stream or writer, without buffering the body;
+ * characters written through the writer are counted in the response's character encoding. Asynchronous responses
+ * (streamed exports, SSE) are recorded when async processing completes, with everything written until then.
+ */
+@Component
+public class ResponseSizeMetricsFilter extends OncePerRequestFilter {
+
+    private static final String METRIC = "vzdolci.http.response.size";
+
+    private final MeterRegistry meterRegistry;
+
+    public ResponseSizeMetricsFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        CountingResponse countingResponse = new CountingResponse(response);
+        try {
+            chain.doFilter(request, countingResponse);
+        } finally {
+            if (request.isAsyncStarted()) {
+                // Still being written by another thread; the async dispatches skip this filter, so record at the end
+                request.getAsyncContext().addListener(new RecordOnCompletion(request, countingResponse));
+            } else {
+                record(request, countingResponse);
+            }
+        }
+    }
+
+    private void record(HttpServletRequest request, CountingResponse response) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String encoding = response.getHeader(HttpHeaders.CONTENT_ENCODING);
+        String activeOnly = request.getParameter("activeOnly");
+        DistributionSummary.builder(METRIC)
+                .description("Response body size")
+                .baseUnit("bytes")
+                .tags("method", request.getMethod(),
+                        "uri", pattern != null ? pattern.toString() : "UNKNOWN",
+                        "status", String.valueOf(response.getStatus()),
+                        "encoding", encoding != null ? encoding : "identity",
+                        "active_only", activeOnly != null ? String.valueOf(Boolean.parseBoolean(activeOnly)) : "n/a")
+                .register(meterRegistry)
+                .record(response.getByteCount());
+    }
+
+    private final class RecordOnCompletion implements AsyncListener {
+        private final HttpServletRequest request;
+        private final CountingResponse response;
+
+        private RecordOnCompletion(HttpServletRequest request, CountingResponse response) {
+            this.request = request;
+            this.response = response;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            // Also follows a timeout or an error, once the final status has been written
+            record(request, response);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // Starting async again replaces the listeners, so stay registered for the new cycle
+            event.getAsyncContext().addListener(this);
+        }
+    }
+
+    private static final class CountingResponse extends HttpServletResponseWrapper {
+        private CountingOutputStream outputStream;
+        private CountingWriter countingWriter;
+        private PrintWriter writer;
+
+        private CountingResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (outputStream == null) {
+                outputStream = new CountingOutputStream(super.getOutputStream());
+            }
+            return outputStream;
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            if (writer == null) {
+                PrintWriter delegate = super.getWriter();
+                // The container fixes the character encoding once the writer has been obtained
+                String encoding = getCharacterEncoding();
+                countingWriter = new CountingWriter(delegate,
+                        encoding != null ? Charset.forName(encoding) : StandardCharsets.ISO_8859_1);
+                writer = new PrintWriter(countingWriter);
+            }
+            return writer;
+        }
+
+        private long getByteCount() {
+            long count = outputStream != null ? outputStream.count : 0;
+            return countingWriter != null ? count + countingWriter.count : count;
+        }
+    }
+
+    private static final class CountingWriter extends Writer {
+        private final Writer delegate;
+        private final Charset charset;
+        private final boolean singleByte;
+        private long count;
+
+        private CountingWriter(Writer delegate, Charset charset) {
+            this.delegate = delegate;
+            this.charset = charset;
+            this.singleByte = charset.newEncoder().maxBytesPerChar() <= 1.0f;
+        }
+
+        @Override
+        public void write(int c) throws IOException {
+            delegate.write(c);
+            count += encodedLength(String.valueOf((char) c), 0, 1);
+        }
+
+        @Override
+        public void write(char[] buffer, int off, int len) throws IOException {
+            delegate.write(buffer, off, len);
+            count += encodedLength(CharBuffer.wrap(buffer), off, len);
+        }
+
+        @Override
+        public void write(String str, int off, int len) throws IOException {
+            delegate.write(str, off, len);
+            count += encodedLength(str, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+
+        private long encodedLength(CharSequence chars, int off, int len) {
+            if (singleByte) {
+                return len;
+            }
+            if (charset.equals(StandardCharsets.UTF_8)) {
+                long bytes = 0;
+                for (int i = off; i < off + len; i++) {
+                    char c = chars.charAt(i);
+                    // Each half of a surrogate pair counts 2 of the pair's 4 bytes
+                    bytes += c < 0x80 ? 1 : c < 0x800 || Character.isSurrogate(c) ? 2 : 3;
+                }
+                return bytes;
+            }
+            return charset.encode(CharBuffer.wrap(chars, off, off + len)).remaining();
+        }
+    }
+
+    private static final class CountingOutputStream extends ServletOutputStream {
+        private final ServletOutputStream delegate;
+        private long count;
+
+        private CountingOutputStream(ServletOutputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            delegate.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            delegate.write(b, off, len);
+            count += len;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            delegate.setWriteListener(writeListener);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.vzdolci.backend.infrastructure.monitoring;
+
+import com.vzdolci.backend.application.coalescing.SingleFlight;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Exposes how many calls a single-flight group ran itself and how many it coalesced into a load in flight.
+ */
+public class SingleFlightMetrics implements MeterBinder {
+
+    private final SingleFlight<?, ?> singleFlight;
+
+    public SingleFlightMetrics(SingleFlight<?, ?> singleFlight) {
+        this.singleFlight = singleFlight;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("vzdolci.coalescing.calls", singleFlight, SingleFlight::getLoads)
+                .description("Calls that ran the load themselves")
+                .tag("flight", singleFlight.getName())
+                .tag("result", "loaded")
+                .register(registry);
+        FunctionCounter.builder("vzdolci.coalescing.calls", singleFlight, SingleFlight::getCoalescedCalls)
+                .description("Calls that shared a load already in flight")
+                .tag("flight", singleFlight.getName())
+                .tag("result", "coalesced")
+                .register(registry);
+        Gauge.builder("vzdolci.coalescing.in_flight", singleFlight, SingleFlight::getInFlight)
+                .description("Keys with a load currently in flight")
+                .tag("flight", singleFlight.getName())
+                .register(registry);
+    }
+}
@@ -0,0 +1,133 @@
+package com.vzdolci.backend.infrastructure.persistence.export;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vzdolci.backend.application.export.ProductJsonExporter;
+import com.vzdolci.backend.application.resilience.Bulkhead;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.function.Supplier;
+
+/**
+ * JDBC implementation of {@link ProductJsonExporter}: a forward-only, read-only cursor whose rows are
+ * written one by one to a Jackson {@link JsonGenerator}, without entities, domain objects or DTOs in between.
+ * The PostgreSQL driver only honours the fetch size inside a transaction (autocommit off), hence the
+ * read-only transaction around the query; otherwise it would buffer the whole result set.
+ */
+@Component
+public class JdbcProductJsonExporter implements ProductJsonExporter {
+
+    /** Rows fetched per round trip; also how often the generator is flushed to the client. */
+    static final int FETCH_SIZE = 500;
+
+    private static final String SELECT_ALL_SQL =
+            "SELECT id, name, description, price_cents, ingredients, story, emoji FROM public.products ORDER BY id";
+    private static final String SELECT_ACTIVE_SQL =
+            "SELECT id, name, description, price_cents, ingredients, story, emoji FROM public.products "
+            + "WHERE is_active = true ORDER BY id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final JsonFactory jsonFactory;
+    private final ObjectProvider<Bulkhead> databaseBulkhead;
+
+    public JdbcProductJsonExporter(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                                   ObjectMapper objectMapper, ObjectProvider<Bulkhead> databaseBulkhead) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.jsonFactory = objectMapper.getFactory();
+        this.databaseBulkhead = databaseBulkhead;
+    }
+
+    @Override
+    public long writeAll(boolean activeOnly, OutputStream out) throws IOException {
+        String sql = activeOnly ? SELECT_ACTIVE_SQL : SELECT_ALL_SQL;
+        try {
+            return withBulkhead(() -> readOnlyTransaction.execute(status -> export(sql, out)));
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+    }
+
+    /**
+     * The cursor keeps a connection for as long as the client takes to read the response, so it takes a
+     * bulkhead permit like any other database call when the bulkhead is enabled.
+     */
+    private long withBulkhead(Supplier<Long> export) {
+        Bulkhead bulkhead = databaseBulkhead.getIfAvailable();
+        Long count = bulkhead != null ? bulkhead.call(export) : export.get();
+        return count != null ? count : 0;
+    }
+
+    private long export(String sql, OutputStream out) {
+        try (JsonGenerator generator = jsonFactory.createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            // A failure halfway must leave the array unterminated, not look like a complete listing
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+            generator.writeStartArray();
+            // Headers and the opening bracket go out before the query runs
+            generator.flush();
+            
+            long count = jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(
+                        sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                statement.setFetchSize(FETCH_SIZE);
+                return statement;
+            }, (ResultSetExtractor<Long>) resultSet -> writeRows(resultSet, generator));
+            
+            generator.writeEndArray();
+            generator.flush();
+            return count;
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static long writeRows(ResultSet resultSet, JsonGenerator generator) throws SQLException {
+        long count = 0;
+        try {
+            while (resultSet.next()) {
+                writeRow(resultSet, generator);
+                if (++count % FETCH_SIZE == 0) {
+                    generator.flush();
+                }
+            }
+        } catch (IOException ex) {
+            // Usually the client went away; stop reading and release the connection
+            throw new UncheckedIOException(ex);
+        }
+        return count;
+    }
+
+    /** Same fields, order and price format as ProductResponse. */
+    private static void writeRow(ResultSet resultSet, JsonGenerator generator) throws SQLException, IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("id", resultSet.getLong(1));
+        generator.writeStringField("name", resultSet.getString(2));
+        generator.writeStringField("description", resultSet.getString(3));
+        int priceCents = resultSet.getInt(4);
+        if (resultSet.wasNull()) {
+            generator.writeNullField("price");
+        } else {
+            generator.writeNumberField("price", BigDecimal.valueOf(priceCents, 2));
+        }
+        generator.writeStringField("ingredients", resultSet.getString(5));
+        generator.writeStringField("story", resultSet.getString(6));
+        generator.writeStringField("emoji", resultSet.getString(7));
+        generator.writeEndObject();
+    }
+}
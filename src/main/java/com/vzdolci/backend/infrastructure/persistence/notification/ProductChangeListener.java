@@ -0,0 +1,210 @@
+package com.vzdolci.backend.infrastructure.persistence.notification;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vzdolci.backend.domain.event.ProductChangeType;
+import com.vzdolci.backend.domain.event.ProductChangedEvent;
+import com.vzdolci.backend.infrastructure.config.ProductChangeListenerProperties;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.OffsetDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Listens for catalog changes published by the products NOTIFY trigger and republishes them
+ * as local {@link ProductChangedEvent}s.
+ * Uses a dedicated connection outside the Hikari pool. Bursts are coalesced per product id within a
+ * short window, and a burst larger than the configured batch size collapses into a single RESYNC.
+ * Notifications sent while the connection is down are lost, so every (re)connect publishes RESYNC too.
+ */
+public class ProductChangeListener implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductChangeListener.class);
+
+    private final ProductChangeListenerProperties properties;
+    private final String url;
+    private final String username;
+    private final String password;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+
+    private volatile boolean running;
+    private volatile Connection connection;
+    private Thread thread;
+
+    public ProductChangeListener(ProductChangeListenerProperties properties, String url, String username,
+                                 String password, ApplicationEventPublisher eventPublisher,
+                                 ObjectMapper objectMapper) {
+        this.properties = properties;
+        this.url = url;
+        this.username = username;
+        this.password = password;
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        thread = new Thread(this::run, "product-change-listener");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Override
+    public synchronized void stop() {
+        running = false;
+        closeQuietly(connection);
+        if (thread != null) {
+            thread.interrupt();
+            thread = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void run() {
+        long backoffMillis = properties.getInitialBackoff().toMillis();
+        while (running) {
+            try (Connection listenerConnection = DriverManager.getConnection(url, username, password)) {
+                connection = listenerConnection;
+                try (Statement statement = listenerConnection.createStatement()) {
+                    statement.execute("LISTEN " + properties.getChannel());
+                }
+                backoffMillis = properties.getInitialBackoff().toMillis();
+                log.info("Listening for catalog changes on channel '{}'", properties.getChannel());
+                eventPublisher.publishEvent(ProductChangedEvent.resync());
+                listen(listenerConnection);
+            } catch (SQLException ex) {
+                if (!running) {
+                    return;
+                }
+                log.warn("Catalog change listener disconnected, retrying in {} ms: {}", backoffMillis, ex.getMessage());
+                sleep(backoffMillis);
+                backoffMillis = Math.min(backoffMillis * 2, properties.getMaxBackoff().toMillis());
+            } finally {
+                connection = null;
+            }
+        }
+    }
+
+    private void listen(Connection listenerConnection) throws SQLException {
+        PGConnection pgConnection = listenerConnection.unwrap(PGConnection.class);
+        int pollTimeoutMillis = (int) Math.max(1, properties.getPollTimeout().toMillis());
+        long keepAliveNanos = properties.getKeepAliveInterval().toNanos();
+        long lastActivity = System.nanoTime();
+
+        while (running) {
+            PGNotification[] notifications = pgConnection.getNotifications(pollTimeoutMillis);
+            if (notifications == null || notifications.length == 0) {
+                if (System.nanoTime() - lastActivity >= keepAliveNanos) {
+                    // Detects half-open connections that would otherwise block silently
+                    try (Statement statement = listenerConnection.createStatement()) {
+                        statement.execute("SELECT 1");
+                    }
+                    lastActivity = System.nanoTime();
+                }
+                continue;
+            }
+
+            Map<Long, ProductChangedEvent> pending = new LinkedHashMap<>();
+            boolean resync = collect(notifications, pending);
+            long deadline = System.nanoTime() + properties.getCoalesceWindow().toNanos();
+            long remaining;
+            while (!resync && (remaining = deadline - System.nanoTime()) > 0) {
+                int waitMillis = (int) Math.max(1, TimeUnit.NANOSECONDS.toMillis(remaining));
+                PGNotification[] more = pgConnection.getNotifications(waitMillis);
+                if (more != null) {
+                    resync = collect(more, pending);
+                }
+            }
+            lastActivity = System.nanoTime();
+
+            if (resync || pending.size() > properties.getMaxBatchSize()) {
+                eventPublisher.publishEvent(ProductChangedEvent.resync());
+            } else {
+                pending.values().forEach(eventPublisher::publishEvent);
+            }
+        }
+    }
+
+    /**
+     * Adds the notifications to {@code pending}, keeping only the latest change per product.
+     * @return true when one of them requires a full resync
+     */
+    private boolean collect(PGNotification[] notifications, Map<Long, ProductChangedEvent> pending) {
+        boolean resync = false;
+        for (PGNotification notification : notifications) {
+            ProductChangedEvent event = parse(notification.getParameter());
+            if (event == null || event.isResync()) {
+                resync = true;
+            } else {
+                pending.remove(event.getProductId());
+                pending.put(event.getProductId(), event);
+            }
+        }
+        return resync;
+    }
+
+    private ProductChangedEvent parse(String payload) {
+        try {
+            JsonNode json = objectMapper.readTree(payload);
+            String operation = json.path("op").asText();
+            if (!json.hasNonNull("id")) {
+                return ProductChangedEvent.resync();
+            }
+            ProductChangeType type = switch (operation) {
+                case "INSERT" -> ProductChangeType.INSERT;
+                case "UPDATE" -> ProductChangeType.UPDATE;
+                case "DELETE" -> ProductChangeType.DELETE;
+                default -> ProductChangeType.RESYNC;
+            };
+            OffsetDateTime updatedAt = json.hasNonNull("updated_at")
+                ? OffsetDateTime.parse(json.get("updated_at").asText())
+                : null;
+            return type == ProductChangeType.RESYNC
+                ? ProductChangedEvent.resync()
+                : new ProductChangedEvent(json.get("id").asLong(), type, updatedAt);
+        } catch (IOException | RuntimeException ex) {
+            log.warn("Ignoring malformed catalog change notification '{}': {}", payload, ex.getMessage());
+            return null;
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void closeQuietly(Connection connection) {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (SQLException ignored) {
+            // Closing only unblocks the listener thread
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.vzdolci.backend.infrastructure.persistence.projection;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Projection for the aggregate catalog version query (row count and newest updated_at).
+ */
+public interface CatalogVersionView {
+    
+    Long getProductCount();
+    
+    OffsetDateTime getLastModified();
+}
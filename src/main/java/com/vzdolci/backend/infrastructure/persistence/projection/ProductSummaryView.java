@@ -0,0 +1,16 @@
+package com.vzdolci.backend.infrastructure.persistence.projection;
+
+/**
+ * Closed Spring Data projection over ProductEntity.
+ * Queries returning this type select only these columns, so the TEXT columns are never read.
+ */
+public interface ProductSummaryView {
+    
+    Long getId();
+    
+    String getName();
+    
+    Integer getPriceCents();
+    
+    String getEmoji();
+}
@@ -1,8 +1,13 @@
 package com.vzdolci.backend.infrastructure.persistence.repository;
 
 import com.vzdolci.backend.infrastructure.persistence.entity.ProductEntity;
+import com.vzdolci.backend.infrastructure.persistence.projection.CatalogVersionView;
+import com.vzdolci.backend.infrastructure.persistence.projection.ProductSummaryView;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -10,9 +15,27 @@ import java.util.Optional;
  * JPA Repository for ProductEntity.
  * This is the Spring Data JPA interface for database operations.
  */
-public interface ProductJpaRepository extends JpaRepository<ProductEntity, Long> {
+public interface ProductJpaRepository extends JpaRepository<ProductEntity, Long>, ProductKeysetRepository {
     
     List<ProductEntity> findByIsActiveTrue();
     
     Optional<ProductEntity> findBySlug(String slug);
+    
+    List<ProductSummaryView> findAllProjectedBy();
+    
+    List<ProductSummaryView> findProjectedByIsActiveTrue();
+    
+    Optional<ProductSummaryView> findProjectedById(Long id);
+    
+    @Query("select count(p) as productCount, max(p.updatedAt) as lastModified from ProductEntity p")
+    CatalogVersionView findCatalogVersion();
+    
+    @Query("select count(p) as productCount, max(p.updatedAt) as lastModified from ProductEntity p "
+            + "where p.isActive = true")
+    CatalogVersionView findActiveCatalogVersion();
+    
+    @Query("select p.updatedAt from ProductEntity p where p.id = :id")
+    Optional<OffsetDateTime> findUpdatedAtById(@Param("id") Long id);
+    
+    List<ProductEntity> findByUpdatedAtAfterOrderByUpdatedAtAscIdAsc(OffsetDateTime since);
 }
@@ -0,0 +1,14 @@
+package com.vzdolci.backend.infrastructure.persistence.repository;
+
+import com.vzdolci.backend.domain.repository.ProductPageQuery;
+import com.vzdolci.backend.infrastructure.persistence.entity.ProductEntity;
+
+import java.util.List;
+
+/**
+ * Spring Data fragment for keyset-paginated product queries.
+ */
+public interface ProductKeysetRepository {
+    
+    List<ProductEntity> findPage(ProductPageQuery query);
+}
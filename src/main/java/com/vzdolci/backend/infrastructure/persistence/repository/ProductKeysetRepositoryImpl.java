@@ -0,0 +1,68 @@
+package com.vzdolci.backend.infrastructure.persistence.repository;
+
+import com.vzdolci.backend.domain.repository.ProductPageQuery;
+import com.vzdolci.backend.infrastructure.persistence.entity.ProductEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+
+import java.util.List;
+
+/**
+ * Keyset pagination over public.products.
+ * Pages are located with a row-value comparison on (sort column, id), which PostgreSQL resolves
+ * as an index seek on the matching composite index, so the cost of a page does not depend on its depth.
+ */
+public class ProductKeysetRepositoryImpl implements ProductKeysetRepository {
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<ProductEntity> findPage(ProductPageQuery query) {
+        String column = columnFor(query);
+        String direction = query.isDescending() ? "DESC" : "ASC";
+        String comparison = query.isDescending() ? "<" : ">";
+        boolean hasPosition = query.getAfterId() != null;
+        boolean sortById = "id".equals(column);
+        
+        StringBuilder sql = new StringBuilder("SELECT * FROM public.products WHERE TRUE");
+        if (query.isActiveOnly()) {
+            sql.append(" AND is_active = TRUE");
+        }
+        if (hasPosition) {
+            if (sortById) {
+                sql.append(" AND id ").append(comparison).append(" :afterId");
+            } else {
+                sql.append(" AND (").append(column).append(", id) ").append(comparison)
+                   .append(" (:afterValue, :afterId)");
+            }
+        }
+        sql.append(" ORDER BY ");
+        if (!sortById) {
+            sql.append(column).append(' ').append(direction).append(", ");
+        }
+        sql.append("id ").append(direction).append(" LIMIT :limit");
+        
+        Query nativeQuery = entityManager.createNativeQuery(sql.toString(), ProductEntity.class);
+        if (hasPosition) {
+            nativeQuery.setParameter("afterId", query.getAfterId());
+            if (!sortById) {
+                nativeQuery.setParameter("afterValue", query.getAfterValue());
+            }
+        }
+        nativeQuery.setParameter("limit", query.getLimit());
+        return nativeQuery.getResultList();
+    }
+    
+    private String columnFor(ProductPageQuery query) {
+        // Column names come from this fixed mapping only, never from request input
+        return switch (query.getSortField()) {
+            case ID -> "id";
+            case NAME -> "name";
+            case PRICE_CENTS -> "price_cents";
+            case CREATED_AT -> "created_at";
+        };
+    }
+}
@@ -1,68 +1,229 @@
 package com.vzdolci.backend.infrastructure.persistence.repository;
 
 import com.vzdolci.backend.application.mapper.ProductMapper;
+import com.vzdolci.backend.domain.event.ProductChangeType;
+import com.vzdolci.backend.domain.event.ProductChangedEvent;
+import com.vzdolci.backend.domain.model.CatalogVersion;
 import com.vzdolci.backend.domain.model.Product;
+import com.vzdolci.backend.domain.model.ProductChangeSet;
+import com.vzdolci.backend.domain.model.ProductSummary;
+import com.vzdolci.backend.domain.repository.ProductPageQuery;
 import com.vzdolci.backend.domain.repository.ProductRepository;
 import com.vzdolci.backend.infrastructure.persistence.entity.ProductEntity;
+import com.vzdolci.backend.infrastructure.persistence.projection.CatalogVersionView;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 /**
  * Implementation of the ProductRepository interface.
  * This adapter translates between the domain model (Product) and the persistence model (ProductEntity).
  * Follows the Dependency Inversion Principle - the domain interface is implemented by infrastructure.
+ * Writes publish a {@link ProductChangedEvent} so that in-memory catalog state is refreshed locally
+ * right away, without waiting for the database notification.
+ * Reads run in read-only transactions, which the routing DataSource sends to a replica when one is configured.
+ * They are marked here rather than on the use cases so that cache hits never open a transaction.
  */
 @Repository
 public class ProductRepositoryImpl implements ProductRepository {
     
+    /**
+     * Rows whose content did not change are left untouched, so re-importing the same data neither bumps
+     * updated_at nor fires change notifications.
+     */
+    private static final String UPSERT_BY_SLUG_SQL = """
+            INSERT INTO public.products (slug, name, description, price_cents, ingredients, story, emoji, is_active)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            ON CONFLICT (slug) DO UPDATE SET
+                name = EXCLUDED.name,
+                description = EXCLUDED.description,
+                price_cents = EXCLUDED.price_cents,
+                ingredients = EXCLUDED.ingredients,
+                story = EXCLUDED.story,
+                emoji = EXCLUDED.emoji,
+                is_active = EXCLUDED.is_active
+            WHERE (products.name, products.description, products.price_cents, products.ingredients,
+                   products.story, products.emoji, products.is_active)
+                IS DISTINCT FROM
+                  (EXCLUDED.name, EXCLUDED.description, EXCLUDED.price_cents, EXCLUDED.ingredients,
+                   EXCLUDED.story, EXCLUDED.emoji, EXCLUDED.is_active)
+            """;
+    
+    private static final String DELETED_SINCE_SQL = """
+            SELECT product_id FROM public.product_deletions
+            WHERE deleted_at > ?
+            ORDER BY deleted_at, product_id
+            """;
+    
+    /**
+     * On a replica, only what has been replayed is visible: pg_last_xact_replay_timestamp() is the commit time of
+     * the last replayed transaction (null on the primary, where everything committed is visible).
+     */
+    private static final String CONSISTENT_AT_SQL =
+            "SELECT LEAST(now(), COALESCE(pg_last_xact_replay_timestamp(), now()))";
+    
     private final ProductJpaRepository jpaRepository;
     private final ProductMapper productMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final JdbcTemplate jdbcTemplate;
+    private final Timer mappingTimer;
     
-    public ProductRepositoryImpl(ProductJpaRepository jpaRepository, ProductMapper productMapper) {
+    public ProductRepositoryImpl(ProductJpaRepository jpaRepository, ProductMapper productMapper,
+                                 ApplicationEventPublisher eventPublisher, JdbcTemplate jdbcTemplate,
+                                 MeterRegistry meterRegistry) {
         this.jpaRepository = jpaRepository;
         this.productMapper = productMapper;
+        this.eventPublisher = eventPublisher;
+        this.jdbcTemplate = jdbcTemplate;
+        this.mappingTimer = Timer.builder("vzdolci.mapper")
+                .description("Time spent mapping entity lists to the domain model")
+                .tag("mapping", "toDomain")
+                .register(meterRegistry);
     }
     
     @Override
+    @Transactional(readOnly = true)
     public List<Product> findAll() {
-        return jpaRepository.findAll()
-                .stream()
-                .map(productMapper::toDomain)
-                .collect(Collectors.toList());
+        return toDomain(jpaRepository.findAll());
     }
     
     @Override
+    @Transactional(readOnly = true)
     public List<Product> findActiveProducts() {
-        return jpaRepository.findByIsActiveTrue()
-                .stream()
-                .map(productMapper::toDomain)
-                .collect(Collectors.toList());
+        return toDomain(jpaRepository.findByIsActiveTrue());
     }
     
     @Override
+    @Transactional(readOnly = true)
     public Optional<Product> findById(Long id) {
         return jpaRepository.findById(id)
                 .map(productMapper::toDomain);
     }
     
     @Override
+    @Transactional(readOnly = true)
+    public List<Product> findAllByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return toDomain(jpaRepository.findAllById(ids));
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
     public Optional<Product> findBySlug(String slug) {
         return jpaRepository.findBySlug(slug)
                 .map(productMapper::toDomain);
     }
     
+    @Override
+    @Transactional(readOnly = true)
+    public List<ProductSummary> findAllSummaries() {
+        return jpaRepository.findAllProjectedBy()
+                .stream()
+                .map(productMapper::toSummary)
+                .collect(Collectors.toList());
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public List<ProductSummary> findActiveSummaries() {
+        return jpaRepository.findProjectedByIsActiveTrue()
+                .stream()
+                .map(productMapper::toSummary)
+                .collect(Collectors.toList());
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<ProductSummary> findSummaryById(Long id) {
+        return jpaRepository.findProjectedById(id)
+                .map(productMapper::toSummary);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public CatalogVersion getCatalogVersion(boolean activeOnly) {
+        CatalogVersionView view = activeOnly
+            ? jpaRepository.findActiveCatalogVersion()
+            : jpaRepository.findCatalogVersion();
+        return new CatalogVersion(view.getProductCount(), view.getLastModified());
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<OffsetDateTime> findUpdatedAtById(Long id) {
+        return jpaRepository.findUpdatedAtById(id);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public List<Product> findPage(ProductPageQuery query) {
+        return toDomain(jpaRepository.findPage(query));
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public ProductChangeSet findChangesSince(OffsetDateTime since) {
+        // Taken first: the queries below see at least everything committed up to this point
+        OffsetDateTime consistentAt = jdbcTemplate.queryForObject(CONSISTENT_AT_SQL, OffsetDateTime.class);
+        List<Product> changed = toDomain(jpaRepository.findByUpdatedAtAfterOrderByUpdatedAtAscIdAsc(since));
+        List<Long> deletedIds = jdbcTemplate.queryForList(DELETED_SINCE_SQL, Long.class, since);
+        return new ProductChangeSet(changed, deletedIds, consistentAt);
+    }
+    
     @Override
     public Product save(Product product) {
         ProductEntity entity = productMapper.toEntity(product);
         ProductEntity savedEntity = jpaRepository.save(entity);
+        ProductChangeType changeType = product.getId() == null ? ProductChangeType.INSERT : ProductChangeType.UPDATE;
+        eventPublisher.publishEvent(new ProductChangedEvent(savedEntity.getId(), changeType, savedEntity.getUpdatedAt()));
         return productMapper.toDomain(savedEntity);
     }
     
+    /**
+     * Plain JDBC batch: ProductEntity uses IDENTITY ids, which rules out Hibernate insert batching.
+     */
+    @Override
+    @Transactional
+    public void upsertAllBySlug(List<Product> products) {
+        if (products.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(UPSERT_BY_SLUG_SQL, products, products.size(), (statement, product) -> {
+            statement.setString(1, product.getSlug());
+            statement.setString(2, product.getName());
+            statement.setString(3, product.getDescription());
+            statement.setInt(4, product.getPrice().movePointRight(2).intValueExact());
+            statement.setString(5, product.getIngredients());
+            statement.setString(6, product.getStory());
+            statement.setString(7, product.getEmoji());
+            statement.setBoolean(8, product.getIsActive() == null || product.getIsActive());
+        });
+    }
+    
     @Override
     public void deleteById(Long id) {
         jpaRepository.deleteById(id);
+        eventPublisher.publishEvent(new ProductChangedEvent(id, ProductChangeType.DELETE, null));
+    }
+    
+    private List<Product> toDomain(List<ProductEntity> entities) {
+        long start = System.nanoTime();
+        List<Product> products = entities.stream()
+                .map(productMapper::toDomain)
+                .collect(Collectors.toList());
+        mappingTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return products;
     }
 }
@@ -0,0 +1,171 @@
+package com.vzdolci.backend.infrastructure.persistence.routing;
+
+import com.vzdolci.backend.domain.event.ProductChangedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Routes connections of read-only transactions to the replicas (round robin over the healthy ones) and
+ * everything else to the primary.
+ * Must sit behind a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}: the
+ * read-only flag of a transaction is only known once it has begun, so the physical connection has to be
+ * fetched lazily, on the first statement.
+ * A replica that fails a health check or a connection attempt is skipped, and its reads go to the primary,
+ * until a later check succeeds. After a write (committed here, or announced by a product change event) reads
+ * stay on the primary for the read-your-writes window, so they do not see the replica before it caught up.
+ */
+public class ReadWriteRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(ReadWriteRoutingDataSource.class);
+
+    private final DataSource primary;
+    private final List<ReplicaDataSource> replicas;
+    private final long readYourWritesWindowNanos;
+    private final int healthCheckTimeoutSeconds;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private final AtomicLong primaryReadsUntil = new AtomicLong(System.nanoTime());
+    private final LongAdder fallbacks = new LongAdder();
+    private final ScheduledExecutorService healthChecker;
+
+    public ReadWriteRoutingDataSource(DataSource primary, List<ReplicaDataSource> replicas,
+                                      Duration readYourWritesWindow, Duration healthCheckInterval,
+                                      Duration healthCheckTimeout) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.readYourWritesWindowNanos = readYourWritesWindow.toNanos();
+        this.healthCheckTimeoutSeconds = (int) Math.max(1, healthCheckTimeout.toSeconds());
+        this.healthChecker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-health-check");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // Replicas start as unhealthy, so reads go to the primary until the first check passes
+        healthChecker.scheduleWithFixedDelay(this::checkReplicas, 0, healthCheckInterval.toMillis(),
+                TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return route(dataSource -> dataSource.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return route(dataSource -> dataSource.getConnection(username, password));
+    }
+
+    /**
+     * Starts the read-your-writes window for changes made elsewhere (another instance, SQL run directly),
+     * before the caches and indexes listening to the same event reload from the database.
+     */
+    @EventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onProductChanged(ProductChangedEvent event) {
+        startReadYourWritesWindow();
+    }
+
+    public List<ReplicaDataSource> getReplicas() {
+        return replicas;
+    }
+
+    /** Reads of read-only transactions that went to the primary because no replica could serve them. */
+    public long getFallbacks() {
+        return fallbacks.sum();
+    }
+
+    @Override
+    public void close() {
+        healthChecker.shutdownNow();
+        replicas.forEach(ReplicaDataSource::close);
+    }
+
+    private Connection route(ConnectionFactory factory) throws SQLException {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            trackWrite();
+            return factory.connect(primary);
+        }
+        if (isReadYourWritesWindowOpen() || replicas.isEmpty()) {
+            return factory.connect(primary);
+        }
+        ReplicaDataSource replica = nextHealthyReplica();
+        if (replica != null) {
+            try {
+                return factory.connect(replica.getDataSource());
+            } catch (SQLException ex) {
+                replica.markDown(ex);
+            }
+        }
+        fallbacks.increment();
+        return factory.connect(primary);
+    }
+
+    private ReplicaDataSource nextHealthyReplica() {
+        int start = Math.floorMod(nextReplica.getAndIncrement(), replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            ReplicaDataSource replica = replicas.get((start + i) % replicas.size());
+            if (replica.isHealthy()) {
+                return replica;
+            }
+        }
+        return null;
+    }
+
+    /** Opens the window when a read-write transaction commits. */
+    private void trackWrite() {
+        if (readYourWritesWindowNanos <= 0 || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    startReadYourWritesWindow();
+                }
+            }
+        });
+    }
+
+    private void startReadYourWritesWindow() {
+        if (readYourWritesWindowNanos > 0) {
+            long until = System.nanoTime() + readYourWritesWindowNanos;
+            primaryReadsUntil.accumulateAndGet(until, (current, next) -> next - current > 0 ? next : current);
+        }
+    }
+
+    private boolean isReadYourWritesWindowOpen() {
+        return readYourWritesWindowNanos > 0 && primaryReadsUntil.get() - System.nanoTime() > 0;
+    }
+
+    private void checkReplicas() {
+        for (ReplicaDataSource replica : replicas) {
+            try {
+                replica.check(healthCheckTimeoutSeconds);
+            } catch (RuntimeException ex) {
+                log.warn("Health check of replica {} failed unexpectedly", replica.getName(), ex);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface ConnectionFactory {
+        Connection connect(DataSource dataSource) throws SQLException;
+    }
+}
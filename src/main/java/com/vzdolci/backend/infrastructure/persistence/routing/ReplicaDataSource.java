@@ -0,0 +1,63 @@
+package com.vzdolci.backend.infrastructure.persistence.routing;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * A replica connection pool together with its health, as seen by {@link ReadWriteRoutingDataSource}.
+ */
+public class ReplicaDataSource {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaDataSource.class);
+
+    private final String name;
+    private final HikariDataSource dataSource;
+    private volatile boolean healthy;
+
+    public ReplicaDataSource(String name, HikariDataSource dataSource) {
+        this.name = name;
+        this.dataSource = dataSource;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public HikariDataSource getDataSource() {
+        return dataSource;
+    }
+
+    public boolean isHealthy() {
+        return healthy;
+    }
+
+    void markDown(SQLException cause) {
+        if (healthy) {
+            log.warn("Replica {} is unavailable, reading from the primary: {}", name, cause.getMessage());
+        }
+        healthy = false;
+    }
+
+    void check(int timeoutSeconds) {
+        try (Connection connection = dataSource.getConnection()) {
+            boolean valid = connection.isValid(timeoutSeconds);
+            if (valid && !healthy) {
+                log.info("Replica {} is available", name);
+            }
+            if (!valid) {
+                markDown(new SQLException("connection validation failed"));
+            }
+            healthy = valid;
+        } catch (SQLException ex) {
+            markDown(ex);
+        }
+    }
+
+    void close() {
+        dataSource.close();
+    }
+}
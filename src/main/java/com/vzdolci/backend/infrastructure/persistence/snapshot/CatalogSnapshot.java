@@ -0,0 +1,82 @@
+package com.vzdolci.backend.infrastructure.persistence.snapshot;
+
+import com.vzdolci.backend.domain.model.CatalogVersion;
+import com.vzdolci.backend.domain.model.Product;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Full copy of the products table as read at one point in time, indexed for the lookups the catalog serves.
+ */
+public class CatalogSnapshot {
+    private final List<Product> products;
+    private final List<Product> activeProducts;
+    private final Map<Long, Product> byId;
+    private final Map<String, Product> bySlug;
+    private final CatalogVersion version;
+    private final CatalogVersion activeVersion;
+    private final OffsetDateTime readAt;
+
+    public CatalogSnapshot(List<Product> products, OffsetDateTime readAt) {
+        this.products = List.copyOf(products);
+        this.activeProducts = products.stream()
+                .filter(product -> Boolean.TRUE.equals(product.getIsActive()))
+                .toList();
+        this.byId = new HashMap<>();
+        this.bySlug = new HashMap<>();
+        for (Product product : products) {
+            byId.put(product.getId(), product);
+            if (product.getSlug() != null) {
+                bySlug.put(product.getSlug(), product);
+            }
+        }
+        this.version = CatalogVersion.of(this.products);
+        this.activeVersion = CatalogVersion.of(activeProducts);
+        this.readAt = readAt;
+    }
+
+    public List<Product> getProducts() {
+        return products;
+    }
+
+    public List<Product> getActiveProducts() {
+        return activeProducts;
+    }
+
+    public Optional<Product> findById(Long id) {
+        return Optional.ofNullable(byId.get(id));
+    }
+
+    public Optional<Product> findBySlug(String slug) {
+        return Optional.ofNullable(bySlug.get(slug));
+    }
+
+    public List<Product> findAllByIds(Collection<Long> ids) {
+        return ids.stream().map(byId::get).filter(Objects::nonNull).toList();
+    }
+
+    public CatalogVersion getVersion(boolean activeOnly) {
+        return activeOnly ? activeVersion : version;
+    }
+
+    /**
+     * @return When the products were read from the database
+     */
+    public OffsetDateTime getReadAt() {
+        return readAt;
+    }
+
+    /**
+     * Whether both snapshots hold the same catalog, as far as the catalog version tells.
+     */
+    public boolean hasSameVersion(CatalogSnapshot other) {
+        return version.getProductCount() == other.version.getProductCount()
+                && Objects.equals(version.getLastModified(), other.version.getLastModified());
+    }
+}
@@ -0,0 +1,223 @@
+package com.vzdolci.backend.infrastructure.persistence.snapshot;
+
+import com.vzdolci.backend.domain.model.Product;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * Binary catalog snapshot on local disk.
+ * Layout: a 16-byte header (magic, format version, CRC32 of the payload, payload length) followed by the
+ * payload (read time, product count, then every product field by field). Files are read through a read-only
+ * memory mapping and written to a temporary file that is then atomically moved over the previous one, so a
+ * crash mid-write never leaves a truncated snapshot behind. A file with another format version, a bad checksum
+ * or a truncated payload is rejected as a whole.
+ */
+public class CatalogSnapshotFile {
+
+    private static final int MAGIC = 0x565A4353; // "VZCS"
+    private static final int FORMAT_VERSION = 1;
+    private static final int HEADER_SIZE = 16;
+
+    private final Path path;
+
+    public CatalogSnapshotFile(Path path) {
+        this.path = path;
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    public boolean exists() {
+        return Files.isRegularFile(path);
+    }
+
+    public CatalogSnapshot read() throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_SIZE) {
+                throw new IOException("Snapshot shorter than its header: " + size + " bytes");
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            if (buffer.getInt() != MAGIC) {
+                throw new IOException("Not a catalog snapshot");
+            }
+            int formatVersion = buffer.getInt();
+            if (formatVersion != FORMAT_VERSION) {
+                throw new IOException("Unsupported snapshot format version " + formatVersion);
+            }
+            int checksum = buffer.getInt();
+            int payloadLength = buffer.getInt();
+            if (payloadLength < 0 || payloadLength != size - HEADER_SIZE) {
+                throw new IOException("Snapshot payload length " + payloadLength + " does not match the file");
+            }
+
+            ByteBuffer payload = buffer.slice();
+            CRC32 crc = new CRC32();
+            crc.update(payload.duplicate());
+            if ((int) crc.getValue() != checksum) {
+                throw new IOException("Snapshot checksum mismatch");
+            }
+            return decode(payload);
+        } catch (BufferUnderflowException | IllegalArgumentException | DateTimeException ex) {
+            throw new IOException("Corrupt snapshot payload", ex);
+        }
+    }
+
+    public void write(CatalogSnapshot snapshot) throws IOException {
+        byte[] payload = encode(snapshot);
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE)
+                .putInt(MAGIC)
+                .putInt(FORMAT_VERSION)
+                .putInt((int) crc.getValue())
+                .putInt(payload.length)
+                .flip();
+
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer[] buffers = {header, ByteBuffer.wrap(payload)};
+            while (buffers[1].hasRemaining()) {
+                channel.write(buffers);
+            }
+            channel.force(true);
+        }
+        Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private static byte[] encode(CatalogSnapshot snapshot) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeLong(snapshot.getReadAt().toInstant().toEpochMilli());
+        out.writeInt(snapshot.getProducts().size());
+        for (Product product : snapshot.getProducts()) {
+            out.writeLong(product.getId());
+            writeString(out, product.getName());
+            writeString(out, product.getDescription());
+            writeDecimal(out, product.getPrice());
+            writeString(out, product.getIngredients());
+            writeString(out, product.getStory());
+            writeString(out, product.getEmoji());
+            writeString(out, product.getSlug());
+            out.writeByte(product.getIsActive() == null ? -1 : product.getIsActive() ? 1 : 0);
+            writeDateTime(out, product.getCreatedAt());
+            writeDateTime(out, product.getUpdatedAt());
+        }
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    private static CatalogSnapshot decode(ByteBuffer in) {
+        OffsetDateTime readAt = Instant.ofEpochMilli(in.getLong()).atOffset(ZoneOffset.UTC);
+        int count = in.getInt();
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative product count");
+        }
+        List<Product> products = new ArrayList<>(Math.min(count, 10_000));
+        for (int i = 0; i < count; i++) {
+            long id = in.getLong();
+            String name = readString(in);
+            String description = readString(in);
+            BigDecimal price = readDecimal(in);
+            String ingredients = readString(in);
+            String story = readString(in);
+            String emoji = readString(in);
+            String slug = readString(in);
+            byte active = in.get();
+            Boolean isActive = active < 0 ? null : active == 1;
+            OffsetDateTime createdAt = readDateTime(in);
+            OffsetDateTime updatedAt = readDateTime(in);
+            products.add(new Product(id, name, description, price, ingredients, story, emoji, slug, isActive,
+                    createdAt, updatedAt));
+        }
+        if (in.hasRemaining()) {
+            throw new IllegalArgumentException("Trailing bytes after the last product");
+        }
+        return new CatalogSnapshot(products, readAt);
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer in) {
+        int length = in.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeDecimal(DataOutputStream out, BigDecimal value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] unscaled = value.unscaledValue().toByteArray();
+        out.writeInt(unscaled.length);
+        out.write(unscaled);
+        out.writeInt(value.scale());
+    }
+
+    private static BigDecimal readDecimal(ByteBuffer in) {
+        int length = in.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] unscaled = new byte[length];
+        in.get(unscaled);
+        return new BigDecimal(new BigInteger(unscaled), in.getInt());
+    }
+
+    private static void writeDateTime(DataOutputStream out, OffsetDateTime value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeLong(value.toEpochSecond());
+            out.writeInt(value.getNano());
+            out.writeInt(value.getOffset().getTotalSeconds());
+        }
+    }
+
+    private static OffsetDateTime readDateTime(ByteBuffer in) {
+        if (in.get() == 0) {
+            return null;
+        }
+        Instant instant = Instant.ofEpochSecond(in.getLong(), in.getInt());
+        return instant.atOffset(ZoneOffset.ofTotalSeconds(in.getInt()));
+    }
+}
@@ -0,0 +1,202 @@
+package com.vzdolci.backend.infrastructure.persistence.snapshot;
+
+import com.vzdolci.backend.domain.event.ProductChangedEvent;
+import com.vzdolci.backend.domain.repository.ProductRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Keeps a copy of the catalog on local disk and in memory, for SnapshotFallbackProductRepository to serve
+ * reads from while the instance starts and while the database is unreachable.
+ * The file is loaded when the store is created. Once the context is up the catalog is read from the database
+ * in the background (reconciliation, retried until it succeeds); if it differs from the file, a RESYNC event
+ * makes every cache and index reload from the database. After that the snapshot is refreshed and rewritten
+ * a short delay after each burst of changes.
+ */
+public class CatalogSnapshotStore {
+
+    private static final Logger log = LoggerFactory.getLogger(CatalogSnapshotStore.class);
+
+    private final CatalogSnapshotFile file;
+    private final ProductRepository source;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Duration writeDelay;
+    private final Duration retryInterval;
+    private final ScheduledExecutorService executor;
+    private final AtomicBoolean started = new AtomicBoolean();
+    private final AtomicBoolean refreshScheduled = new AtomicBoolean();
+    /** Set by changes that arrive before reconciliation; reconcile() schedules a refresh for them. */
+    private final AtomicBoolean changedBeforeReconciled = new AtomicBoolean();
+
+    private volatile CatalogSnapshot snapshot;
+    private volatile boolean reconciled;
+
+    private final LongAdder startupReads = new LongAdder();
+    private final LongAdder fallbackReads = new LongAdder();
+
+    /**
+     * @param source Repository the snapshot is read from; it should read the table itself, not a cache
+     */
+    public CatalogSnapshotStore(CatalogSnapshotFile file, ProductRepository source,
+                                ApplicationEventPublisher eventPublisher, Duration writeDelay,
+                                Duration retryInterval) {
+        this.file = file;
+        this.source = source;
+        this.eventPublisher = eventPublisher;
+        this.writeDelay = writeDelay;
+        this.retryInterval = retryInterval;
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "catalog-snapshot");
+            thread.setDaemon(true);
+            return thread;
+        });
+        load();
+    }
+
+    /**
+     * @return The last catalog known to this instance, or null if there is none yet
+     */
+    public CatalogSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * @return Whether the catalog has been read from the database since startup
+     */
+    public boolean isReconciled() {
+        return reconciled;
+    }
+
+    @EventListener(ContextRefreshedEvent.class)
+    public void start() {
+        if (started.compareAndSet(false, true)) {
+            executor.execute(this::reconcile);
+        }
+    }
+
+    @EventListener
+    public void onProductChanged(ProductChangedEvent event) {
+        if (!reconciled) {
+            // The catalog being read may predate this change; checked again in case reconcile() just finished
+            changedBeforeReconciled.set(true);
+            if (!reconciled) {
+                return;
+            }
+        }
+        scheduleRefresh();
+    }
+
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    public void recordStartupRead() {
+        startupReads.increment();
+    }
+
+    public void recordFallbackRead() {
+        fallbackReads.increment();
+    }
+
+    public long getStartupReads() {
+        return startupReads.sum();
+    }
+
+    public long getFallbackReads() {
+        return fallbackReads.sum();
+    }
+
+    /**
+     * @return Seconds since the snapshot was read from the database, or NaN if there is none
+     */
+    public double getAgeSeconds() {
+        CatalogSnapshot current = snapshot;
+        if (current == null) {
+            return Double.NaN;
+        }
+        return Duration.between(current.getReadAt(), OffsetDateTime.now()).toMillis() / 1000.0;
+    }
+
+    private void load() {
+        if (!file.exists()) {
+            log.info("No catalog snapshot at {}; reads wait for the database", file.getPath());
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            snapshot = file.read();
+            log.info("Loaded catalog snapshot of {} products read at {} in {} ms", snapshot.getProducts().size(),
+                    snapshot.getReadAt(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        } catch (IOException ex) {
+            log.warn("Ignoring catalog snapshot at {}: {}", file.getPath(), ex.getMessage());
+        }
+    }
+
+    private void reconcile() {
+        CatalogSnapshot loaded = snapshot;
+        CatalogSnapshot fresh;
+        try {
+            fresh = readCatalog();
+        } catch (RuntimeException ex) {
+            log.warn("Could not read the catalog to reconcile the snapshot, retrying in {}: {}", retryInterval,
+                    ex.getMessage());
+            executor.schedule(this::reconcile, retryInterval.toMillis(), TimeUnit.MILLISECONDS);
+            return;
+        }
+        snapshot = fresh;
+        reconciled = true;
+        if (changedBeforeReconciled.getAndSet(false)) {
+            scheduleRefresh();
+        }
+        if (loaded != null && !loaded.hasSameVersion(fresh)) {
+            log.info("Catalog snapshot was stale ({} products, now {}); reloading caches", loaded.getProducts().size(),
+                    fresh.getProducts().size());
+            eventPublisher.publishEvent(ProductChangedEvent.resync());
+        }
+        save(fresh);
+    }
+
+    private void scheduleRefresh() {
+        if (refreshScheduled.compareAndSet(false, true)) {
+            executor.schedule(this::refresh, writeDelay.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void refresh() {
+        refreshScheduled.set(false);
+        try {
+            CatalogSnapshot fresh = readCatalog();
+            snapshot = fresh;
+            save(fresh);
+        } catch (RuntimeException ex) {
+            // The next change schedules another refresh; until then the previous snapshot stays in use
+            log.warn("Could not refresh the catalog snapshot: {}", ex.getMessage());
+        }
+    }
+
+    private CatalogSnapshot readCatalog() {
+        OffsetDateTime readAt = OffsetDateTime.now(ZoneOffset.UTC);
+        return new CatalogSnapshot(source.findAll(), readAt);
+    }
+
+    private void save(CatalogSnapshot fresh) {
+        try {
+            file.write(fresh);
+        } catch (IOException ex) {
+            log.warn("Could not write the catalog snapshot to {}: {}", file.getPath(), ex.getMessage());
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.vzdolci.backend.infrastructure.persistence.snapshot;
+
+import com.vzdolci.backend.domain.model.CatalogVersion;
+import com.vzdolci.backend.domain.model.Product;
+import com.vzdolci.backend.domain.model.ProductChangeSet;
+import com.vzdolci.backend.domain.model.ProductSummary;
+import com.vzdolci.backend.domain.repository.ProductPageQuery;
+import com.vzdolci.backend.domain.repository.ProductRepository;
+import org.springframework.dao.DataAccessException;
+import org.springframework.transaction.TransactionException;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Local snapshot decorator for ProductRepository.
+ * Until the CatalogSnapshotStore has reconciled with the database, catalog reads are answered from the snapshot
+ * loaded from disk, so the first requests after a restart do not wait for the database. Afterwards reads go to
+ * the delegate and fall back to the snapshot when the database cannot be reached. Keyset pages, change sets and
+ * writes always go to the delegate.
+ */
+public class SnapshotFallbackProductRepository implements ProductRepository {
+
+    private final ProductRepository delegate;
+    private final CatalogSnapshotStore store;
+
+    public SnapshotFallbackProductRepository(ProductRepository delegate, CatalogSnapshotStore store) {
+        this.delegate = delegate;
+        this.store = store;
+    }
+
+    @Override
+    public List<Product> findAll() {
+        return read(delegate::findAll, CatalogSnapshot::getProducts);
+    }
+
+    @Override
+    public List<Product> findActiveProducts() {
+        return read(delegate::findActiveProducts, CatalogSnapshot::getActiveProducts);
+    }
+
+    @Override
+    public Optional<Product> findById(Long id) {
+        return read(() -> delegate.findById(id), snapshot -> snapshot.findById(id));
+    }
+
+    @Override
+    public List<Product> findAllByIds(Collection<Long> ids) {
+        return read(() -> delegate.findAllByIds(ids), snapshot -> snapshot.findAllByIds(ids));
+    }
+
+    @Override
+    public Optional<Product> findBySlug(String slug) {
+        return read(() -> delegate.findBySlug(slug), snapshot -> snapshot.findBySlug(slug));
+    }
+
+    @Override
+    public List<ProductSummary> findAllSummaries() {
+        return read(delegate::findAllSummaries, snapshot -> summaries(snapshot.getProducts()));
+    }
+
+    @Override
+    public List<ProductSummary> findActiveSummaries() {
+        return read(delegate::findActiveSummaries, snapshot -> summaries(snapshot.getActiveProducts()));
+    }
+
+    @Override
+    public Optional<ProductSummary> findSummaryById(Long id) {
+        return read(() -> delegate.findSummaryById(id), snapshot -> snapshot.findById(id).map(ProductSummary::from));
+    }
+
+    @Override
+    public CatalogVersion getCatalogVersion(boolean activeOnly) {
+        return read(() -> delegate.getCatalogVersion(activeOnly), snapshot -> snapshot.getVersion(activeOnly));
+    }
+
+    @Override
+    public Optional<OffsetDateTime> findUpdatedAtById(Long id) {
+        return read(() -> delegate.findUpdatedAtById(id),
+                snapshot -> snapshot.findById(id).map(Product::getUpdatedAt));
+    }
+
+    @Override
+    public List<Product> findPage(ProductPageQuery query) {
+        return delegate.findPage(query);
+    }
+
+    @Override
+    public ProductChangeSet findChangesSince(OffsetDateTime since) {
+        return delegate.findChangesSince(since);
+    }
+
+    @Override
+    public Product save(Product product) {
+        return delegate.save(product);
+    }
+
+    @Override
+    public void upsertAllBySlug(List<Product> products) {
+        delegate.upsertAllBySlug(products);
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        delegate.deleteById(id);
+    }
+
+    private <T> T read(Supplier<T> query, Function<CatalogSnapshot, T> fromSnapshot) {
+        CatalogSnapshot snapshot = store.getSnapshot();
+        if (snapshot == null) {
+            return query.get();
+        }
+        if (!store.isReconciled()) {
+            store.recordStartupRead();
+            return fromSnapshot.apply(snapshot);
+        }
+        try {
+            return query.get();
+        } catch (DataAccessException | TransactionException ex) {
+            // The database or the pool is unavailable; serve the last catalog this instance has seen
+            store.recordFallbackRead();
+            return fromSnapshot.apply(snapshot);
+        }
+    }
+
+    private static List<ProductSummary> summaries(List<Product> products) {
+        return products.stream().map(ProductSummary::from).toList();
+    }
+}
@@ -0,0 +1,227 @@
+package com.vzdolci.backend.infrastructure.startup;
+
+import com.vzdolci.backend.application.usecase.GetAllProductsUseCase;
+import com.vzdolci.backend.domain.model.Product;
+import com.vzdolci.backend.infrastructure.config.WarmupProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Warms a new instance up before it takes traffic: opens the pool connections up to {@code minimum-idle},
+ * loads the catalog into the cache and sends the read requests of ProductController to the instance itself
+ * for a number of rounds, so that snapshots, indexes and Hibernate query plans exist and the hot paths are
+ * JIT-compiled when the first real request arrives.
+ * Runs as an ApplicationRunner: Spring Boot only moves the readiness state to ACCEPTING_TRAFFIC once all
+ * runners have completed, so {@code /actuator/health/readiness} reports REFUSING_TRAFFIC until the warm-up is
+ * done. Failures are logged and never prevent startup. Stage durations are published as
+ * {@code vzdolci.warmup.duration}.
+ */
+public class StartupWarmup implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(StartupWarmup.class);
+    private static final String PRODUCTS = "/api/v1/products";
+
+    private final ApplicationContext context;
+    private final WarmupProperties properties;
+    private final GetAllProductsUseCase getAllProductsUseCase;
+    private final ObjectProvider<HikariDataSource> pools;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, AtomicLong> stageNanos = new ConcurrentHashMap<>();
+
+    public StartupWarmup(ApplicationContext context, WarmupProperties properties,
+                         GetAllProductsUseCase getAllProductsUseCase, ObjectProvider<HikariDataSource> pools,
+                         MeterRegistry meterRegistry) {
+        this.context = context;
+        this.properties = properties;
+        this.getAllProductsUseCase = getAllProductsUseCase;
+        this.pools = pools;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!(context instanceof WebServerApplicationContext webContext) || webContext.getWebServer() == null) {
+            // No server to warm up (e.g. a mock web environment in tests)
+            return;
+        }
+        long start = System.nanoTime();
+        long deadline = start + properties.getMaxDuration().toNanos();
+        String contextPath = context.getEnvironment().getProperty("server.servlet.context-path", "");
+        URI baseUri = URI.create("http://localhost:" + webContext.getWebServer().getPort() + contextPath);
+        
+        stage("pool", () -> {
+            pools.orderedStream().forEach(this::primePool);
+            return null;
+        });
+        List<Product> products = stage("catalog", this::loadCatalog);
+        if (products != null) {
+            stage("requests", () -> {
+                exerciseReadPaths(baseUri, products, deadline);
+                return null;
+            });
+        }
+        record("total", System.nanoTime() - start);
+        
+        log.info("Warm-up finished in {} ms (pool {} ms, catalog {} ms, requests {} ms)",
+                millis("total"), millis("pool"), millis("catalog"), millis("requests"));
+    }
+
+    /**
+     * Holds {@code minimum-idle} connections at once, so that they are all established before the first request.
+     */
+    private void primePool(HikariDataSource pool) {
+        int target = Math.min(Math.max(pool.getMinimumIdle(), 1), pool.getMaximumPoolSize());
+        List<Connection> connections = new ArrayList<>(target);
+        try {
+            for (int i = 0; i < target; i++) {
+                connections.add(pool.getConnection());
+            }
+        } catch (SQLException ex) {
+            log.warn("Warm-up could not open {} connections in pool {}: {}", target, pool.getPoolName(),
+                    ex.getMessage());
+        } finally {
+            for (Connection connection : connections) {
+                try {
+                    connection.close();
+                } catch (SQLException ex) {
+                    // Returned to the pool; nothing else to do
+                }
+            }
+        }
+    }
+
+    private List<Product> loadCatalog() {
+        getAllProductsUseCase.executeActiveOnly();
+        getAllProductsUseCase.executeSummaries();
+        getAllProductsUseCase.executeActiveOnlySummaries();
+        return getAllProductsUseCase.execute();
+    }
+
+    private void exerciseReadPaths(URI baseUri, List<Product> products, long deadline) throws IOException,
+            InterruptedException {
+        List<Product> sample = products.stream()
+                .filter(product -> Boolean.TRUE.equals(product.getIsActive()))
+                .limit(Math.max(properties.getSampleSize(), 1))
+                .collect(Collectors.toList());
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(2)).build();
+        int unexpected = 0;
+        
+        for (int i = 0; i < properties.getIterations() && System.nanoTime() < deadline; i++) {
+            List<HttpRequest> requests = new ArrayList<>();
+            requests.add(get(baseUri, PRODUCTS).build());
+            requests.add(get(baseUri, PRODUCTS).header("Accept-Encoding", "gzip").build());
+            requests.add(get(baseUri, PRODUCTS + "?activeOnly=true").build());
+            requests.add(get(baseUri, PRODUCTS + "?view=summary").build());
+            requests.add(get(baseUri, PRODUCTS + "?limit=20").build());
+            requests.add(get(baseUri, PRODUCTS + "/query?active=true&sort=price_cents&limit=20").build());
+            if (!sample.isEmpty()) {
+                Product product = sample.get(i % sample.size());
+                requests.add(get(baseUri, PRODUCTS + "/" + product.getId()).build());
+                requests.add(get(baseUri, PRODUCTS + "/" + product.getId() + "?view=summary").build());
+                requests.add(get(baseUri, PRODUCTS + "?ids=" + sample.stream()
+                        .limit(10)
+                        .map(p -> String.valueOf(p.getId()))
+                        .collect(Collectors.joining(","))).build());
+                if (product.getSlug() != null) {
+                    requests.add(get(baseUri, PRODUCTS + "/slug/" + encode(product.getSlug())).build());
+                }
+                String word = product.getName().trim().split("\\s+")[0];
+                requests.add(get(baseUri, PRODUCTS + "/search?q=" + encode(word)).build());
+                requests.add(get(baseUri, PRODUCTS + "/autocomplete?q="
+                        + encode(word.substring(0, Math.min(3, word.length())))).build());
+            }
+            
+            for (HttpRequest request : requests) {
+                HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                if (response.statusCode() >= 400) {
+                    unexpected++;
+                }
+                // Conditional GET: the 304 path
+                response.headers().firstValue("ETag").ifPresent(etag -> {
+                    try {
+                        client.send(HttpRequest.newBuilder(request.uri()).header("If-None-Match", etag).build(),
+                                HttpResponse.BodyHandlers.discarding());
+                    } catch (IOException ex) {
+                        log.debug("Warm-up conditional request failed", ex);
+                    } catch (InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+            }
+        }
+        if (unexpected > 0) {
+            log.warn("Warm-up got {} error responses from the read endpoints", unexpected);
+        }
+    }
+
+    private <T> T stage(String name, WarmupStage<T> stage) {
+        long start = System.nanoTime();
+        try {
+            return stage.run();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (Exception ex) {
+            log.warn("Warm-up stage '{}' failed: {}", name, ex.toString());
+            return null;
+        } finally {
+            record(name, System.nanoTime() - start);
+        }
+    }
+
+    private void record(String stage, long nanos) {
+        stageNanos.computeIfAbsent(stage, key -> {
+            AtomicLong value = new AtomicLong();
+            TimeGauge.builder("vzdolci.warmup.duration", value, TimeUnit.NANOSECONDS, AtomicLong::get)
+                    .description("Time spent in each startup warm-up stage")
+                    .tag("stage", key)
+                    .register(meterRegistry);
+            return value;
+        }).set(nanos);
+    }
+
+    private long millis(String stage) {
+        AtomicLong nanos = stageNanos.get(stage);
+        return nanos != null ? TimeUnit.NANOSECONDS.toMillis(nanos.get()) : 0;
+    }
+
+    private static HttpRequest.Builder get(URI baseUri, String path) {
+        return HttpRequest.newBuilder(URI.create(baseUri + path)).timeout(Duration.ofSeconds(10)).GET();
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    @FunctionalInterface
+    private interface WarmupStage<T> {
+        T run() throws Exception;
+    }
+}
@@ -1,52 +1,375 @@
 package com.vzdolci.backend.web.controller;
 
+import com.vzdolci.backend.application.dto.ProductBatchItemResponse;
+import com.vzdolci.backend.application.dto.ProductBatchRequest;
+import com.vzdolci.backend.application.dto.ProductBatchResponse;
+import com.vzdolci.backend.application.dto.ProductChangesResponse;
+import com.vzdolci.backend.application.dto.ProductPageResponse;
+import com.vzdolci.backend.application.dto.ProductQueryResponse;
 import com.vzdolci.backend.application.dto.ProductResponse;
+import com.vzdolci.backend.application.dto.ProductSearchResponse;
+import com.vzdolci.backend.application.dto.ProductSummaryResponse;
+import com.vzdolci.backend.application.pagination.ProductPage;
+import com.vzdolci.backend.application.query.CatalogQueryResult;
+import com.vzdolci.backend.application.usecase.ExportProductsUseCase;
 import com.vzdolci.backend.application.usecase.GetAllProductsUseCase;
+import com.vzdolci.backend.application.usecase.GetCatalogVersionUseCase;
+import com.vzdolci.backend.application.usecase.GetProductChangesUseCase;
 import com.vzdolci.backend.application.usecase.GetProductByIdUseCase;
+import com.vzdolci.backend.application.usecase.GetProductBySlugUseCase;
+import com.vzdolci.backend.application.usecase.GetProductPageUseCase;
+import com.vzdolci.backend.application.usecase.GetProductsByIdsUseCase;
+import com.vzdolci.backend.application.usecase.QueryProductsUseCase;
+import com.vzdolci.backend.application.usecase.SearchProductsUseCase;
 import com.vzdolci.backend.domain.model.Product;
+import com.vzdolci.backend.domain.model.ProductSummary;
+import com.vzdolci.backend.web.http.AcceptEncoding;
+import com.vzdolci.backend.web.http.HttpCachePolicies;
+import com.vzdolci.backend.web.http.HttpValidators;
+import com.vzdolci.backend.web.snapshot.ResponseSnapshot;
+import com.vzdolci.backend.web.snapshot.ResponseSnapshotCache;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * REST Controller for Product endpoints.
  * Controllers in the web layer handle HTTP requests and delegate to use cases.
  * They are kept thin, focusing only on HTTP concerns.
+ * Read endpoints support conditional GETs: validators come from the catalog version, so a matching
+ * If-None-Match/If-Modified-Since is answered with 304 before any product is loaded.
  */
 @RestController
 @RequestMapping("/api/v1/products")
 @CrossOrigin(origins = "*")
 public class ProductController {
     
+    private static final String FULL_VIEW = "full";
+    private static final String SUMMARY_VIEW = "summary";
+    private static final String EXPORT_SLOT_INTERCEPTOR = ProductController.class.getName() + ".EXPORT_SLOT";
+    
     private final GetAllProductsUseCase getAllProductsUseCase;
     private final GetProductByIdUseCase getProductByIdUseCase;
+    private final GetProductPageUseCase getProductPageUseCase;
+    private final GetProductBySlugUseCase getProductBySlugUseCase;
+    private final GetProductsByIdsUseCase getProductsByIdsUseCase;
+    private final GetCatalogVersionUseCase getCatalogVersionUseCase;
+    private final SearchProductsUseCase searchProductsUseCase;
+    private final QueryProductsUseCase queryProductsUseCase;
+    private final GetProductChangesUseCase getProductChangesUseCase;
+    private final ExportProductsUseCase exportProductsUseCase;
+    private final HttpCachePolicies httpCachePolicies;
+    private final ResponseSnapshotCache responseSnapshotCache;
     
     public ProductController(GetAllProductsUseCase getAllProductsUseCase, 
-                           GetProductByIdUseCase getProductByIdUseCase) {
+                           GetProductByIdUseCase getProductByIdUseCase,
+                           GetProductPageUseCase getProductPageUseCase,
+                           GetProductBySlugUseCase getProductBySlugUseCase,
+                           GetProductsByIdsUseCase getProductsByIdsUseCase,
+                           GetCatalogVersionUseCase getCatalogVersionUseCase,
+                           SearchProductsUseCase searchProductsUseCase,
+                           QueryProductsUseCase queryProductsUseCase,
+                           GetProductChangesUseCase getProductChangesUseCase,
+                           ExportProductsUseCase exportProductsUseCase,
+                           HttpCachePolicies httpCachePolicies,
+                           ResponseSnapshotCache responseSnapshotCache) {
         this.getAllProductsUseCase = getAllProductsUseCase;
         this.getProductByIdUseCase = getProductByIdUseCase;
+        this.getProductPageUseCase = getProductPageUseCase;
+        this.getProductBySlugUseCase = getProductBySlugUseCase;
+        this.getProductsByIdsUseCase = getProductsByIdsUseCase;
+        this.getCatalogVersionUseCase = getCatalogVersionUseCase;
+        this.searchProductsUseCase = searchProductsUseCase;
+        this.queryProductsUseCase = queryProductsUseCase;
+        this.getProductChangesUseCase = getProductChangesUseCase;
+        this.exportProductsUseCase = exportProductsUseCase;
+        this.httpCachePolicies = httpCachePolicies;
+        this.responseSnapshotCache = responseSnapshotCache;
     }
     
+    /**
+     * Lists products from a pre-rendered snapshot of the catalog view.
+     * The JSON body is built and gzip-compressed once per catalog version and written as raw bytes,
+     * in the coding negotiated through Accept-Encoding.
+     */
     @GetMapping
-    public ResponseEntity<List<ProductResponse>> getAllProducts(
+    public ResponseEntity<byte[]> getAllProducts(
+            @RequestParam(required = false, defaultValue = "false") boolean activeOnly,
+            WebRequest webRequest) {
+        return catalogResponse(activeOnly, FULL_VIEW, webRequest, () -> {
+            List<Product> products = activeOnly 
+                ? getAllProductsUseCase.executeActiveOnly()
+                : getAllProductsUseCase.execute();
+            
+            return products.stream()
+                    .map(ProductResponse::fromDomain)
+                    .collect(Collectors.toList());
+        });
+    }
+    
+    /**
+     * Streaming variant of the listing ({@code stream=true}) for large exports.
+     * Same JSON as the regular listing, but written row by row from a database cursor: memory use does not
+     * depend on the catalog size and the response starts before the query has finished. Not cached.
+     */
+    @GetMapping(params = {"stream=true", "!view", "!limit", "!ids"})
+    public ResponseEntity<StreamingResponseBody> streamAllProducts(
+            @RequestParam(required = false, defaultValue = "false") boolean activeOnly,
+            WebRequest webRequest) {
+        boolean gzip = AcceptEncoding.acceptsGzip(webRequest.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        // Reserved before anything is written, so that a full house still gets a 503 with Retry-After
+        ExportProductsUseCase.ExportSlot slot = exportProductsUseCase.reserve();
+        // The body may never run (async timeout, client gone, task rejected): release when async processing ends
+        WebAsyncUtils.getAsyncManager(webRequest).registerCallableInterceptor(EXPORT_SLOT_INTERCEPTOR,
+                new CallableProcessingInterceptor() {
+                    @Override
+                    public <T> void afterCompletion(NativeWebRequest request, Callable<T> task) {
+                        slot.release();
+                    }
+                });
+        StreamingResponseBody body = out -> {
+            try {
+                if (gzip) {
+                    GZIPOutputStream gzipOut = new GZIPOutputStream(out, 8192, true);
+                    exportProductsUseCase.execute(slot, activeOnly, gzipOut);
+                    gzipOut.finish();
+                } else {
+                    exportProductsUseCase.execute(slot, activeOnly, out);
+                }
+            } finally {
+                slot.release();
+            }
+        };
+        
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .cacheControl(CacheControl.noStore())
+                .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                .contentType(MediaType.APPLICATION_JSON);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, AcceptEncoding.GZIP);
+        }
+        return response.body(body);
+    }
+    
+    /**
+     * Summary view of the listing ({@code view=summary}): id, name, price and emoji only.
+     * Backed by a projection query, so the long text columns are never loaded.
+     */
+    @GetMapping(params = {"view=summary", "!limit", "!ids"})
+    public ResponseEntity<byte[]> getAllProductSummaries(
+            @RequestParam(required = false, defaultValue = "false") boolean activeOnly,
+            WebRequest webRequest) {
+        return catalogResponse(activeOnly, SUMMARY_VIEW, webRequest, () -> {
+            List<ProductSummary> summaries = activeOnly
+                ? getAllProductsUseCase.executeActiveOnlySummaries()
+                : getAllProductsUseCase.executeSummaries();
+            
+            return summaries.stream()
+                    .map(ProductSummaryResponse::fromDomain)
+                    .collect(Collectors.toList());
+        });
+    }
+    
+    /**
+     * Paginated variant of the listing, selected by the {@code limit} parameter.
+     * Follow-up pages are requested with the {@code nextCursor} of the previous response.
+     */
+    @GetMapping(params = {"limit", "!ids"})
+    public ResponseEntity<ProductPageResponse> getProductPage(
+            @RequestParam int limit,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false, defaultValue = "id") String sort,
+            @RequestParam(required = false, defaultValue = "asc") String direction,
             @RequestParam(required = false, defaultValue = "false") boolean activeOnly) {
-        List<Product> products = activeOnly 
-            ? getAllProductsUseCase.executeActiveOnly()
-            : getAllProductsUseCase.execute();
+        ProductPage page = getProductPageUseCase.execute(sort, direction, activeOnly, cursor, limit);
         
-        List<ProductResponse> response = products.stream()
+        List<ProductResponse> items = page.getItems().stream()
                 .map(ProductResponse::fromDomain)
                 .collect(Collectors.toList());
         
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok(new ProductPageResponse(items, page.getNextCursor(), limit));
+    }
+    
+    /**
+     * Batch lookup by ID ({@code ?ids=1,2,3}), resolved with a single query.
+     * Unknown IDs are reported per item instead of failing the whole request.
+     */
+    @GetMapping(params = "ids")
+    public ResponseEntity<ProductBatchResponse> getProductsByIds(@RequestParam List<Long> ids) {
+        return ResponseEntity.ok(batchResponse(getProductsByIdsUseCase.execute(ids)));
+    }
+    
+    /**
+     * Same as {@code GET ?ids=}, for ID lists that do not fit comfortably in a URL.
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<ProductBatchResponse> getProductsBatch(@RequestBody ProductBatchRequest request) {
+        return ResponseEntity.ok(batchResponse(getProductsByIdsUseCase.execute(request.getIds())));
     }
     
     @GetMapping("/{id}")
-    public ResponseEntity<ProductResponse> getProductById(@PathVariable Long id) {
+    public ResponseEntity<ProductResponse> getProductById(@PathVariable Long id, WebRequest webRequest) {
+        HttpValidators validators = HttpValidators.forProduct(
+                id, getCatalogVersionUseCase.executeForProduct(id), FULL_VIEW);
+        if (validators.isNotModified(webRequest)) {
+            return notModified(validators, HttpCachePolicies.PRODUCT);
+        }
+        
         Product product = getProductByIdUseCase.execute(id);
         ProductResponse response = ProductResponse.fromDomain(product);
-        return ResponseEntity.ok(response);
+        return validators.applyTo(ResponseEntity.ok())
+                .cacheControl(httpCachePolicies.forEndpoint(HttpCachePolicies.PRODUCT))
+                .body(response);
+    }
+    
+    @GetMapping(value = "/{id}", params = "view=summary")
+    public ResponseEntity<ProductSummaryResponse> getProductSummaryById(@PathVariable Long id,
+                                                                        WebRequest webRequest) {
+        HttpValidators validators = HttpValidators.forProduct(
+                id, getCatalogVersionUseCase.executeForProduct(id), SUMMARY_VIEW);
+        if (validators.isNotModified(webRequest)) {
+            return notModified(validators, HttpCachePolicies.PRODUCT);
+        }
+        
+        ProductSummary summary = getProductByIdUseCase.executeSummary(id);
+        return validators.applyTo(ResponseEntity.ok())
+                .cacheControl(httpCachePolicies.forEndpoint(HttpCachePolicies.PRODUCT))
+                .body(ProductSummaryResponse.fromDomain(summary));
+    }
+    
+    @GetMapping("/slug/{slug}")
+    public ResponseEntity<ProductResponse> getProductBySlug(@PathVariable String slug, WebRequest webRequest) {
+        Product product = getProductBySlugUseCase.execute(slug);
+        HttpValidators validators = HttpValidators.forProduct(product.getId(), product.getUpdatedAt(), FULL_VIEW);
+        if (validators.isNotModified(webRequest)) {
+            return notModified(validators, HttpCachePolicies.PRODUCT);
+        }
+        
+        return validators.applyTo(ResponseEntity.ok())
+                .cacheControl(httpCachePolicies.forEndpoint(HttpCachePolicies.PRODUCT))
+                .body(ProductResponse.fromDomain(product));
+    }
+    
+    /**
+     * Full-text search over name, description and ingredients of the active products, best matches first.
+     */
+    @GetMapping("/search")
+    public ResponseEntity<ProductSearchResponse> searchProducts(
+            @RequestParam("q") String query,
+            @RequestParam(required = false, defaultValue = "20") int limit) {
+        List<ProductResponse> items = searchProductsUseCase.execute(query, limit).stream()
+                .map(ProductResponse::fromDomain)
+                .collect(Collectors.toList());
+        
+        return ResponseEntity.ok(new ProductSearchResponse(query, items));
+    }
+    
+    /**
+     * Name suggestions for a search box; the last word of {@code q} is matched as a prefix.
+     */
+    @GetMapping("/autocomplete")
+    public ResponseEntity<List<ProductSummaryResponse>> autocompleteProducts(
+            @RequestParam("q") String query,
+            @RequestParam(required = false, defaultValue = "8") int limit) {
+        List<ProductSummaryResponse> suggestions = searchProductsUseCase.executeAutocomplete(query, limit).stream()
+                .map(ProductSummary::from)
+                .map(ProductSummaryResponse::fromDomain)
+                .collect(Collectors.toList());
+        
+        return ResponseEntity.ok(suggestions);
+    }
+    
+    /**
+     * Faceted catalog query: price range and active filters, sorting, offset/limit and facet counts
+     * (price buckets of {@code priceBucket} width, active/inactive), answered from the in-memory columnar snapshot.
+     */
+    @GetMapping("/query")
+    public ResponseEntity<ProductQueryResponse> queryProducts(
+            @RequestParam(required = false) BigDecimal minPrice,
+            @RequestParam(required = false) BigDecimal maxPrice,
+            @RequestParam(required = false) Boolean active,
+            @RequestParam(required = false, defaultValue = "id") String sort,
+            @RequestParam(required = false, defaultValue = "asc") String direction,
+            @RequestParam(required = false, defaultValue = "0") int offset,
+            @RequestParam(required = false, defaultValue = "20") int limit,
+            @RequestParam(required = false, defaultValue = "10.00") BigDecimal priceBucket) {
+        CatalogQueryResult result = queryProductsUseCase.execute(
+                minPrice, maxPrice, active, sort, direction, offset, limit, priceBucket);
+        
+        return ResponseEntity.ok(ProductQueryResponse.fromResult(result, offset, limit));
+    }
+    
+    /**
+     * Delta sync: active products changed after {@code since} plus tombstones for the ones deleted or
+     * deactivated, and the watermark to pass as {@code since} next time. Work and payload grow with the
+     * number of changes, not with the catalog size.
+     */
+    @GetMapping("/changes")
+    public ResponseEntity<ProductChangesResponse> getProductChanges(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime since) {
+        return ResponseEntity.ok(ProductChangesResponse.fromChanges(getProductChangesUseCase.execute(since)));
+    }
+    
+    private static ProductBatchResponse batchResponse(Map<Long, Optional<Product>> products) {
+        List<ProductBatchItemResponse> items = products.entrySet().stream()
+                .map(entry -> new ProductBatchItemResponse(
+                        entry.getKey(),
+                        entry.getValue().isPresent(),
+                        entry.getValue().map(ProductResponse::fromDomain).orElse(null)))
+                .collect(Collectors.toList());
+        return new ProductBatchResponse(items);
+    }
+    
+    private ResponseEntity<byte[]> catalogResponse(boolean activeOnly, String view, WebRequest webRequest,
+                                                   Supplier<?> body) {
+        boolean gzip = AcceptEncoding.acceptsGzip(webRequest.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        HttpValidators catalogValidators = HttpValidators.forCatalog(
+                getCatalogVersionUseCase.execute(activeOnly), activeOnly, view);
+        HttpValidators validators = gzip ? catalogValidators.withVariant(AcceptEncoding.GZIP) : catalogValidators;
+        CacheControl cacheControl = httpCachePolicies.forEndpoint(HttpCachePolicies.PRODUCT_LIST);
+        
+        if (validators.isNotModified(webRequest)) {
+            return validators.applyTo(ResponseEntity.status(HttpStatus.NOT_MODIFIED))
+                    .cacheControl(cacheControl)
+                    .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+        }
+        
+        String snapshotKey = (activeOnly ? "active-" : "all-") + view;
+        ResponseSnapshot snapshot = responseSnapshotCache.get(snapshotKey, catalogValidators.getEtag(), body);
+        
+        ResponseEntity.BodyBuilder response = validators.applyTo(ResponseEntity.ok())
+                .cacheControl(cacheControl)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                .contentType(MediaType.APPLICATION_JSON);
+        if (gzip) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, AcceptEncoding.GZIP).body(snapshot.getGzip());
+        }
+        return response.body(snapshot.getIdentity());
+    }
+    
+    private <T> ResponseEntity<T> notModified(HttpValidators validators, String endpoint) {
+        return validators.applyTo(ResponseEntity.status(HttpStatus.NOT_MODIFIED))
+                .cacheControl(httpCachePolicies.forEndpoint(endpoint))
+                .build();
     }
 }
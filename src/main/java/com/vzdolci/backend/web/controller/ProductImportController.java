@@ -0,0 +1,63 @@
+package com.vzdolci.backend.web.controller;
+
+import com.vzdolci.backend.application.dto.ProductImportResponse;
+import com.vzdolci.backend.application.exception.UnauthorizedException;
+import com.vzdolci.backend.application.importing.ProductImportFormat;
+import com.vzdolci.backend.application.usecase.ImportProductsUseCase;
+import com.vzdolci.backend.infrastructure.config.ProductImportProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+/**
+ * REST Controller for the bulk catalog import.
+ * Only registered when {@code vzdolci.import.enabled=true}; it is meant for server-to-server jobs,
+ * so it is not exposed to browsers through CORS. The request body is streamed straight into the import.
+ */
+@RestController
+@RequestMapping("/api/v1/products")
+@ConditionalOnProperty(prefix = "vzdolci.import", name = "enabled", havingValue = "true")
+public class ProductImportController {
+    
+    public static final String TOKEN_HEADER = "X-Import-Token";
+    private static final String NDJSON = "application/x-ndjson";
+    private static final String CSV = "text/csv";
+    
+    private final ImportProductsUseCase importProductsUseCase;
+    private final byte[] token;
+    
+    public ProductImportController(ImportProductsUseCase importProductsUseCase, ProductImportProperties properties) {
+        this.importProductsUseCase = importProductsUseCase;
+        this.token = properties.getToken().getBytes(StandardCharsets.UTF_8);
+    }
+    
+    @PostMapping(value = "/import", consumes = NDJSON)
+    public ResponseEntity<ProductImportResponse> importNdjson(
+            @RequestHeader(value = TOKEN_HEADER, required = false) String token,
+            InputStream body) {
+        return importProducts(token, body, ProductImportFormat.NDJSON);
+    }
+    
+    @PostMapping(value = "/import", consumes = CSV)
+    public ResponseEntity<ProductImportResponse> importCsv(
+            @RequestHeader(value = TOKEN_HEADER, required = false) String token,
+            InputStream body) {
+        return importProducts(token, body, ProductImportFormat.CSV);
+    }
+    
+    private ResponseEntity<ProductImportResponse> importProducts(String token, InputStream body,
+                                                                 ProductImportFormat format) {
+        // Constant-time comparison, so the token cannot be guessed from response timings
+        if (token == null || !MessageDigest.isEqual(this.token, token.getBytes(StandardCharsets.UTF_8))) {
+            throw new UnauthorizedException("Missing or invalid " + TOKEN_HEADER + " header");
+        }
+        return ResponseEntity.ok(ProductImportResponse.fromDomain(importProductsUseCase.execute(body, format)));
+    }
+}
@@ -0,0 +1,48 @@
+package com.vzdolci.backend.web.controller;
+
+import com.vzdolci.backend.web.stream.ProductChangeBroadcaster;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * REST Controller for the catalog change stream (Server-Sent Events).
+ * Storefronts subscribe once instead of polling the listing; the request thread is released as soon as the
+ * stream is opened and events are written by the broadcaster.
+ */
+@RestController
+@RequestMapping("/api/v1/products")
+@CrossOrigin(origins = "*")
+@ConditionalOnProperty(prefix = "vzdolci.stream", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ProductStreamController {
+    
+    private static final String LAST_EVENT_ID = "Last-Event-ID";
+    
+    private final ProductChangeBroadcaster productChangeBroadcaster;
+    
+    public ProductStreamController(ProductChangeBroadcaster productChangeBroadcaster) {
+        this.productChangeBroadcaster = productChangeBroadcaster;
+    }
+    
+    /**
+     * Streams {@code product} (active product created or changed, with its full JSON), {@code removed}
+     * ({@code {"id"}} of a product deleted or deactivated) and {@code resync} (reload the catalog) events.
+     * Reconnecting clients send {@code Last-Event-ID} and receive what they missed.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamChanges(
+            @RequestHeader(value = LAST_EVENT_ID, required = false) String lastEventId) {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noStore())
+                // Keeps reverse proxies such as nginx from buffering the stream
+                .header("X-Accel-Buffering", "no")
+                .body(productChangeBroadcaster.subscribe(lastEventId));
+    }
+}
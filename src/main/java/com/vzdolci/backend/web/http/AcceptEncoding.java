@@ -0,0 +1,52 @@
+package com.vzdolci.backend.web.http;
+
+import java.util.Locale;
+
+/**
+ * Minimal Accept-Encoding negotiation for the content codings the API can serve.
+ */
+public final class AcceptEncoding {
+
+    public static final String GZIP = "gzip";
+
+    private AcceptEncoding() {
+    }
+
+    /**
+     * @return true when the header accepts gzip, either by name or through "*", with a non-zero q-value
+     */
+    public static boolean acceptsGzip(String header) {
+        if (header == null || header.isBlank()) {
+            return false;
+        }
+        boolean gzip = false;
+        boolean wildcard = false;
+        boolean gzipListed = false;
+        for (String token : header.split(",")) {
+            String[] parts = token.split(";");
+            String coding = parts[0].trim().toLowerCase(Locale.ROOT);
+            boolean acceptable = qualityOf(parts) > 0;
+            if (GZIP.equals(coding) || "x-gzip".equals(coding)) {
+                gzipListed = true;
+                gzip = gzip || acceptable;
+            } else if ("*".equals(coding)) {
+                wildcard = acceptable;
+            }
+        }
+        return gzip || (!gzipListed && wildcard);
+    }
+
+    private static double qualityOf(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String parameter = parts[i].trim();
+            if (parameter.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(parameter.substring(2));
+                } catch (NumberFormatException ex) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+}
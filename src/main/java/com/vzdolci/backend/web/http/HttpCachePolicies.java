@@ -0,0 +1,40 @@
+package com.vzdolci.backend.web.http;
+
+import com.vzdolci.backend.infrastructure.config.HttpCacheProperties;
+import org.springframework.http.CacheControl;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Resolves the Cache-Control header of each endpoint from the configured policies.
+ */
+public class HttpCachePolicies {
+
+    public static final String PRODUCT_LIST = "product-list";
+    public static final String PRODUCT = "product";
+
+    private final Map<String, CacheControl> cacheControls = new HashMap<>();
+
+    public HttpCachePolicies(HttpCacheProperties properties) {
+        properties.getPolicies().forEach((endpoint, policy) -> cacheControls.put(endpoint, toCacheControl(policy)));
+    }
+
+    public CacheControl forEndpoint(String endpoint) {
+        return cacheControls.getOrDefault(endpoint, CacheControl.noCache());
+    }
+
+    private static CacheControl toCacheControl(HttpCacheProperties.Policy policy) {
+        CacheControl cacheControl = policy.getMaxAge() == null || policy.getMaxAge().isZero()
+            ? CacheControl.noCache()
+            : CacheControl.maxAge(policy.getMaxAge());
+        cacheControl = policy.isShared() ? cacheControl.cachePublic() : cacheControl.cachePrivate();
+        if (policy.getStaleWhileRevalidate() != null) {
+            cacheControl = cacheControl.staleWhileRevalidate(policy.getStaleWhileRevalidate());
+        }
+        if (policy.getStaleIfError() != null) {
+            cacheControl = cacheControl.staleIfError(policy.getStaleIfError());
+        }
+        return cacheControl;
+    }
+}
@@ -0,0 +1,100 @@
+package com.vzdolci.backend.web.http;
+
+import com.vzdolci.backend.domain.model.CatalogVersion;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Strong ETag and Last-Modified validators of a response, computed from version data alone.
+ * Lets controllers answer conditional GETs with 304 before loading or serializing any product.
+ */
+public class HttpValidators {
+
+    private final String etag;
+    private final Instant lastModified;
+
+    private HttpValidators(String etag, Instant lastModified) {
+        this.etag = etag;
+        this.lastModified = lastModified;
+    }
+
+    public static HttpValidators forCatalog(CatalogVersion version, boolean activeOnly, String view) {
+        return new HttpValidators(
+            "\"catalog-" + (activeOnly ? "active" : "all") + "-" + view + "-"
+                + version.getProductCount() + "-" + epochMicros(version.getLastModified()) + "\"",
+            version.getLastModified() != null ? version.getLastModified().toInstant() : null);
+    }
+
+    public static HttpValidators forProduct(Long id, OffsetDateTime updatedAt, String view) {
+        return new HttpValidators(
+            "\"product-" + id + "-" + view + "-" + epochMicros(updatedAt) + "\"",
+            updatedAt != null ? updatedAt.toInstant() : null);
+    }
+
+    /**
+     * Returns a copy whose ETag also identifies a content coding, since a strong ETag
+     * must differ between representations that are not byte-for-byte identical.
+     */
+    public HttpValidators withVariant(String variant) {
+        return new HttpValidators(etag.substring(0, etag.length() - 1) + "-" + variant + "\"", lastModified);
+    }
+
+    public String getEtag() {
+        return etag;
+    }
+
+    /**
+     * Evaluates If-None-Match, or If-Modified-Since when no If-None-Match is present (RFC 9110).
+     */
+    public boolean isNotModified(WebRequest request) {
+        String[] ifNoneMatch = request.getHeaderValues(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null && ifNoneMatch.length > 0) {
+            for (String header : ifNoneMatch) {
+                for (String candidate : header.split(",")) {
+                    String tag = candidate.trim();
+                    if (tag.startsWith("W/")) {
+                        tag = tag.substring(2);
+                    }
+                    if ("*".equals(tag) || etag.equals(tag)) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        String ifModifiedSince = request.getHeader(HttpHeaders.IF_MODIFIED_SINCE);
+        if (ifModifiedSince == null || lastModified == null) {
+            return false;
+        }
+        try {
+            Instant since = ZonedDateTime.parse(ifModifiedSince, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant();
+            return lastModified.getEpochSecond() <= since.getEpochSecond();
+        } catch (DateTimeParseException ex) {
+            return false;
+        }
+    }
+
+    public <B extends ResponseEntity.HeadersBuilder<B>> B applyTo(B builder) {
+        builder.eTag(etag);
+        if (lastModified != null) {
+            builder.lastModified(lastModified);
+        }
+        return builder;
+    }
+
+    private static long epochMicros(OffsetDateTime timestamp) {
+        if (timestamp == null) {
+            return 0L;
+        }
+        Instant instant = timestamp.toInstant();
+        return instant.getEpochSecond() * 1_000_000L + instant.getNano() / 1_000L;
+    }
+}
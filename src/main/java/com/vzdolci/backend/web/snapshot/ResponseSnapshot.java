@@ -0,0 +1,29 @@
+package com.vzdolci.backend.web.snapshot;
+
+/**
+ * Immutable pre-rendered JSON response body, kept in identity and gzip content codings.
+ * The arrays are shared between requests and must never be modified.
+ */
+public class ResponseSnapshot {
+    private final String etag;
+    private final byte[] identity;
+    private final byte[] gzip;
+
+    public ResponseSnapshot(String etag, byte[] identity, byte[] gzip) {
+        this.etag = etag;
+        this.identity = identity;
+        this.gzip = gzip;
+    }
+
+    public String getEtag() {
+        return etag;
+    }
+
+    public byte[] getIdentity() {
+        return identity;
+    }
+
+    public byte[] getGzip() {
+        return gzip;
+    }
+}
@@ -0,0 +1,101 @@
+package com.vzdolci.backend.web.snapshot;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Pre-serialized, pre-compressed catalog responses.
+ * Each response key (catalog view) holds one snapshot tagged with the ETag of the catalog version
+ * it was rendered from. Serialization and compression run once per version; every other request
+ * just writes the stored bytes.
+ * Each render records the time spent loading the body (use case and DTO mapping), serializing it
+ * with Jackson and compressing it ({@code vzdolci.snapshot.render}), and the payload sizes
+ * ({@code vzdolci.snapshot.size}).
+ */
+@Component
+public class ResponseSnapshotCache {
+
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, ResponseSnapshot> snapshots = new ConcurrentHashMap<>();
+
+    public ResponseSnapshotCache(ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Returns the snapshot of {@code key} for the given ETag, rendering it from {@code body} when the
+     * stored snapshot belongs to another version. Concurrent callers for the same key wait for a single render.
+     */
+    public ResponseSnapshot get(String key, String etag, Supplier<?> body) {
+        ResponseSnapshot snapshot = snapshots.get(key);
+        if (snapshot != null && snapshot.getEtag().equals(etag)) {
+            return snapshot;
+        }
+        return snapshots.compute(key, (k, current) ->
+                current != null && current.getEtag().equals(etag) ? current : render(key, etag, body));
+    }
+
+    public void clear() {
+        snapshots.clear();
+    }
+
+    private ResponseSnapshot render(String key, String etag, Supplier<?> body) {
+        long start = System.nanoTime();
+        Object content = body.get();
+        long loaded = System.nanoTime();
+        byte[] identity;
+        try {
+            identity = objectMapper.writeValueAsBytes(content);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Could not serialize catalog response", ex);
+        }
+        long serialized = System.nanoTime();
+        byte[] gzip = gzip(identity);
+        long compressed = System.nanoTime();
+
+        recordStage(key, "load", loaded - start);
+        recordStage(key, "serialize", serialized - loaded);
+        recordStage(key, "compress", compressed - serialized);
+        recordSize(key, "identity", identity.length);
+        recordSize(key, "gzip", gzip.length);
+        return new ResponseSnapshot(etag, identity, gzip);
+    }
+
+    private void recordStage(String key, String stage, long nanos) {
+        meterRegistry.timer("vzdolci.snapshot.render", "snapshot", key, "stage", stage)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    private void recordSize(String key, String encoding, int bytes) {
+        DistributionSummary.builder("vzdolci.snapshot.size")
+                .description("Size of rendered catalog snapshots")
+                .baseUnit("bytes")
+                .tags("snapshot", key, "encoding", encoding)
+                .register(meterRegistry)
+                .record(bytes);
+    }
+
+    private static byte[] gzip(byte[] data) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(Math.max(64, data.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(buffer)) {
+            gzip.write(data);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return buffer.toByteArray();
+    }
+}
@@ -0,0 +1,308 @@
+package com.vzdolci.backend.web.stream;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vzdolci.backend.application.dto.ProductResponse;
+import com.vzdolci.backend.application.exception.ServiceUnavailableException;
+import com.vzdolci.backend.domain.event.ProductChangeType;
+import com.vzdolci.backend.domain.event.ProductChangedEvent;
+import com.vzdolci.backend.domain.model.Product;
+import com.vzdolci.backend.domain.repository.ProductRepository;
+import com.vzdolci.backend.infrastructure.config.ProductStreamProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Single per-node source of the catalog change stream, fanned out to every SSE subscriber.
+ * Each {@link ProductChangedEvent} (local writes and, through the LISTEN/NOTIFY listener, external table changes)
+ * is turned into one stream event on a dedicated thread: the product is loaded once and serialized once, then
+ * queued to every subscriber. Connections are asynchronous and written by a small shared pool, so an idle
+ * subscriber costs a buffer, not a thread. A subscriber whose bounded buffer fills up is disconnected, and so is
+ * one whose current write has been blocked for longer than the send timeout; the writer stuck in that write is
+ * replaced by a new thread until it returns, so the other subscribers keep being served.
+ * Recent events are kept for {@code Last-Event-ID} resume; event ids carry a per-run epoch, so an id from
+ * another node or an earlier run, or one older than the replay window, gets a {@code resync} event instead.
+ */
+public class ProductChangeBroadcaster {
+
+    public static final String PRODUCT_EVENT = "product";
+    public static final String REMOVED_EVENT = "removed";
+    public static final String RESYNC_EVENT = "resync";
+
+    private static final Logger log = LoggerFactory.getLogger(ProductChangeBroadcaster.class);
+
+    /** Writers stuck on stalled clients that are replaced at most; beyond that they are waited for. */
+    private static final int MAX_REPLACED_WRITERS = 32;
+
+    private final ProductRepository productRepository;
+    private final ObjectMapper objectMapper;
+    private final ProductStreamProperties properties;
+    private final String epoch = Long.toString(System.currentTimeMillis(), Character.MAX_RADIX);
+
+    private final ExecutorService publisher;
+    private final ThreadPoolExecutor writers;
+    private final ScheduledExecutorService heartbeat;
+
+    private final Set<StreamSubscriber> subscribers = ConcurrentHashMap.newKeySet();
+    /** Guarded by {@code this}, like {@link #sequence}. */
+    private final ArrayDeque<StreamEvent> replay = new ArrayDeque<>();
+    private long sequence;
+
+    private final LongAdder publishedEvents = new LongAdder();
+    private final LongAdder evictedSubscribers = new LongAdder();
+    /** Writers currently blocked in a send to an evicted subscriber; guarded by {@link #writers}. */
+    private int stalledWriters;
+
+    public ProductChangeBroadcaster(ProductRepository productRepository, ObjectMapper objectMapper,
+                                    ProductStreamProperties properties) {
+        this.productRepository = productRepository;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.publisher = Executors.newSingleThreadExecutor(runnable -> daemon(runnable, "product-stream-publisher"));
+        AtomicInteger writerCount = new AtomicInteger();
+        this.writers = new ThreadPoolExecutor(properties.getWriterThreads(), properties.getWriterThreads(),
+                30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                runnable -> daemon(runnable, "product-stream-writer-" + writerCount.incrementAndGet()));
+        this.heartbeat = Executors.newSingleThreadScheduledExecutor(
+                runnable -> daemon(runnable, "product-stream-heartbeat"));
+        long interval = properties.getHeartbeatInterval().toMillis();
+        heartbeat.scheduleAtFixedRate(this::sendHeartbeat, interval, interval, TimeUnit.MILLISECONDS);
+        long checkInterval = Math.max(10, properties.getSendTimeout().toMillis() / 2);
+        heartbeat.scheduleAtFixedRate(this::evictStalledSubscribers, checkInterval, checkInterval,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Opens a stream for a new connection.
+     *
+     * @param lastEventId Id of the last event the client received ({@code Last-Event-ID}), or null for a new client
+     * @throws ServiceUnavailableException if the node already serves the maximum number of subscribers
+     */
+    public SseEmitter subscribe(String lastEventId) {
+        if (subscribers.size() >= properties.getMaxSubscribers()) {
+            throw new ServiceUnavailableException("Too many change stream subscribers", properties.getReconnectTime());
+        }
+        SseEmitter emitter = newEmitter(properties.getTimeout().toMillis());
+        StreamSubscriber subscriber = new StreamSubscriber(emitter, properties.getBufferSize(), writers,
+                this::releaseStalledWriter);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onError(ex -> subscribers.remove(subscriber));
+
+        synchronized (this) {
+            subscriber.offer(StreamEvent.opening(properties.getReconnectTime()));
+            List<StreamEvent> missed = missedEvents(lastEventId);
+            if (missed == null) {
+                subscriber.offer(StreamEvent.data(sequence, eventId(sequence), RESYNC_EVENT, "{}"));
+            } else {
+                missed.forEach(subscriber::offer);
+            }
+            // Registered under the same lock as publish(), so no event falls between the replay and the live feed
+            subscribers.add(subscriber);
+        }
+        return emitter;
+    }
+
+    @EventListener
+    public void onProductChanged(ProductChangedEvent event) {
+        try {
+            publisher.execute(() -> publish(event));
+        } catch (RejectedExecutionException ex) {
+            // Shutting down
+        }
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    public long getPublishedEvents() {
+        return publishedEvents.sum();
+    }
+
+    public long getEvictedSubscribers() {
+        return evictedSubscribers.sum();
+    }
+
+    public void shutdown() {
+        heartbeat.shutdownNow();
+        publisher.shutdownNow();
+        for (StreamSubscriber subscriber : subscribers) {
+            subscriber.close();
+        }
+        subscribers.clear();
+        writers.shutdownNow();
+    }
+
+    /**
+     * Creates the emitter of a new connection; overridden in tests to stand in for the servlet response.
+     */
+    SseEmitter newEmitter(long timeoutMillis) {
+        return new SseEmitter(timeoutMillis);
+    }
+
+    private void publish(ProductChangedEvent change) {
+        String name;
+        String json;
+        try {
+            if (change.isResync()) {
+                name = RESYNC_EVENT;
+                json = "{}";
+            } else {
+                Optional<Product> product = change.getType() == ProductChangeType.DELETE
+                    ? Optional.empty()
+                    : productRepository.findById(change.getProductId());
+                if (product.isPresent() && Boolean.TRUE.equals(product.get().getIsActive())) {
+                    name = PRODUCT_EVENT;
+                    json = objectMapper.writeValueAsString(ProductResponse.fromDomain(product.get()));
+                } else {
+                    name = REMOVED_EVENT;
+                    json = objectMapper.writeValueAsString(Map.of("id", change.getProductId()));
+                }
+            }
+        } catch (JsonProcessingException | RuntimeException ex) {
+            // Better to make clients reload than to let them miss the change
+            log.warn("Could not render the change of product {}; sending resync", change.getProductId(), ex);
+            name = RESYNC_EVENT;
+            json = "{}";
+        }
+
+        synchronized (this) {
+            sequence++;
+            StreamEvent event = StreamEvent.data(sequence, eventId(sequence), name, json);
+            replay.addLast(event);
+            if (replay.size() > properties.getReplaySize()) {
+                replay.removeFirst();
+            }
+            for (StreamSubscriber subscriber : subscribers) {
+                deliver(subscriber, event);
+            }
+        }
+        publishedEvents.increment();
+    }
+
+    private void sendHeartbeat() {
+        StreamEvent keepAlive = StreamEvent.comment("keepalive");
+        for (StreamSubscriber subscriber : subscribers) {
+            deliver(subscriber, keepAlive);
+        }
+    }
+
+    private void evictStalledSubscribers() {
+        long now = System.nanoTime();
+        long timeout = properties.getSendTimeout().toNanos();
+        for (StreamSubscriber subscriber : subscribers) {
+            if (subscriber.evictIfStalled(now, timeout)) {
+                subscribers.remove(subscriber);
+                evictedSubscribers.increment();
+                replaceStalledWriter();
+            }
+        }
+    }
+
+    /**
+     * Adds a writer thread for one that is blocked in a send to an evicted subscriber.
+     */
+    private void replaceStalledWriter() {
+        synchronized (writers) {
+            stalledWriters++;
+            int size = properties.getWriterThreads() + Math.min(stalledWriters, MAX_REPLACED_WRITERS);
+            writers.setMaximumPoolSize(size);
+            writers.setCorePoolSize(size);
+        }
+    }
+
+    /**
+     * Called on the writer thread once its stalled send returns; the pool shrinks back by one thread.
+     */
+    private void releaseStalledWriter() {
+        synchronized (writers) {
+            if (stalledWriters == 0) {
+                return;
+            }
+            stalledWriters--;
+            int size = properties.getWriterThreads() + Math.min(stalledWriters, MAX_REPLACED_WRITERS);
+            writers.setCorePoolSize(size);
+            writers.setMaximumPoolSize(size);
+        }
+    }
+
+    private void deliver(StreamSubscriber subscriber, StreamEvent event) {
+        if (subscriber.isClosed()) {
+            subscribers.remove(subscriber);
+        } else if (!subscriber.offer(event)) {
+            subscribers.remove(subscriber);
+            subscriber.close();
+            evictedSubscribers.increment();
+        }
+    }
+
+    /**
+     * Events published after {@code lastEventId}, an empty list for a new client, or null when the gap cannot be
+     * replayed (unknown id, evicted from the replay window, or more than a subscriber buffer can hold).
+     * Must be called holding the lock.
+     */
+    private List<StreamEvent> missedEvents(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return List.of();
+        }
+        long lastSequence = parseSequence(lastEventId);
+        if (lastSequence < 0 || lastSequence > sequence) {
+            return null;
+        }
+        if (lastSequence == sequence) {
+            return List.of();
+        }
+        if (replay.isEmpty() || replay.peekFirst().getSequence() > lastSequence + 1
+                || sequence - lastSequence >= properties.getBufferSize()) {
+            return null;
+        }
+        List<StreamEvent> missed = new ArrayList<>();
+        for (StreamEvent event : replay) {
+            if (event.getSequence() > lastSequence) {
+                missed.add(event);
+            }
+        }
+        return missed;
+    }
+
+    private long parseSequence(String eventId) {
+        int separator = eventId.indexOf(':');
+        if (separator < 0 || !eventId.substring(0, separator).equals(epoch)) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(eventId.substring(separator + 1));
+        } catch (NumberFormatException ex) {
+            return -1;
+        }
+    }
+
+    private String eventId(long eventSequence) {
+        return epoch + ":" + eventSequence;
+    }
+
+    private static Thread daemon(Runnable runnable, String name) {
+        Thread thread = new Thread(runnable, name);
+        thread.setDaemon(true);
+        return thread;
+    }
+}
@@ -0,0 +1,69 @@
+package com.vzdolci.backend.web.stream;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+
+/**
+ * One message of the change stream, with its payload already serialized so that it is rendered once
+ * no matter how many subscribers receive it. Comments (heartbeats) carry no id and are not replayed.
+ */
+final class StreamEvent {
+
+    private final long sequence;
+    private final String id;
+    private final String name;
+    private final String data;
+    private final String comment;
+    private final Duration reconnectTime;
+
+    private StreamEvent(long sequence, String id, String name, String data, String comment, Duration reconnectTime) {
+        this.sequence = sequence;
+        this.id = id;
+        this.name = name;
+        this.data = data;
+        this.comment = comment;
+        this.reconnectTime = reconnectTime;
+    }
+
+    static StreamEvent data(long sequence, String id, String name, String json) {
+        return new StreamEvent(sequence, id, name, json, null, null);
+    }
+
+    static StreamEvent comment(String comment) {
+        return new StreamEvent(0, null, null, null, comment, null);
+    }
+
+    /**
+     * First message of every connection: flushes the response headers right away and sets the client's
+     * reconnection delay.
+     */
+    static StreamEvent opening(Duration reconnectTime) {
+        return new StreamEvent(0, null, null, null, "connected", reconnectTime);
+    }
+
+    long getSequence() {
+        return sequence;
+    }
+
+    SseEmitter.SseEventBuilder toSse() {
+        SseEmitter.SseEventBuilder builder = SseEmitter.event();
+        if (reconnectTime != null) {
+            builder.reconnectTime(reconnectTime.toMillis());
+        }
+        if (comment != null) {
+            builder.comment(comment);
+        }
+        if (id != null) {
+            builder.id(id);
+        }
+        if (name != null) {
+            builder.name(name);
+        }
+        if (data != null) {
+            builder.data(data, MediaType.APPLICATION_JSON);
+        }
+        return builder;
+    }
+}
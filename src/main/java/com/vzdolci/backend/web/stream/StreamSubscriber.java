@@ -0,0 +1,183 @@
+package com.vzdolci.backend.web.stream;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * One open SSE connection with its bounded outgoing buffer.
+ * Events are queued without blocking the broadcaster and written by the shared writer pool; at most one
+ * writer drains a given subscriber at a time, so events reach each client in order.
+ * Servlet writes block while the client's socket buffer is full, so the time of the send in flight is
+ * tracked: a client that stops reading is found by {@link #evictIfStalled} instead of holding a writer
+ * unnoticed until the container's write timeout.
+ */
+final class StreamSubscriber {
+
+    private final SseEmitter emitter;
+    private final int capacity;
+    private final Executor writers;
+    private final Runnable stalledSendFinished;
+    private final ArrayDeque<StreamEvent> queue = new ArrayDeque<>();
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean completed = new AtomicBoolean();
+    private volatile boolean closed;
+
+    /** Guards the three fields below. */
+    private final Object sendLock = new Object();
+    private boolean sending;
+    private long sendStartedNanos;
+    private boolean stalled;
+
+    /**
+     * @param stalledSendFinished Run on the writer thread when a send that was reported as stalled finally
+     *                            returns, i.e. when that writer is available again
+     */
+    StreamSubscriber(SseEmitter emitter, int capacity, Executor writers, Runnable stalledSendFinished) {
+        this.emitter = emitter;
+        this.capacity = capacity;
+        this.writers = writers;
+        this.stalledSendFinished = stalledSendFinished;
+    }
+
+    /**
+     * Queues the event for delivery.
+     *
+     * @return false if the buffer is full, i.e. the client is not keeping up and should be disconnected
+     */
+    boolean offer(StreamEvent event) {
+        synchronized (queue) {
+            if (closed) {
+                return true;
+            }
+            if (queue.size() >= capacity) {
+                return false;
+            }
+            queue.addLast(event);
+        }
+        scheduleDrain();
+        return true;
+    }
+
+    boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Drops pending events and ends the response; the client reconnects and resumes with Last-Event-ID.
+     * Never blocks: if a send is in flight, the writer ends the response once that send returns.
+     */
+    void close() {
+        closed = true;
+        synchronized (queue) {
+            queue.clear();
+        }
+        if (!draining.get()) {
+            complete();
+        }
+    }
+
+    /**
+     * Closes the subscriber if its current send has been in flight for longer than {@code timeoutNanos}.
+     *
+     * @return true if the subscriber was closed by this call; its writer stays blocked until the send returns
+     */
+    boolean evictIfStalled(long nowNanos, long timeoutNanos) {
+        synchronized (sendLock) {
+            if (!sending || stalled || nowNanos - sendStartedNanos < timeoutNanos) {
+                return false;
+            }
+            stalled = true;
+        }
+        close();
+        return true;
+    }
+
+    private void scheduleDrain() {
+        if (draining.compareAndSet(false, true)) {
+            try {
+                writers.execute(this::drain);
+            } catch (RejectedExecutionException ex) {
+                draining.set(false);
+            }
+        }
+    }
+
+    private void drain() {
+        while (true) {
+            if (closed) {
+                draining.set(false);
+                complete();
+                return;
+            }
+            StreamEvent event;
+            synchronized (queue) {
+                event = queue.pollFirst();
+            }
+            if (event == null) {
+                draining.set(false);
+                // close() skips completing while draining; whichever of the two sees the other's flag completes
+                if (closed) {
+                    complete();
+                    return;
+                }
+                // An offer may have queued an event after the poll but before the flag was cleared
+                synchronized (queue) {
+                    if (queue.isEmpty()) {
+                        return;
+                    }
+                }
+                if (!draining.compareAndSet(false, true)) {
+                    return;
+                }
+                continue;
+            }
+            if (!send(event)) {
+                // Client gone or response already completed; the broadcaster drops closed subscribers
+                closed = true;
+                synchronized (queue) {
+                    queue.clear();
+                }
+                draining.set(false);
+                return;
+            }
+        }
+    }
+
+    private boolean send(StreamEvent event) {
+        synchronized (sendLock) {
+            sending = true;
+            sendStartedNanos = System.nanoTime();
+        }
+        boolean sent;
+        try {
+            emitter.send(event.toSse());
+            sent = true;
+        } catch (IOException | IllegalStateException ex) {
+            sent = false;
+        }
+        boolean wasStalled;
+        synchronized (sendLock) {
+            sending = false;
+            wasStalled = stalled;
+        }
+        if (wasStalled) {
+            stalledSendFinished.run();
+        }
+        return sent;
+    }
+
+    private void complete() {
+        if (completed.compareAndSet(false, true)) {
+            try {
+                emitter.complete();
+            } catch (IllegalStateException ex) {
+                // Already completed
+            }
+        }
+    }
+}
@@ -0,0 +1,5 @@
+-- Índices compostos para paginação por keyset (seek) em GET /api/v1/products?limit=
+-- O id entra como desempate, garantindo ordenação total e busca direta pelo índice
+CREATE INDEX IF NOT EXISTS idx_products_name_id ON public.products(name, id);
+CREATE INDEX IF NOT EXISTS idx_products_price_cents_id ON public.products(price_cents, id);
+CREATE INDEX IF NOT EXISTS idx_products_created_at_id ON public.products(created_at, id);
@@ -0,0 +1,43 @@
+-- Notificação de alterações em products via LISTEN/NOTIFY
+-- Cada instância escuta o canal 'products_changed' para invalidar seu estado em memória,
+-- inclusive quando a alteração vem de outra instância ou de SQL executado diretamente
+CREATE OR REPLACE FUNCTION public.notify_product_change()
+RETURNS TRIGGER AS $$
+DECLARE
+  changed public.products%ROWTYPE;
+BEGIN
+  IF TG_OP = 'DELETE' THEN
+    changed := OLD;
+  ELSE
+    changed := NEW;
+  END IF;
+  PERFORM pg_notify(
+    'products_changed',
+    json_build_object('id', changed.id, 'op', TG_OP, 'updated_at', changed.updated_at)::text
+  );
+  RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS trg_products_notify_change ON public.products;
+
+CREATE TRIGGER trg_products_notify_change
+AFTER INSERT OR UPDATE OR DELETE ON public.products
+FOR EACH ROW
+EXECUTE FUNCTION public.notify_product_change();
+
+-- TRUNCATE não dispara triggers por linha; avisa que o catálogo inteiro mudou
+CREATE OR REPLACE FUNCTION public.notify_products_truncate()
+RETURNS TRIGGER AS $$
+BEGIN
+  PERFORM pg_notify('products_changed', json_build_object('op', TG_OP)::text);
+  RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS trg_products_notify_truncate ON public.products;
+
+CREATE TRIGGER trg_products_notify_truncate
+AFTER TRUNCATE ON public.products
+FOR EACH STATEMENT
+EXECUTE FUNCTION public.notify_products_truncate();
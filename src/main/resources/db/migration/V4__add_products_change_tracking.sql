@@ -0,0 +1,48 @@
+-- Sincronização incremental em GET /api/v1/products/changes?since=
+-- Produtos alterados são buscados por updated_at; o id entra como desempate
+CREATE INDEX IF NOT EXISTS idx_products_updated_at_id ON public.products(updated_at, id);
+
+-- Registro de exclusões: um DELETE não deixa linha em products, então cada produto removido vira uma
+-- "lápide" aqui, inclusive quando a exclusão vem de outra instância ou de SQL executado diretamente
+CREATE TABLE IF NOT EXISTS public.product_deletions (
+    product_id BIGINT PRIMARY KEY,
+    slug VARCHAR(160),
+    deleted_at TIMESTAMPTZ NOT NULL DEFAULT NOW()
+);
+
+CREATE INDEX IF NOT EXISTS idx_product_deletions_deleted_at ON public.product_deletions(deleted_at);
+
+CREATE OR REPLACE FUNCTION public.log_product_deletion()
+RETURNS TRIGGER AS $$
+BEGIN
+  INSERT INTO public.product_deletions (product_id, slug, deleted_at)
+  VALUES (OLD.id, OLD.slug, NOW())
+  ON CONFLICT (product_id) DO UPDATE SET slug = EXCLUDED.slug, deleted_at = EXCLUDED.deleted_at;
+  RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS trg_products_log_deletion ON public.products;
+
+CREATE TRIGGER trg_products_log_deletion
+AFTER DELETE ON public.products
+FOR EACH ROW
+EXECUTE FUNCTION public.log_product_deletion();
+
+-- TRUNCATE não dispara triggers por linha; registra todas as linhas antes que sejam removidas
+CREATE OR REPLACE FUNCTION public.log_products_truncate()
+RETURNS TRIGGER AS $$
+BEGIN
+  INSERT INTO public.product_deletions (product_id, slug, deleted_at)
+  SELECT id, slug, NOW() FROM public.products
+  ON CONFLICT (product_id) DO UPDATE SET slug = EXCLUDED.slug, deleted_at = EXCLUDED.deleted_at;
+  RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS trg_products_log_truncate ON public.products;
+
+CREATE TRIGGER trg_products_log_truncate
+BEFORE TRUNCATE ON public.products
+FOR EACH STATEMENT
+EXECUTE FUNCTION public.log_products_truncate();
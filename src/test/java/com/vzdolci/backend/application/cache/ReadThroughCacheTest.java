@@ -0,0 +1,114 @@
+package com.vzdolci.backend.application.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ReadThroughCacheTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private ReadThroughCache<Long, String> newCache(int maximumSize) {
+        return new ReadThroughCache<>("test", maximumSize, Duration.ofSeconds(10), Duration.ofSeconds(5),
+                Runnable::run, clock::get);
+    }
+
+    private String load(Long key) {
+        return "value-" + key + "-" + loads.incrementAndGet();
+    }
+
+    @Test
+    void servesHitsWithoutCallingTheLoader() {
+        ReadThroughCache<Long, String> cache = newCache(10);
+
+        assertEquals("value-1-1", cache.get(1L, this::load));
+        assertEquals("value-1-1", cache.get(1L, this::load));
+
+        CacheStats stats = cache.stats();
+        assertEquals(1, stats.getHits());
+        assertEquals(1, stats.getMisses());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedEntryWhenFull() {
+        ReadThroughCache<Long, String> cache = newCache(2);
+        cache.get(1L, this::load);
+        cache.get(2L, this::load);
+        cache.get(1L, this::load);
+        cache.get(3L, this::load);
+
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.stats().getEvictions());
+        assertEquals("value-1-1", cache.get(1L, this::load));
+        assertEquals("value-2-4", cache.get(2L, this::load));
+    }
+
+    @Test
+    void refreshesAheadAndExpiresAfterTtl() {
+        ReadThroughCache<Long, String> cache = newCache(10);
+        cache.get(1L, this::load);
+
+        clock.set(Duration.ofSeconds(6).toNanos());
+        assertEquals("value-1-1", cache.get(1L, this::load));
+        assertEquals("value-1-2", cache.get(1L, this::load));
+        assertEquals(1, cache.stats().getRefreshes());
+
+        clock.set(Duration.ofSeconds(17).toNanos());
+        assertEquals("value-1-3", cache.get(1L, this::load));
+        assertEquals(1, cache.stats().getExpirations());
+    }
+
+    @Test
+    void invalidationPreventsStaleLoadsFromBeingCached() {
+        ReadThroughCache<Long, String> cache = newCache(10);
+
+        String loaded = cache.get(1L, key -> {
+            cache.invalidate(key);
+            return load(key);
+        });
+
+        assertEquals("value-1-1", loaded);
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void doesNotCacheAbsentValues() {
+        ReadThroughCache<Long, String> cache = newCache(10);
+
+        assertNull(cache.get(1L, key -> null));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void loadsOnlyMissingKeysInOneBulkCall() {
+        ReadThroughCache<Long, String> cache = newCache(10);
+        cache.get(1L, this::load);
+        List<Set<Long>> bulkLoads = new ArrayList<>();
+
+        Map<Long, String> values = cache.getAll(List.of(1L, 2L, 3L, 2L), keys -> {
+            bulkLoads.add(Set.copyOf(keys));
+            return keys.stream()
+                    .filter(key -> key != 3L)
+                    .collect(Collectors.toMap(key -> key, this::load));
+        });
+
+        assertEquals(Map.of(1L, "value-1-1", 2L, "value-2-2"), values);
+        assertEquals(List.of(Set.of(2L, 3L)), bulkLoads);
+        assertEquals("value-2-2", cache.get(2L, this::load));
+        assertEquals(2, cache.size());
+        assertEquals(2, cache.stats().getHits());
+        assertEquals(3, cache.stats().getMisses());
+    }
+}
@@ -0,0 +1,116 @@
+package com.vzdolci.backend.application.coalescing;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SingleFlightTest {
+
+    private static final int CALLERS = 8;
+
+    private final SingleFlight<Long, String> singleFlight = new SingleFlight<>("test");
+    private final ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void concurrentCallersForTheSameKeyShareOneLoad() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(executor.submit(() -> singleFlight.execute(1L, () -> {
+                loads.incrementAndGet();
+                awaitQuietly(release);
+                return "product-1";
+            })));
+        }
+        awaitCoalesced(CALLERS - 1);
+        release.countDown();
+
+        for (Future<String> result : results) {
+            assertEquals("product-1", result.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, loads.get());
+        assertEquals(1, singleFlight.getLoads());
+        assertEquals(CALLERS - 1, singleFlight.getCoalescedCalls());
+        assertEquals(0, singleFlight.getInFlight());
+    }
+
+    @Test
+    void waitingCallersReceiveTheLoaderException() throws Exception {
+        IllegalStateException failure = new IllegalStateException("database down");
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<?> leader = executor.submit(() -> singleFlight.execute(1L, () -> {
+            awaitQuietly(release);
+            throw failure;
+        }));
+        assertTrue(awaitInFlight());
+        Future<?> follower = executor.submit(() -> singleFlight.execute(1L, () -> "unused"));
+        awaitCoalesced(1);
+        release.countDown();
+
+        Exception leaderFailure = assertThrows(Exception.class, () -> leader.get(5, TimeUnit.SECONDS));
+        Exception followerFailure = assertThrows(Exception.class, () -> follower.get(5, TimeUnit.SECONDS));
+        assertSame(failure, leaderFailure.getCause());
+        assertSame(failure, followerFailure.getCause());
+    }
+
+    @Test
+    void loadsAgainOnceTheCallInFlightHasCompleted() {
+        AtomicInteger loads = new AtomicInteger();
+
+        singleFlight.execute(1L, () -> "v" + loads.incrementAndGet());
+        String second = singleFlight.execute(1L, () -> "v" + loads.incrementAndGet());
+        singleFlight.execute(2L, () -> "v" + loads.incrementAndGet());
+
+        assertEquals("v2", second);
+        assertEquals(3, singleFlight.getLoads());
+        assertEquals(0, singleFlight.getCoalescedCalls());
+    }
+
+    private boolean awaitInFlight() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (singleFlight.getInFlight() == 0) {
+            if (System.nanoTime() > deadline) {
+                return false;
+            }
+            Thread.sleep(1);
+        }
+        return true;
+    }
+
+    private void awaitCoalesced(long expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (singleFlight.getCoalescedCalls() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        assertEquals(expected, singleFlight.getCoalescedCalls());
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
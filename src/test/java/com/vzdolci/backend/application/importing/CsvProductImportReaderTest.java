@@ -0,0 +1,62 @@
+package com.vzdolci.backend.application.importing;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CsvProductImportReaderTest {
+
+    private static CsvProductImportReader reader(String csv) {
+        return new CsvProductImportReader(new BufferedReader(new StringReader(csv)));
+    }
+
+    @Test
+    void mapsColumnsByHeaderName() throws IOException {
+        CsvProductImportReader reader = reader("\uFEFFSlug, Name ,price\nbrigadeiro,Brigadeiro,3.50\n");
+
+        ProductImportRow row = reader.next();
+
+        assertTrue(row.isValid());
+        assertEquals(2, row.getLineNumber());
+        assertEquals("brigadeiro", row.get("slug"));
+        assertEquals("Brigadeiro", row.get("name"));
+        assertEquals("3.50", row.get("price"));
+        assertNull(reader.next());
+    }
+
+    @Test
+    void handlesQuotedSeparatorsQuotesAndLineBreaks() throws IOException {
+        CsvProductImportReader reader = reader(
+                "slug,description,price\n"
+                + "bolo,\"Massa fofa, \"\"caseira\"\"\nrecheada\",25\n"
+                + "torta,,30\n");
+
+        ProductImportRow first = reader.next();
+        assertEquals("Massa fofa, \"caseira\"\nrecheada", first.get("description"));
+        assertEquals("25", first.get("price"));
+
+        ProductImportRow second = reader.next();
+        assertEquals(4, second.getLineNumber());
+        assertNull(second.get("description"));
+    }
+
+    @Test
+    void reportsRowsWithWrongColumnCountAndKeepsReading() throws IOException {
+        CsvProductImportReader reader = reader("slug,name\nbolo\n\ntorta,Torta\n");
+
+        ProductImportRow invalid = reader.next();
+        assertFalse(invalid.isValid());
+        assertEquals(2, invalid.getLineNumber());
+
+        ProductImportRow valid = reader.next();
+        assertEquals(4, valid.getLineNumber());
+        assertEquals("torta", valid.get("slug"));
+    }
+}
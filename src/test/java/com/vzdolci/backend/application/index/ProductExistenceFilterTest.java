@@ -0,0 +1,118 @@
+package com.vzdolci.backend.application.index;
+
+import com.vzdolci.backend.domain.event.ProductChangeType;
+import com.vzdolci.backend.domain.event.ProductChangedEvent;
+import com.vzdolci.backend.domain.model.Product;
+import com.vzdolci.backend.domain.repository.ProductRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ProductExistenceFilterTest {
+
+    private final ProductRepository source = mock(ProductRepository.class);
+    private final ProductExistenceFilter filter = new ProductExistenceFilter(source, 0.01, Duration.ofMinutes(5));
+
+    @AfterEach
+    void tearDown() {
+        filter.shutdown();
+    }
+
+    @Test
+    void bloomFilterHasNoFalseNegativesAndStaysNearItsFalsePositiveRate() {
+        BloomFilter bloomFilter = BloomFilter.create(10_000, 0.01);
+        for (long id = 1; id <= 10_000; id++) {
+            bloomFilter.put(BloomFilter.hash(id));
+        }
+
+        int falsePositives = 0;
+        for (long id = 1; id <= 10_000; id++) {
+            assertTrue(bloomFilter.mightContain(BloomFilter.hash(id)));
+            if (bloomFilter.mightContain(BloomFilter.hash(-id))) {
+                falsePositives++;
+            }
+        }
+        assertTrue(falsePositives < 200, "false positives: " + falsePositives);
+    }
+
+    @Test
+    void reportsEverythingAsPossibleUntilBuilt() {
+        assertTrue(filter.mightContainId(42L));
+        assertTrue(filter.mightContainSlug("unknown"));
+    }
+
+    @Test
+    void rulesOutUnknownIdsAndSlugsOnceBuilt() {
+        when(source.findAll()).thenReturn(List.of(product(1L, "bolo"), product(5L, "brigadeiro")));
+        filter.rebuild();
+
+        assertTrue(filter.mightContainId(1L));
+        assertTrue(filter.mightContainId(5L));
+        assertTrue(filter.mightContainSlug("brigadeiro"));
+        assertFalse(filter.mightContainSlug("pudim"));
+        assertEquals(1, filter.getSlugsAbsent());
+    }
+
+    @Test
+    void letsIdsAboveTheHighestKnownOneThrough() {
+        when(source.findAll()).thenReturn(List.of(product(100L, "bolo")));
+        filter.rebuild();
+
+        // Inserted on another node, its notification not yet received
+        assertTrue(filter.mightContainId(101L));
+    }
+
+    @Test
+    void addsChangedProductsAndKeepsDeletedOnesUntilRebuilt() {
+        List<Product> catalog = new ArrayList<>(List.of(product(1L, "bolo")));
+        when(source.findAll()).thenAnswer(invocation -> List.copyOf(catalog));
+        filter.rebuild();
+
+        when(source.findById(1L)).thenReturn(Optional.of(product(1L, "bolo-de-cenoura")));
+        filter.onProductChanged(new ProductChangedEvent(1L, ProductChangeType.UPDATE, OffsetDateTime.now()));
+        assertTrue(filter.mightContainSlug("bolo-de-cenoura"));
+
+        catalog.clear();
+        filter.onProductChanged(new ProductChangedEvent(1L, ProductChangeType.DELETE, OffsetDateTime.now()));
+        // Deletions are not read back
+        verify(source, times(1)).findById(1L);
+        assertTrue(filter.mightContainSlug("bolo"));
+
+        filter.rebuild();
+        assertFalse(filter.mightContainSlug("bolo"));
+        assertFalse(filter.mightContainSlug("bolo-de-cenoura"));
+    }
+
+    @Test
+    void keepsTheCurrentFilterWhenARebuildFails() {
+        when(source.findAll()).thenReturn(List.of(product(1L, "bolo")));
+        filter.rebuild();
+        when(source.findAll()).thenThrow(new IllegalStateException("database down"));
+        filter.rebuild();
+
+        assertTrue(filter.mightContainSlug("bolo"));
+        assertFalse(filter.mightContainSlug("pudim"));
+        verify(source, never()).findById(any());
+    }
+
+    private static Product product(Long id, String slug) {
+        OffsetDateTime now = OffsetDateTime.now();
+        return new Product(id, slug, null, BigDecimal.ONE, null, null, null, slug, true, now, now);
+    }
+}
@@ -0,0 +1,63 @@
+package com.vzdolci.backend.application.index;
+
+import com.vzdolci.backend.domain.event.ProductChangeType;
+import com.vzdolci.backend.domain.event.ProductChangedEvent;
+import com.vzdolci.backend.domain.model.Product;
+import com.vzdolci.backend.domain.repository.ProductRepository;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ProductSlugIndexTest {
+
+    private final ProductRepository productRepository = mock(ProductRepository.class);
+    private final ProductSlugIndex index = new ProductSlugIndex(productRepository);
+
+    @Test
+    void answersFromTheIndexAndFollowsRenames() {
+        when(productRepository.findAll()).thenReturn(List.of(product(1L, "bolo")));
+        assertEquals(1L, index.findBySlug("bolo").orElseThrow().getId());
+
+        when(productRepository.findById(1L)).thenReturn(Optional.of(product(1L, "bolo-de-cenoura")));
+        index.onProductChanged(new ProductChangedEvent(1L, ProductChangeType.UPDATE, OffsetDateTime.now()));
+
+        assertEquals(1L, index.findBySlug("bolo-de-cenoura").orElseThrow().getId());
+        verify(productRepository, never()).findBySlug("bolo-de-cenoura");
+        assertTrue(index.findBySlug("bolo").isEmpty());
+    }
+
+    @Test
+    void replaysChangesMadeWhileARebuildReadsTheCatalog() {
+        when(productRepository.findAll()).thenReturn(List.of(product(1L, "bolo"), product(2L, "brigadeiro")));
+        index.rebuild();
+
+        when(productRepository.findById(1L)).thenReturn(Optional.of(product(1L, "bolo-de-cenoura")));
+        when(productRepository.findAll()).thenAnswer(invocation -> {
+            // Both changes land after the catalog was read, so the rows returned below are stale
+            index.onProductChanged(new ProductChangedEvent(1L, ProductChangeType.UPDATE, OffsetDateTime.now()));
+            index.onProductChanged(new ProductChangedEvent(2L, ProductChangeType.DELETE, OffsetDateTime.now()));
+            return List.of(product(1L, "bolo"), product(2L, "brigadeiro"));
+        });
+        index.onProductChanged(ProductChangedEvent.resync());
+
+        assertEquals(1L, index.findBySlug("bolo-de-cenoura").orElseThrow().getId());
+        verify(productRepository, never()).findBySlug("bolo-de-cenoura");
+        assertTrue(index.findBySlug("bolo").isEmpty());
+        assertTrue(index.findBySlug("brigadeiro").isEmpty());
+    }
+
+    private static Product product(Long id, String slug) {
+        OffsetDateTime now = OffsetDateTime.now();
+        return new Product(id, slug, null, BigDecimal.ONE, null, null, null, slug, true, now, now);
+    }
+}
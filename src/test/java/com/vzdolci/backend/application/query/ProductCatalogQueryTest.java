@@ -0,0 +1,144 @@
+package com.vzdolci.backend.application.query;
+
+import com.vzdolci.backend.domain.event.ProductChangeType;
+import com.vzdolci.backend.domain.event.ProductChangedEvent;
+import com.vzdolci.backend.domain.model.Product;
+import com.vzdolci.backend.domain.model.ProductSortField;
+import com.vzdolci.backend.domain.repository.ProductRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ProductCatalogQueryTest {
+
+    private final ProductRepository productRepository = mock(ProductRepository.class);
+    private final ProductCatalogQuery catalogQuery = new ProductCatalogQuery(productRepository,
+            Duration.ofMillis(200));
+
+    @BeforeEach
+    void setUp() {
+        when(productRepository.findAll()).thenReturn(List.of(
+                product(3L, "Pão de Mel", "8.50", true),
+                product(1L, "Bolo de Chocolate", "45.00", true),
+                product(2L, "Brigadeiro", "3.00", false),
+                product(4L, "Árvore de Natal de Chocolate", "12.00", true)
+        ));
+    }
+
+    @AfterEach
+    void tearDown() {
+        catalogQuery.shutdown();
+    }
+
+    @Test
+    void filtersByPriceRangeAndActiveFlag() {
+        CatalogQueryResult result = catalogQuery.query(query(500, 5000, Boolean.TRUE, ProductSortField.ID, false));
+
+        assertEquals(List.of(1L, 3L, 4L), ids(result));
+        assertEquals(3, result.getTotal());
+    }
+
+    @Test
+    void sortsWithPrecomputedPermutations() {
+        assertEquals(List.of(4L, 1L, 2L, 3L), ids(catalogQuery.query(query(ProductSortField.NAME, false))));
+        assertEquals(List.of(1L, 4L, 3L, 2L), ids(catalogQuery.query(query(ProductSortField.PRICE_CENTS, true))));
+    }
+
+    @Test
+    void countsEachFacetWithoutItsOwnFilter() {
+        CatalogQueryResult result = catalogQuery.query(query(0, 1000, Boolean.TRUE, ProductSortField.ID, false));
+
+        assertEquals(List.of(3L), ids(result));
+        // Price buckets of 10.00 over the active products, ignoring the price range
+        assertArrayEquals(new int[] {1, 1, 0, 0, 1}, result.getPriceBucketCounts());
+        // Active flag counts over the price range, ignoring the active filter
+        assertEquals(1, result.getActiveCount());
+        assertEquals(1, result.getInactiveCount());
+    }
+
+    @Test
+    void appliesOffsetAndLimitAfterSorting() {
+        CatalogQuery page = new CatalogQuery(0, Integer.MAX_VALUE, null, ProductSortField.PRICE_CENTS, false,
+                1, 2, 1000);
+
+        CatalogQueryResult result = catalogQuery.query(page);
+
+        assertEquals(List.of(3L, 4L), ids(result));
+        assertEquals(4, result.getTotal());
+    }
+
+    @Test
+    void countsOutlierPricesInAnOpenEndedLastBucket() {
+        when(productRepository.findAll()).thenReturn(List.of(
+                product(1L, "Bolo de Chocolate", "45.00", true),
+                product(2L, "Bolo de Casamento", "15000.00", true)
+        ));
+
+        CatalogQueryResult result = catalogQuery.query(query(ProductSortField.ID, false));
+
+        assertEquals(List.of(1L, 2L), ids(result));
+        int[] buckets = result.getPriceBucketCounts();
+        assertEquals(ProductCatalogQuery.MAX_PRICE_BUCKETS, buckets.length);
+        assertEquals(1, buckets[4]);
+        assertEquals(1, buckets[ProductCatalogQuery.MAX_PRICE_BUCKETS - 1]);
+        assertTrue(result.isLastPriceBucketOpen());
+    }
+
+    @Test
+    void closesTheLastBucketWhenThePricesFit() {
+        assertFalse(catalogQuery.query(query(ProductSortField.ID, false)).isLastPriceBucketOpen());
+    }
+
+    @Test
+    void rebuildsTheSnapshotOnceAfterABurstOfChanges() throws InterruptedException {
+        assertEquals(4, catalogQuery.query(query(ProductSortField.ID, false)).getTotal());
+
+        when(productRepository.findAll()).thenReturn(List.of(product(1L, "Bolo de Chocolate", "45.00", true)));
+        for (long id = 2; id <= 4; id++) {
+            catalogQuery.onProductChanged(new ProductChangedEvent(id, ProductChangeType.DELETE, OffsetDateTime.now()));
+        }
+        // The publishing thread does not rebuild; queries keep the previous snapshot until the delay has passed
+        assertEquals(4, catalogQuery.query(query(ProductSortField.ID, false)).getTotal());
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (catalogQuery.query(query(ProductSortField.ID, false)).getTotal() != 1
+                && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(List.of(1L), ids(catalogQuery.query(query(ProductSortField.ID, false))));
+        verify(productRepository, times(2)).findAll();
+    }
+
+    private static CatalogQuery query(ProductSortField sortField, boolean descending) {
+        return query(0, Integer.MAX_VALUE, null, sortField, descending);
+    }
+
+    private static CatalogQuery query(int minPriceCents, int maxPriceCents, Boolean active,
+                                      ProductSortField sortField, boolean descending) {
+        return new CatalogQuery(minPriceCents, maxPriceCents, active, sortField, descending, 0, 10, 1000);
+    }
+
+    private static List<Long> ids(CatalogQueryResult result) {
+        return result.getItems().stream().map(Product::getId).toList();
+    }
+
+    private static Product product(Long id, String name, String price, boolean active) {
+        OffsetDateTime now = OffsetDateTime.now();
+        return new Product(id, name, null, new BigDecimal(price), null, null, null, null, active, now, now);
+    }
+}
@@ -0,0 +1,57 @@
+package com.vzdolci.backend.application.resilience;
+
+import com.vzdolci.backend.application.exception.ServiceUnavailableException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BulkheadTest {
+
+    private final Bulkhead bulkhead = new Bulkhead("test", 1, Duration.ofMillis(20), Duration.ofSeconds(2));
+
+    @Test
+    void shedsCallsWhenAllPermitsAreTaken() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread holder = new Thread(() -> bulkhead.run(() -> {
+            started.countDown();
+            awaitQuietly(release);
+        }));
+        holder.start();
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        ServiceUnavailableException ex = assertThrows(ServiceUnavailableException.class,
+                () -> bulkhead.call(() -> "value"));
+        assertEquals(Duration.ofSeconds(2), ex.getRetryAfter());
+        assertEquals(1, bulkhead.getRejectedCalls());
+        assertEquals(1, bulkhead.getActiveCalls());
+
+        release.countDown();
+        holder.join();
+        assertEquals("value", bulkhead.call(() -> "value"));
+        assertEquals(0, bulkhead.getActiveCalls());
+    }
+
+    @Test
+    void nestedCallsReuseThePermitOfTheCallingThread() {
+        String result = bulkhead.call(() -> bulkhead.call(() -> "nested"));
+
+        assertEquals("nested", result);
+        assertEquals(0, bulkhead.getRejectedCalls());
+        assertEquals(0, bulkhead.getActiveCalls());
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.vzdolci.backend.application.search;
+
+import com.vzdolci.backend.domain.event.ProductChangeType;
+import com.vzdolci.backend.domain.event.ProductChangedEvent;
+import com.vzdolci.backend.domain.model.Product;
+import com.vzdolci.backend.domain.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ProductSearchIndexTest {
+
+    private final ProductRepository productRepository = mock(ProductRepository.class);
+    private final ProductSearchIndex index = new ProductSearchIndex(productRepository);
+
+    @BeforeEach
+    void setUp() {
+        when(productRepository.findActiveProducts()).thenReturn(List.of(
+                product(1L, "Bolo de Chocolate", "Massa fofinha com cobertura de chocolate", "Chocolate, farinha, ovos"),
+                product(2L, "Pão de Mel", "Recheado com doce de leite e coberto com chocolate", "Mel, chocolate"),
+                product(3L, "Panna Cotta de Baunilha", "Sobremesa italiana cremosa", "Creme de leite, açúcar, baunilha")
+        ));
+    }
+
+    @Test
+    void ranksNameMatchesAboveDescriptionMatches() {
+        assertEquals(List.of(1L, 2L), searchIds("chocolates", 10));
+        assertEquals(List.of(1L), searchIds("chocolate", 1));
+    }
+
+    @Test
+    void foldsAccentsAndCase() {
+        assertEquals(List.of(3L), searchIds("acucar", 10));
+        assertEquals(List.of(2L), searchIds("PÃES", 10));
+    }
+
+    @Test
+    void ignoresStopWordsAndUnknownTerms() {
+        assertTrue(index.search("de com", 10).isEmpty());
+        assertTrue(index.search("morango", 10).isEmpty());
+    }
+
+    @Test
+    void autocompletesLastWordAsPrefix() {
+        assertEquals(List.of(1L), autocompleteIds("bolo ch"));
+        assertEquals(List.of(2L, 3L), autocompleteIds("pa"));
+        assertEquals(List.of(3L), autocompleteIds("cotta bau"));
+    }
+
+    @Test
+    void reindexesChangedProductsIncrementally() {
+        index.rebuild();
+
+        when(productRepository.findById(3L)).thenReturn(Optional.of(
+                product(3L, "Panna Cotta de Morango", "Sobremesa italiana cremosa", "Creme de leite, morangos")));
+        index.onProductChanged(new ProductChangedEvent(3L, ProductChangeType.UPDATE, OffsetDateTime.now()));
+
+        assertEquals(List.of(3L), searchIds("morango", 10));
+        assertTrue(index.search("baunilha", 10).isEmpty());
+        assertEquals(List.of(3L), autocompleteIds("mor"));
+        assertTrue(autocompleteIds("bau").isEmpty());
+
+        index.onProductChanged(new ProductChangedEvent(1L, ProductChangeType.DELETE, OffsetDateTime.now()));
+
+        assertEquals(List.of(2L), searchIds("chocolate", 10));
+    }
+
+    @Test
+    void dropsProductsThatBecomeInactive() {
+        index.rebuild();
+
+        Product inactive = product(2L, "Pão de Mel", "Recheado com doce de leite", "Mel");
+        inactive.setIsActive(false);
+        when(productRepository.findById(2L)).thenReturn(Optional.of(inactive));
+        index.onProductChanged(new ProductChangedEvent(2L, ProductChangeType.UPDATE, OffsetDateTime.now()));
+
+        assertTrue(index.search("mel", 10).isEmpty());
+    }
+
+    @Test
+    void replaysChangesMadeWhileARebuildReadsTheCatalog() {
+        index.rebuild();
+
+        List<Product> stale = productRepository.findActiveProducts();
+        when(productRepository.findById(3L)).thenReturn(Optional.of(
+                product(3L, "Panna Cotta de Morango", "Sobremesa italiana cremosa", "Creme de leite, morangos")));
+        when(productRepository.findActiveProducts()).thenAnswer(invocation -> {
+            // Both changes land after the catalog was read, so the rows returned below are stale
+            index.onProductChanged(new ProductChangedEvent(3L, ProductChangeType.UPDATE, OffsetDateTime.now()));
+            index.onProductChanged(new ProductChangedEvent(1L, ProductChangeType.DELETE, OffsetDateTime.now()));
+            return stale;
+        });
+        index.onProductChanged(ProductChangedEvent.resync());
+
+        assertEquals(List.of(3L), searchIds("morango", 10));
+        assertTrue(index.search("baunilha", 10).isEmpty());
+        assertEquals(List.of(2L), searchIds("chocolate", 10));
+    }
+
+    private List<Long> searchIds(String query, int limit) {
+        return index.search(query, limit).stream()
+                .map(hit -> hit.getProduct().getId())
+                .toList();
+    }
+
+    private List<Long> autocompleteIds(String input) {
+        return index.autocomplete(input, 10).stream()
+                .map(Product::getId)
+                .toList();
+    }
+
+    private static Product product(Long id, String name, String description, String ingredients) {
+        return new Product(id, name, description, new BigDecimal("25.00"), ingredients, null, null,
+                null, true, OffsetDateTime.now(), OffsetDateTime.now());
+    }
+}
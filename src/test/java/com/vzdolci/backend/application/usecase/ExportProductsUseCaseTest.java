@@ -0,0 +1,34 @@
+package com.vzdolci.backend.application.usecase;
+
+import com.vzdolci.backend.application.exception.ServiceUnavailableException;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ExportProductsUseCaseTest {
+
+    @Test
+    void rejectsExportsBeyondTheLimitUntilASlotIsReleased() throws IOException {
+        ExportProductsUseCase useCase = new ExportProductsUseCase((activeOnly, out) -> {
+            throw new IOException("Broken pipe");
+        }, 2, Duration.ofSeconds(5));
+
+        ExportProductsUseCase.ExportSlot first = useCase.reserve();
+        useCase.reserve();
+        ServiceUnavailableException ex = assertThrows(ServiceUnavailableException.class, useCase::reserve);
+        assertEquals(Duration.ofSeconds(5), ex.getRetryAfter());
+        assertEquals(1, useCase.getRejectedExports());
+
+        // A failed export still gives its slot back, and only once
+        assertThrows(IOException.class, () -> useCase.execute(first, false, new ByteArrayOutputStream()));
+        first.release();
+        assertEquals(1, useCase.getActiveExports());
+        useCase.reserve();
+        assertEquals(2, useCase.getActiveExports());
+    }
+}
@@ -0,0 +1,48 @@
+package com.vzdolci.backend.application.usecase;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vzdolci.backend.application.importing.ProductImportError;
+import com.vzdolci.backend.application.importing.ProductImportFormat;
+import com.vzdolci.backend.application.importing.ProductImportReport;
+import com.vzdolci.backend.domain.model.Product;
+import com.vzdolci.backend.domain.repository.ProductRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class ImportProductsUseCaseTest {
+
+    private final ProductRepository productRepository = mock(ProductRepository.class);
+    private final ImportProductsUseCase useCase = new ImportProductsUseCase(productRepository, new ObjectMapper(),
+            mock(ApplicationEventPublisher.class), 100, 10);
+
+    @Test
+    void rejectsPricesThatDoNotFitInPriceCents() {
+        String csv = "slug,name,price\n"
+                + "bolo,Bolo,21474836.47\n"
+                + "torta,Torta,21474836.48\n"
+                + "pudim,Pudim,99999999.99\n";
+
+        ProductImportReport report = useCase.execute(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), ProductImportFormat.CSV);
+
+        assertEquals(3, report.getTotalRows());
+        assertEquals(1, report.getImportedRows());
+        assertEquals(2, report.getFailedRows());
+        List<ProductImportError> errors = report.getErrors();
+        assertEquals(List.of(3L, 4L), errors.stream().map(ProductImportError::getLineNumber).toList());
+        assertTrue(errors.get(0).getMessage().startsWith("Price exceeds"));
+        verify(productRepository).upsertAllBySlug(argThat((List<Product> products) -> products.size() == 1
+                && new BigDecimal("21474836.47").equals(products.get(0).getPrice())));
+    }
+}
@@ -0,0 +1,68 @@
+package com.vzdolci.backend.infrastructure.monitoring;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ResponseSizeMetricsFilterTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final ResponseSizeMetricsFilter filter = new ResponseSizeMetricsFilter(registry);
+
+    @Test
+    void countsBytesWrittenToTheOutputStream() throws ServletException, IOException {
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/products"), new MockHttpServletResponse(),
+                (request, response) -> response.getOutputStream().write(new byte[] {'[', ']'}));
+
+        assertEquals(2, recordedBytes());
+    }
+
+    @Test
+    void countsEncodedBytesWrittenToTheWriter() throws ServletException, IOException {
+        MockHttpServletResponse servletResponse = new MockHttpServletResponse();
+        servletResponse.setCharacterEncoding(StandardCharsets.UTF_8.name());
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/error"), servletResponse, (request, response) -> {
+            response.getWriter().write("Pão 🍫");
+            response.getWriter().print('!');
+        });
+
+        // P, space and ! take 1 byte, ã 2 bytes, o 1 byte and the emoji 4 bytes
+        assertEquals(10, recordedBytes());
+        assertEquals("Pão 🍫!".getBytes(StandardCharsets.UTF_8).length, recordedBytes());
+    }
+
+    @Test
+    void recordsAsyncResponsesWhenTheyComplete() throws ServletException, IOException {
+        MockHttpServletRequest servletRequest = new MockHttpServletRequest("GET", "/api/v1/products");
+        servletRequest.setAsyncSupported(true);
+        AtomicReference<ServletResponse> asyncResponse = new AtomicReference<>();
+
+        filter.doFilter(servletRequest, new MockHttpServletResponse(), (request, response) -> {
+            request.startAsync();
+            asyncResponse.set(response);
+            response.getOutputStream().write('[');
+        });
+        assertTrue(registry.find("vzdolci.http.response.size").summaries().isEmpty());
+
+        // The rest of the body is written by another thread after the filter has returned
+        asyncResponse.get().getOutputStream().write(new byte[] {'{', '}', ']'});
+        servletRequest.getAsyncContext().complete();
+
+        assertEquals(4, recordedBytes());
+    }
+
+    private long recordedBytes() {
+        return (long) registry.get("vzdolci.http.response.size").summary().totalAmount();
+    }
+}
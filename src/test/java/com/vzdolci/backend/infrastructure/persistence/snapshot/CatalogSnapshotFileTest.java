@@ -0,0 +1,79 @@
+package com.vzdolci.backend.infrastructure.persistence.snapshot;
+
+import com.vzdolci.backend.domain.model.Product;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CatalogSnapshotFileTest {
+
+    private static final OffsetDateTime READ_AT = OffsetDateTime.of(2024, 5, 1, 12, 0, 0, 0, ZoneOffset.UTC);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void readsBackWhatWasWritten() throws IOException {
+        OffsetDateTime createdAt = OffsetDateTime.of(2024, 3, 10, 9, 30, 15, 123_456_000, ZoneOffset.ofHours(-3));
+        Product full = new Product(1L, "Pão de Mel", "Com cobertura de chocolate 🍫", new BigDecimal("8.50"),
+                "Mel, farinha", "Receita da avó", "🍯", "pao-de-mel", true, createdAt, createdAt.plusDays(1));
+        Product sparse = new Product(2L, "Brigadeiro", null, null, null, null, null, null, null, null, null);
+        CatalogSnapshotFile file = new CatalogSnapshotFile(directory.resolve("nested/catalog.snapshot"));
+
+        file.write(new CatalogSnapshot(List.of(full, sparse), READ_AT));
+        CatalogSnapshot snapshot = file.read();
+
+        assertEquals(READ_AT.toInstant(), snapshot.getReadAt().toInstant());
+        assertEquals(2, snapshot.getProducts().size());
+        Product product = snapshot.findBySlug("pao-de-mel").orElseThrow();
+        assertEquals("Com cobertura de chocolate 🍫", product.getDescription());
+        assertEquals(new BigDecimal("8.50"), product.getPrice());
+        assertEquals(createdAt, product.getCreatedAt());
+        assertEquals(createdAt.plusDays(1), product.getUpdatedAt());
+        assertEquals(List.of(product), snapshot.getActiveProducts());
+
+        Product empty = snapshot.findById(2L).orElseThrow();
+        assertNull(empty.getPrice());
+        assertNull(empty.getIsActive());
+        assertNull(empty.getUpdatedAt());
+        assertTrue(snapshot.hasSameVersion(new CatalogSnapshot(List.of(full, sparse), READ_AT)));
+    }
+
+    @Test
+    void rejectsACorruptedFile() throws IOException {
+        CatalogSnapshotFile file = new CatalogSnapshotFile(directory.resolve("catalog.snapshot"));
+        file.write(new CatalogSnapshot(List.of(new Product(1L, "Bolo", null, BigDecimal.TEN, null, null, null,
+                "bolo", true, READ_AT, READ_AT)), READ_AT));
+
+        byte[] bytes = Files.readAllBytes(file.getPath());
+        bytes[bytes.length - 5] ^= 0x01;
+        Files.write(file.getPath(), bytes);
+
+        IOException ex = assertThrows(IOException.class, file::read);
+        assertEquals("Snapshot checksum mismatch", ex.getMessage());
+    }
+
+    @Test
+    void rejectsATruncatedFile() throws IOException {
+        CatalogSnapshotFile file = new CatalogSnapshotFile(directory.resolve("catalog.snapshot"));
+        file.write(new CatalogSnapshot(List.of(), READ_AT));
+
+        byte[] bytes = Files.readAllBytes(file.getPath());
+        Files.write(file.getPath(), Arrays.copyOf(bytes, bytes.length - 1));
+
+        assertThrows(IOException.class, file::read);
+    }
+}
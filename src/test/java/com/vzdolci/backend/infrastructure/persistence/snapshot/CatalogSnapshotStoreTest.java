@@ -0,0 +1,64 @@
+package com.vzdolci.backend.infrastructure.persistence.snapshot;
+
+import com.vzdolci.backend.domain.event.ProductChangeType;
+import com.vzdolci.backend.domain.event.ProductChangedEvent;
+import com.vzdolci.backend.domain.model.Product;
+import com.vzdolci.backend.domain.repository.ProductRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CatalogSnapshotStoreTest {
+
+    @TempDir
+    Path directory;
+
+    private CatalogSnapshotStore store;
+
+    @AfterEach
+    void tearDown() {
+        store.shutdown();
+    }
+
+    @Test
+    void changeDuringReconciliationIsPickedUpByARefresh() throws Exception {
+        ProductRepository source = mock(ProductRepository.class);
+        Product before = product("Bolo", "40.00");
+        Product after = product("Bolo", "45.00");
+        store = new CatalogSnapshotStore(new CatalogSnapshotFile(directory.resolve("catalog.snapshot")), source,
+                mock(ApplicationEventPublisher.class), Duration.ofMillis(10), Duration.ofSeconds(10));
+        // The change commits while reconcile() is reading the catalog, after the row was read
+        when(source.findAll()).thenAnswer(invocation -> {
+            store.onProductChanged(new ProductChangedEvent(1L, ProductChangeType.UPDATE, OffsetDateTime.now()));
+            return List.of(before);
+        }).thenReturn(List.of(after));
+
+        store.start();
+
+        verify(source, timeout(5000).times(2)).findAll();
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!after.getPrice().equals(store.getSnapshot().findById(1L).orElseThrow().getPrice())
+                && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(new BigDecimal("45.00"), store.getSnapshot().findById(1L).orElseThrow().getPrice());
+    }
+
+    private static Product product(String name, String price) {
+        OffsetDateTime now = OffsetDateTime.now();
+        return new Product(1L, name, null, new BigDecimal(price), null, null, null, "bolo", true, now, now);
+    }
+}
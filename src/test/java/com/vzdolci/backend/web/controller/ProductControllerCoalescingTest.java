@@ -0,0 +1,152 @@
+package com.vzdolci.backend.web.controller;
+
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.vzdolci.backend.application.coalescing.SingleFlight;
+import com.vzdolci.backend.application.usecase.ExportProductsUseCase;
+import com.vzdolci.backend.application.usecase.GetAllProductsUseCase;
+import com.vzdolci.backend.application.usecase.GetCatalogVersionUseCase;
+import com.vzdolci.backend.application.usecase.GetProductByIdUseCase;
+import com.vzdolci.backend.application.usecase.GetProductBySlugUseCase;
+import com.vzdolci.backend.application.usecase.GetProductChangesUseCase;
+import com.vzdolci.backend.application.usecase.GetProductPageUseCase;
+import com.vzdolci.backend.application.usecase.GetProductsByIdsUseCase;
+import com.vzdolci.backend.application.usecase.QueryProductsUseCase;
+import com.vzdolci.backend.application.usecase.SearchProductsUseCase;
+import com.vzdolci.backend.domain.model.CatalogVersion;
+import com.vzdolci.backend.domain.model.Product;
+import com.vzdolci.backend.domain.repository.ProductRepository;
+import com.vzdolci.backend.infrastructure.config.HttpCacheProperties;
+import com.vzdolci.backend.web.http.HttpCachePolicies;
+import com.vzdolci.backend.web.snapshot.ResponseSnapshotCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Concurrent requests for the same cold resource go through the controller, validators included, with one
+ * repository load per step.
+ */
+class ProductControllerCoalescingTest {
+
+    private static final int CALLERS = 8;
+
+    private final ProductRepository productRepository = mock(ProductRepository.class);
+    private final SingleFlight<Long, Optional<Product>> productByIdFlight = new SingleFlight<>("product-by-id");
+    private final SingleFlight<Boolean, List<Product>> productListFlight = new SingleFlight<>("product-list");
+    private final SingleFlight<Boolean, CatalogVersion> catalogVersionFlight = new SingleFlight<>("catalog-version");
+    private final SingleFlight<Long, Optional<OffsetDateTime>> productVersionFlight =
+            new SingleFlight<>("product-version");
+    private final ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+
+    private final ProductController controller = new ProductController(
+            new GetAllProductsUseCase(productRepository, productListFlight),
+            new GetProductByIdUseCase(productRepository, productByIdFlight),
+            mock(GetProductPageUseCase.class),
+            mock(GetProductBySlugUseCase.class),
+            mock(GetProductsByIdsUseCase.class),
+            new GetCatalogVersionUseCase(productRepository, catalogVersionFlight, productVersionFlight),
+            mock(SearchProductsUseCase.class),
+            mock(QueryProductsUseCase.class),
+            mock(GetProductChangesUseCase.class),
+            mock(ExportProductsUseCase.class),
+            new HttpCachePolicies(new HttpCacheProperties()),
+            new ResponseSnapshotCache(JsonMapper.builder()
+                    .findAndAddModules()
+                    .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                    .build(), new SimpleMeterRegistry()));
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void productRequestsShareTheValidatorAndProductLoads() throws Exception {
+        Product product = product(1L);
+        when(productRepository.findUpdatedAtById(1L)).thenAnswer(invocation -> {
+            awaitCoalesced(productVersionFlight);
+            return Optional.of(product.getUpdatedAt());
+        });
+        when(productRepository.findById(1L)).thenAnswer(invocation -> {
+            awaitCoalesced(productByIdFlight);
+            return Optional.of(product);
+        });
+
+        List<ResponseEntity<?>> responses = runConcurrently(
+                () -> controller.getProductById(1L, request("/api/v1/products/1")));
+
+        responses.forEach(response -> assertEquals(HttpStatus.OK, response.getStatusCode()));
+        verify(productRepository, times(1)).findUpdatedAtById(1L);
+        verify(productRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    void listingRequestsShareTheCatalogVersionLoad() throws Exception {
+        Product product = product(1L);
+        when(productRepository.getCatalogVersion(false)).thenAnswer(invocation -> {
+            awaitCoalesced(catalogVersionFlight);
+            return new CatalogVersion(1, product.getUpdatedAt());
+        });
+        when(productRepository.findAll()).thenReturn(List.of(product));
+
+        List<ResponseEntity<?>> responses = runConcurrently(
+                () -> controller.getAllProducts(false, request("/api/v1/products")));
+
+        responses.forEach(response -> assertEquals(HttpStatus.OK, response.getStatusCode()));
+        verify(productRepository, times(1)).getCatalogVersion(false);
+    }
+
+    private List<ResponseEntity<?>> runConcurrently(Callable<ResponseEntity<?>> call) throws Exception {
+        List<Future<ResponseEntity<?>>> futures = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            futures.add(executor.submit(call));
+        }
+        List<ResponseEntity<?>> responses = new ArrayList<>();
+        for (Future<ResponseEntity<?>> future : futures) {
+            responses.add(future.get(5, TimeUnit.SECONDS));
+        }
+        return responses;
+    }
+
+    /**
+     * Holds the load in flight until every other caller has joined it.
+     */
+    private static void awaitCoalesced(SingleFlight<?, ?> flight) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (flight.getCoalescedCalls() < CALLERS - 1 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    private static ServletWebRequest request(String uri) {
+        return new ServletWebRequest(new MockHttpServletRequest("GET", uri));
+    }
+
+    private static Product product(Long id) {
+        OffsetDateTime now = OffsetDateTime.now();
+        return new Product(id, "Bolo de Chocolate", null, new BigDecimal("45.00"), null, null, null,
+                "bolo-de-chocolate", true, now, now);
+    }
+}
@@ -0,0 +1,240 @@
+package com.vzdolci.backend.web.controller;
+
+import com.vzdolci.backend.infrastructure.persistence.repository.ProductJpaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * SQL budget of every ProductController read endpoint, and the plans of the key catalog queries, against a
+ * PostgreSQL container with the real migrations and a generated catalog.
+ * Budgets are checked on the second identical request, once the in-memory indexes are built; the catalog
+ * cache, the existence filter and the local snapshot are disabled so that every read the endpoint needs is
+ * visible. Skipped when Docker is not available.
+ */
+@SpringBootTest(properties = {
+    "vzdolci.cache.enabled=false",
+    "vzdolci.existence-filter.enabled=false",
+    "vzdolci.snapshot.enabled=false",
+    "vzdolci.stream.enabled=false",
+    "vzdolci.warmup.enabled=false"
+})
+@AutoConfigureMockMvc
+@Testcontainers(disabledWithoutDocker = true)
+class ProductControllerSqlBudgetTest {
+
+    private static final int PRODUCTS = 20_000;
+
+    /**
+     * One in a hundred generated products is active, so that the is_active index is the right plan.
+     */
+    private static final String SEED_SQL = """
+            INSERT INTO public.products (name, description, price_cents, emoji, slug, is_active)
+            SELECT 'Produto ' || g, 'Sobremesa de teste ' || g, 500 + (g * 37) % 9500, chr(127856),
+                   'produto-orcamento-' || g, g % 100 = 0
+            FROM generate_series(1, ?) AS g
+            """;
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    private static final SqlStatementCounter COUNTER = new SqlStatementCounter();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ProductJpaRepository jpaRepository;
+
+    private static boolean seeded;
+    private static long productId;
+    private static OffsetDateTime seededAt;
+
+    @TestConfiguration
+    static class CountingDataSourceConfig {
+
+        @Bean
+        static BeanPostProcessor countingDataSourcePostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource && beanName.equals("dataSource")
+                        ? COUNTER.wrap(dataSource)
+                        : bean;
+                }
+            };
+        }
+    }
+
+    @BeforeEach
+    void seedOnce() {
+        if (seeded) {
+            return;
+        }
+        seeded = true;
+        jdbcTemplate.update(SEED_SQL, PRODUCTS);
+        jdbcTemplate.execute("ANALYZE public.products");
+        productId = jdbcTemplate.queryForObject("SELECT max(id) FROM public.products WHERE is_active", Long.class);
+        seededAt = OffsetDateTime.now(ZoneOffset.UTC);
+    }
+
+    static Stream<Budget> budgets() {
+        return Stream.of(
+            new Budget("list", () -> get("/api/v1/products"), 1, 1),
+            new Budget("list active", () -> get("/api/v1/products").param("activeOnly", "true"), 1, 1),
+            new Budget("list summaries", () -> get("/api/v1/products").param("view", "summary"), 1, 1),
+            new Budget("page", () -> get("/api/v1/products").param("limit", "20"), 1, 21),
+            new Budget("page by price", () -> get("/api/v1/products").param("limit", "20")
+                    .param("sort", "price_cents"), 1, 21),
+            new Budget("by ids", () -> get("/api/v1/products").param("ids", "1,2,3"), 1, 3),
+            new Budget("batch", () -> post("/api/v1/products/batch").contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"ids\":[1,2,3]}"), 1, 3),
+            new Budget("by id", () -> get("/api/v1/products/{id}", productId), 2, 2),
+            new Budget("summary by id", () -> get("/api/v1/products/{id}", productId)
+                    .param("view", "summary"), 2, 2),
+            new Budget("by slug", () -> get("/api/v1/products/slug/{slug}", "panna-cotta-classica"), 1, 1),
+            new Budget("search", () -> get("/api/v1/products/search").param("q", "produto"), 0, 0),
+            new Budget("autocomplete", () -> get("/api/v1/products/autocomplete").param("q", "prod"), 0, 0),
+            new Budget("query", () -> get("/api/v1/products/query").param("active", "true")
+                    .param("sort", "price_cents"), 0, 0),
+            new Budget("changes", () -> get("/api/v1/products/changes")
+                    .param("since", seededAt.format(DateTimeFormatter.ISO_OFFSET_DATE_TIME)), 3, 1)
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("budgets")
+    void endpointStaysWithinItsSqlBudget(Budget budget) throws Exception {
+        mockMvc.perform(budget.request()).andExpect(status().isOk());
+
+        List<SqlStatementCounter.ExecutedStatement> statements;
+        COUNTER.start();
+        try {
+            mockMvc.perform(budget.request()).andExpect(status().isOk());
+        } finally {
+            statements = COUNTER.stop();
+        }
+
+        int rows = statements.stream().mapToInt(SqlStatementCounter.ExecutedStatement::getRows).sum();
+        if (statements.size() > budget.maxStatements || rows > budget.maxRows) {
+            fail(budget + " used " + statements.size() + " statements and fetched " + rows + " rows:"
+                    + SqlStatementCounter.describe(statements));
+        }
+    }
+
+    @Test
+    void activeProductsAreReadThroughTheIsActiveIndex() {
+        String plan = explain(() -> jpaRepository.findByIsActiveTrue());
+
+        assertUsesIndex(plan, "idx_products_is_active");
+    }
+
+    @Test
+    void slugLookupIsReadThroughTheSlugIndex() {
+        String plan = explain(() -> jpaRepository.findBySlug("produto-orcamento-4242"));
+
+        // slug is also UNIQUE, and the constraint's own index serves the lookup just as well
+        assertUsesIndex(plan, "idx_products_slug", "products_slug_key");
+    }
+
+    @Test
+    void pagesAreReadThroughTheKeysetIndexes() throws Exception {
+        assertUsesIndex(explainRequest(get("/api/v1/products").param("limit", "20")), "products_pkey");
+        assertUsesIndex(explainRequest(get("/api/v1/products").param("limit", "20").param("sort", "price_cents")),
+                "idx_products_price_cents_id");
+        assertUsesIndex(explainRequest(get("/api/v1/products").param("limit", "20").param("activeOnly", "true")),
+                "idx_products_is_active", "products_pkey");
+    }
+
+    private String explain(Supplier<?> query) {
+        COUNTER.start();
+        List<SqlStatementCounter.ExecutedStatement> statements;
+        try {
+            query.get();
+        } finally {
+            statements = COUNTER.stop();
+        }
+        return explain(statements);
+    }
+
+    private String explainRequest(RequestBuilder request) throws Exception {
+        COUNTER.start();
+        List<SqlStatementCounter.ExecutedStatement> statements;
+        try {
+            mockMvc.perform(request).andExpect(status().isOk());
+        } finally {
+            statements = COUNTER.stop();
+        }
+        return explain(statements);
+    }
+
+    private String explain(List<SqlStatementCounter.ExecutedStatement> statements) {
+        assertFalse(statements.isEmpty(), "no statement was executed");
+        SqlStatementCounter.ExecutedStatement last = statements.get(statements.size() - 1);
+        return jdbcTemplate.execute((ConnectionCallback<String>) last::explain);
+    }
+
+    private static void assertUsesIndex(String plan, String... indexes) {
+        assertFalse(plan.contains("Seq Scan on products"), "sequential scan on products:\n" + plan);
+        assertTrue(Stream.of(indexes).anyMatch(index -> plan.contains(" " + index)),
+                "none of " + List.of(indexes) + " used:\n" + plan);
+    }
+
+    static final class Budget {
+        private final String name;
+        private final Supplier<RequestBuilder> request;
+        private final int maxStatements;
+        private final int maxRows;
+
+        Budget(String name, Supplier<RequestBuilder> request, int maxStatements, int maxRows) {
+            this.name = name;
+            this.request = request;
+            this.maxStatements = maxStatements;
+            this.maxRows = maxRows;
+        }
+
+        RequestBuilder request() {
+            return request.get();
+        }
+
+        @Override
+        public String toString() {
+            return name + " (budget " + maxStatements + " statements, " + maxRows + " rows)";
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.vzdolci.backend.web.controller;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+/**
+ * DataSource proxy that records the SQL statements executed and the rows fetched through it.
+ * Only statements run on the thread that called {@link #start()} are recorded, so background work (index
+ * rebuilds, listeners) does not count against the request being measured. Prepared statement parameters are
+ * kept, so a recorded statement can be run again under EXPLAIN.
+ */
+final class SqlStatementCounter {
+
+    private final List<ExecutedStatement> statements = new CopyOnWriteArrayList<>();
+    private volatile Thread recordingThread;
+
+    DataSource wrap(DataSource dataSource) {
+        return proxy(DataSource.class, dataSource, (target, method, args) -> {
+            Object result = invoke(target, method, args);
+            return result instanceof Connection connection ? wrapConnection(connection) : result;
+        });
+    }
+
+    void start() {
+        statements.clear();
+        recordingThread = Thread.currentThread();
+    }
+
+    List<ExecutedStatement> stop() {
+        recordingThread = null;
+        return List.copyOf(statements);
+    }
+
+    private Connection wrapConnection(Connection connection) {
+        return proxy(Connection.class, connection, (target, method, args) -> {
+            Object result = invoke(target, method, args);
+            if (result instanceof Statement statement && Statement.class.isAssignableFrom(method.getReturnType())) {
+                String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : null;
+                return wrapStatement(statement, method.getReturnType(), sql);
+            }
+            return result;
+        });
+    }
+
+    private Object wrapStatement(Statement statement, Class<?> type, String preparedSql) {
+        List<ParameterCall> parameters = new ArrayList<>();
+        return proxy(type, statement, (target, method, args) -> {
+            String name = method.getName();
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer) {
+                parameters.add(new ParameterCall(method, args.clone()));
+            } else if (name.equals("clearParameters")) {
+                parameters.clear();
+            }
+            Object result = invoke(target, method, args);
+            if (name.startsWith("execute") && Thread.currentThread() == recordingThread) {
+                String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : preparedSql;
+                ExecutedStatement executed = new ExecutedStatement(sql, List.copyOf(parameters));
+                statements.add(executed);
+                return result instanceof ResultSet resultSet ? wrapResultSet(resultSet, executed) : result;
+            }
+            if (result instanceof ResultSet resultSet && name.equals("getResultSet") && !statements.isEmpty()) {
+                return wrapResultSet(resultSet, statements.get(statements.size() - 1));
+            }
+            return result;
+        });
+    }
+
+    private ResultSet wrapResultSet(ResultSet resultSet, ExecutedStatement statement) {
+        return proxy(ResultSet.class, resultSet, (target, method, args) -> {
+            Object result = invoke(target, method, args);
+            if (method.getName().equals("next") && Boolean.TRUE.equals(result)) {
+                statement.rows++;
+            }
+            return result;
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, Object target, Handler handler) {
+        InvocationHandler invocationHandler = (proxy, method, args) -> switch (method.getName()) {
+            // Identity semantics, as Spring keys transaction resources by DataSource and compares connections
+            case "equals" -> method.getParameterCount() == 1 ? proxy == args[0] : handler.handle(target, method, args);
+            case "hashCode" -> method.getParameterCount() == 0
+                    ? System.identityHashCode(proxy) : handler.handle(target, method, args);
+            default -> handler.handle(target, method, args);
+        };
+        return (T) Proxy.newProxyInstance(SqlStatementCounter.class.getClassLoader(), new Class<?>[] {type},
+                invocationHandler);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException ex) {
+            throw ex.getCause();
+        }
+    }
+
+    @FunctionalInterface
+    private interface Handler {
+        Object handle(Object target, Method method, Object[] args) throws Throwable;
+    }
+
+    private static final class ParameterCall {
+        private final Method method;
+        private final Object[] args;
+
+        private ParameterCall(Method method, Object[] args) {
+            this.method = method;
+            this.args = args;
+        }
+    }
+
+    static final class ExecutedStatement {
+        private final String sql;
+        private final List<ParameterCall> parameters;
+        private volatile int rows;
+
+        private ExecutedStatement(String sql, List<ParameterCall> parameters) {
+            this.sql = sql;
+            this.parameters = parameters;
+        }
+
+        String getSql() {
+            return sql;
+        }
+
+        int getRows() {
+            return rows;
+        }
+
+        /**
+         * Runs the statement again under EXPLAIN, with the same parameters, and returns the text plan.
+         */
+        String explain(Connection connection) throws SQLException {
+            try (PreparedStatement explain = connection.prepareStatement("EXPLAIN " + sql)) {
+                for (ParameterCall parameter : parameters) {
+                    try {
+                        parameter.method.invoke(explain, parameter.args);
+                    } catch (ReflectiveOperationException ex) {
+                        throw new SQLException("Could not bind " + parameter.method.getName(), ex);
+                    }
+                }
+                List<String> lines = new ArrayList<>();
+                try (ResultSet plan = explain.executeQuery()) {
+                    while (plan.next()) {
+                        lines.add(plan.getString(1));
+                    }
+                }
+                return String.join("\n", lines);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return sql + " [" + rows + " rows]";
+        }
+    }
+
+    static String describe(List<ExecutedStatement> statements) {
+        return statements.stream().map(ExecutedStatement::toString).collect(Collectors.joining("\n  ", "\n  ", ""));
+    }
+}
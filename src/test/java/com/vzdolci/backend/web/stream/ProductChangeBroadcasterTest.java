@@ -0,0 +1,102 @@
+package com.vzdolci.backend.web.stream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vzdolci.backend.domain.event.ProductChangedEvent;
+import com.vzdolci.backend.domain.repository.ProductRepository;
+import com.vzdolci.backend.infrastructure.config.ProductStreamProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+class ProductChangeBroadcasterTest {
+
+    private final ArrayDeque<SseEmitter> emitters = new ArrayDeque<>();
+    private ProductChangeBroadcaster broadcaster;
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.shutdown();
+    }
+
+    @Test
+    void stalledSubscriberIsEvictedWithoutHoldingUpTheOthers() throws InterruptedException {
+        ProductStreamProperties properties = new ProductStreamProperties();
+        properties.setWriterThreads(1);
+        properties.setSendTimeout(Duration.ofMillis(200));
+        properties.setHeartbeatInterval(Duration.ofHours(1));
+        broadcaster = new ProductChangeBroadcaster(mock(ProductRepository.class), new ObjectMapper(), properties) {
+            @Override
+            SseEmitter newEmitter(long timeoutMillis) {
+                return emitters.poll();
+            }
+        };
+        StalledEmitter stalled = new StalledEmitter();
+        RecordingEmitter healthy = new RecordingEmitter();
+        emitters.add(stalled);
+        emitters.add(healthy);
+
+        // The only writer blocks on the first subscriber's opening event
+        broadcaster.subscribe(null);
+        assertTrue(stalled.sending.await(5, TimeUnit.SECONDS));
+        broadcaster.subscribe(null);
+        broadcaster.onProductChanged(ProductChangedEvent.resync());
+
+        assertTrue(healthy.resync.await(5, TimeUnit.SECONDS), "healthy subscriber was held up: " + healthy.sent);
+        assertEquals(1, broadcaster.getEvictedSubscribers());
+        assertEquals(1, broadcaster.getSubscriberCount());
+
+        // Once the blocked write returns, the evicted response is ended by its writer
+        stalled.release.countDown();
+        assertTrue(stalled.completed.await(5, TimeUnit.SECONDS));
+    }
+
+    /**
+     * A client that stopped reading: the first write never returns until released.
+     */
+    private static final class StalledEmitter extends SseEmitter {
+        private final CountDownLatch sending = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final CountDownLatch completed = new CountDownLatch(1);
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            sending.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public void complete() {
+            completed.countDown();
+        }
+    }
+
+    private static final class RecordingEmitter extends SseEmitter {
+        private final List<String> sent = new CopyOnWriteArrayList<>();
+        private final CountDownLatch resync = new CountDownLatch(1);
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            StringBuilder text = new StringBuilder();
+            builder.build().forEach(part -> text.append(part.getData()));
+            sent.add(text.toString());
+            if (text.indexOf("event:" + ProductChangeBroadcaster.RESYNC_EVENT) >= 0) {
+                resync.countDown();
+            }
+        }
+    }
+}